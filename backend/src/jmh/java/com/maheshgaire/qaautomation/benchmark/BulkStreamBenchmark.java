@@ -0,0 +1,92 @@
+package com.maheshgaire.qaautomation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.generation.plan.RecordPlanRegistry;
+import com.maheshgaire.qaautomation.service.TestDataService;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records/sec of streaming one million v1 records as NDJSON, the {@code /generate/{type}/bulk}
+ * workload. The buffers are released as they arrive, so only generation and encoding are
+ * measured. One operation is one record; each benchmark returns the bytes streamed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkStreamBenchmark {
+
+    private static final int RECORDS = 1_000_000;
+    private static final long SEED = 42L;
+
+    @Param({"user", "order"})
+    private String type;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final TestDataService service = new TestDataService(new RecordPlanRegistry(), objectMapper,
+            IdGenerators.uuidV7());
+    private final NdjsonBatchEncoder encoder = new NdjsonBatchEncoder(objectMapper);
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    /**
+     * One DataBuffer per record, as WebFlux's JSON encoder writes a streamed Flux
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long recordPerBuffer() {
+        return drain(encoder.encode(service.streamTestData(type, 0, RECORDS, SEED), bufferFactory, 1));
+    }
+
+    /**
+     * Records serialized by the ObjectMapper and packed into batches of the default size
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long batchedRecords() {
+        return drain(encoder.encode(service.streamTestData(type, 0, RECORDS, SEED), bufferFactory,
+                NdjsonBatchEncoder.DEFAULT_BATCH_SIZE));
+    }
+
+    /**
+     * The bulk endpoint: batches written straight from the compiled plan's slots
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long bulkEndpoint() {
+        return drain(service.streamTestData(type, RECORDS, SEED, NdjsonBatchEncoder.DEFAULT_BATCH_SIZE,
+                bufferFactory));
+    }
+
+    private static long drain(Flux<DataBuffer> buffers) {
+        return buffers.map(buffer -> {
+            int bytes = buffer.readableByteCount();
+            DataBufferUtils.release(buffer);
+            return (long) bytes;
+        }).reduce(0L, Long::sum).block();
+    }
+}
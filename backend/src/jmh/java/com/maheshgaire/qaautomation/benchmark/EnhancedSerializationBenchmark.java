@@ -0,0 +1,102 @@
+package com.maheshgaire.qaautomation.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.DictionarySnapshot;
+import com.maheshgaire.qaautomation.generation.ParallelGenerator;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.serialization.EnhancedModelModule;
+import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records/sec of serializing generated enhanced records as JSON with Jackson's default bean
+ * serializers and with {@link EnhancedModelModule}. The records are generated once up front, so
+ * only serialization is measured. One operation is one top-level record (a user with its
+ * orders, or an order with its items).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EnhancedSerializationBenchmark {
+
+    private static final int RECORDS = 1_000;
+
+    @Param({"users-with-orders", "orders"})
+    private String dataset;
+
+    private List<?> records;
+    private JsonGenerator beanGenerator;
+    private JsonGenerator moduleGenerator;
+
+    private final ObjectMapper beanMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper moduleMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new EnhancedModelModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        EnhancedTestDataService service = new EnhancedTestDataService(IdGenerators.uuidV7(),
+                new ParallelGenerator(1), new DictionarySnapshot());
+        records = "orders".equals(dataset)
+                ? service.generateEnhancedOrders(RECORDS, true, 7L)
+                : service.generateUsersWithOrders(RECORDS, 1, 5, 7L);
+        beanGenerator = beanMapper.createGenerator(OutputStream.nullOutputStream());
+        moduleGenerator = moduleMapper.createGenerator(OutputStream.nullOutputStream());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        beanGenerator.close();
+        moduleGenerator.close();
+    }
+
+    /**
+     * Jackson's reflective bean serializers, the path before the module
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void beanSerializers() throws IOException {
+        for (Object record : records) {
+            beanMapper.writeValue(beanGenerator, record);
+        }
+    }
+
+    /**
+     * The hand-written serializers the application's ObjectMapper registers
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void enhancedModelModule() throws IOException {
+        for (Object record : records) {
+            moduleMapper.writeValue(moduleGenerator, record);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.maheshgaire.qaautomation.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.SplitMix64;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.generation.plan.RecordPlan;
+import com.maheshgaire.qaautomation.generation.plan.RecordPlanRegistry;
+import com.maheshgaire.qaautomation.generation.plan.RecordSlots;
+import com.maheshgaire.qaautomation.generation.plan.RecordValues;
+import com.maheshgaire.qaautomation.model.TestData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records/sec of the v1 template endpoints' per-record path, generating each record and
+ * serializing it as JSON: the original HashMap filled by a switch on the type, the compiled
+ * plan copied into a map, and the compiled plan serialized from its slots. One operation is
+ * one record, so {@code -prof gc} reports {@code gc.alloc.rate.norm} in bytes per record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TemplateGenerationBenchmark {
+
+    private static final int RECORDS = 10_000;
+
+    @Param({"user", "order"})
+    private String type;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final IdGenerator idGenerator = IdGenerators.uuidV7();
+    private final SplitMix64 random = new SplitMix64();
+    private final LegacyGenerator legacy = new LegacyGenerator();
+
+    private RecordPlan plan;
+    private RecordSlots sharedSlots;
+    private RandomStreams streams;
+    private JsonGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        plan = new RecordPlanRegistry().plan(type);
+        sharedSlots = plan.newSlots();
+        streams = RandomStreams.of(42L);
+        generator = objectMapper.createGenerator(OutputStream.nullOutputStream());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        generator.close();
+    }
+
+    /**
+     * The original path: a HashMap per record filled by a switch on the type
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void hashMapSwitch() throws IOException {
+        for (int i = 0; i < RECORDS; i++) {
+            objectMapper.writeValue(generator, legacy.create(type));
+        }
+    }
+
+    /**
+     * The compiled plan filled into shared slots and copied into a LinkedHashMap per record
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void planToMap() throws IOException {
+        for (int i = 0; i < RECORDS; i++) {
+            String id = fill(i, sharedSlots);
+            objectMapper.writeValue(generator, new TestData(id, type, plan.toMap(sharedSlots)));
+        }
+    }
+
+    /**
+     * The current path: each record keeps slots of its own and is serialized from them
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void planSlots() throws IOException {
+        for (int i = 0; i < RECORDS; i++) {
+            RecordSlots slots = plan.newSlots();
+            String id = fill(i, slots);
+            objectMapper.writeValue(generator, new TestData(id, type, new RecordValues(plan, slots)));
+        }
+    }
+
+    private String fill(long record, RecordSlots slots) {
+        random.reseed(streams.recordSeed(record));
+        plan.fill(random, slots);
+        return idGenerator.next("", streams, record, 0);
+    }
+
+    /**
+     * The user and order branches of the generator the template registry replaced
+     */
+    private static final class LegacyGenerator {
+
+        private final Random random = new Random();
+        private final String[] firstNames = {"John", "Jane", "Mike", "Sarah", "David", "Emma", "Chris", "Lisa"};
+        private final String[] lastNames = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+                "Davis"};
+        private final String[] cities = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix", "Philadelphia",
+                "San Antonio", "San Diego"};
+
+        private TestData create(String type) {
+            String id = UUID.randomUUID().toString();
+            Map<String, Object> data = new HashMap<>();
+
+            switch (type.toLowerCase()) {
+                case "user":
+                    data.put("firstName", firstNames[random.nextInt(firstNames.length)]);
+                    data.put("lastName", lastNames[random.nextInt(lastNames.length)]);
+                    data.put("email", email());
+                    data.put("age", random.nextInt(60) + 18);
+                    data.put("city", cities[random.nextInt(cities.length)]);
+                    break;
+                case "order":
+                    data.put("orderId", "ORD-" + random.nextInt(100000));
+                    data.put("customerId", "CUST-" + random.nextInt(10000));
+                    data.put("total", Math.round((random.nextDouble() * 500 + 10) * 100.0) / 100.0);
+                    data.put("status", random.nextBoolean() ? "COMPLETED" : "PENDING");
+                    data.put("items", random.nextInt(5) + 1);
+                    break;
+                default:
+                    data.put("message", "Unknown type: " + type);
+            }
+
+            return new TestData(id, type, data);
+        }
+
+        private String email() {
+            String firstName = firstNames[random.nextInt(firstNames.length)].toLowerCase();
+            String lastName = lastNames[random.nextInt(lastNames.length)].toLowerCase();
+            String[] domains = {"gmail.com", "yahoo.com", "outlook.com", "company.com"};
+            return firstName + "." + lastName + "@" + domains[random.nextInt(domains.length)];
+        }
+    }
+}
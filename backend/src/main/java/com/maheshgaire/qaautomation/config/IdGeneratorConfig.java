@@ -0,0 +1,19 @@
+package com.maheshgaire.qaautomation.config;
+
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Value("${testdata.id.strategy:uuidv7}")
+    private String idStrategy;
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return IdGenerators.forStrategy(idStrategy);
+    }
+}
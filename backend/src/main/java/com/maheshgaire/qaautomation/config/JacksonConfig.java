@@ -0,0 +1,19 @@
+package com.maheshgaire.qaautomation.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.maheshgaire.qaautomation.serialization.EnhancedModelModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson modules picked up by the application ObjectMapper, and through it by
+ * the WebFlux codecs and the batch encoders
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module enhancedModelModule() {
+        return new EnhancedModelModule();
+    }
+}
@@ -0,0 +1,33 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.maheshgaire.qaautomation.model.seeding.SeedReport;
+import com.maheshgaire.qaautomation.model.seeding.SeedRequest;
+import com.maheshgaire.qaautomation.service.DatabaseSeedingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/testdata/seed")
+@CrossOrigin(origins = "*")
+@Tag(name = "Database Seeding", description = "Load generated entities straight into the configured test database")
+public class DatabaseSeedingController {
+
+    @Autowired
+    private DatabaseSeedingService databaseSeedingService;
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Seed the test database",
+               description = "Generate users, orders and order items and insert them with batched multi-row inserts "
+                       + "over parallel connections; responds with per-table batch commit metrics")
+    public Mono<SeedReport> seedDatabase(@RequestBody SeedRequest request) {
+        return Mono.defer(() -> databaseSeedingService.seed(request))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+}
@@ -1,20 +1,44 @@
 package com.maheshgaire.qaautomation.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.maheshgaire.qaautomation.export.ColumnarRecordEncoder;
+import com.maheshgaire.qaautomation.export.ExportFormat;
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
+import com.maheshgaire.qaautomation.model.enhanced.DatasetPage;
 import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
 import com.maheshgaire.qaautomation.model.enhanced.Order;
 import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import com.maheshgaire.qaautomation.streaming.BinaryFormat;
+import com.maheshgaire.qaautomation.streaming.BinaryRecordEncoder;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import com.maheshgaire.qaautomation.streaming.SnapshotCache;
+import com.maheshgaire.qaautomation.streaming.SqlFormat;
+import com.maheshgaire.qaautomation.streaming.SqlScriptEncoder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v2/testdata")
@@ -22,48 +46,199 @@ import java.util.Map;
 @Tag(name = "Enhanced Test Data Generation", description = "Advanced APIs for generating realistic test data with relationships")
 public class EnhancedTestDataController {
 
-    @Autowired
-    private EnhancedTestDataService enhancedTestDataService;
+    /** Largest page of a virtual dataset */
+    static final int MAX_PAGE_SIZE = 1000;
 
-    @GetMapping(value = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Generate enhanced users", 
-               description = "Generate realistic user data with complete profiles and optional order history")
-    public Flux<EnhancedUser> generateEnhancedUsers(
+    /** Size of a virtual dataset when the request does not give one */
+    static final String DEFAULT_VIRTUAL_TOTAL = "1000000000";
+
+    /** Media types the dataset endpoints negotiate without a format parameter */
+    private static final List<MediaType> NEGOTIABLE_TYPES = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_NDJSON, BinaryFormat.SMILE.getMediaType(), BinaryFormat.CBOR.getMediaType(),
+            BinaryFormat.PROTOBUF.getMediaType());
+
+    private static final String FORMATS = "streams a JSON array by default, NDJSON with Accept "
+            + "application/x-ndjson, or Smile, CBOR or protobuf with Accept application/x-jackson-smile, "
+            + "application/cbor or application/x-protobuf; format= picks any of these or columnar explicitly, "
+            + "and format=sql streams multi-row INSERT statements and format=copy a PostgreSQL COPY script";
+
+    private final EnhancedTestDataService enhancedTestDataService;
+    private final NdjsonBatchEncoder ndjsonBatchEncoder;
+    private final SnapshotCache snapshotCache;
+    private final SqlScriptEncoder sqlScriptEncoder;
+    private final BinaryRecordEncoder binaryRecordEncoder;
+    private final ColumnarRecordEncoder columnarRecordEncoder;
+
+    public EnhancedTestDataController(EnhancedTestDataService enhancedTestDataService,
+                                      NdjsonBatchEncoder ndjsonBatchEncoder, SnapshotCache snapshotCache,
+                                      SqlScriptEncoder sqlScriptEncoder, BinaryRecordEncoder binaryRecordEncoder,
+                                      ColumnarRecordEncoder columnarRecordEncoder) {
+        this.enhancedTestDataService = enhancedTestDataService;
+        this.ndjsonBatchEncoder = ndjsonBatchEncoder;
+        this.snapshotCache = snapshotCache;
+        this.sqlScriptEncoder = sqlScriptEncoder;
+        this.binaryRecordEncoder = binaryRecordEncoder;
+        this.columnarRecordEncoder = columnarRecordEncoder;
+    }
+
+    @GetMapping("/users")
+    @Operation(summary = "Generate enhanced users",
+               description = "Generate realistic user data with complete profiles and optional order history; "
+                       + FORMATS + " for the users (and orders, order_items) tables")
+    public Flux<DataBuffer> generateEnhancedUsers(
             @Parameter(description = "Number of users to generate")
             @RequestParam(defaultValue = "10") int count,
             @Parameter(description = "Include user order history")
-            @RequestParam(defaultValue = "false") boolean includeOrders) {
-        
-        List<EnhancedUser> users = enhancedTestDataService.generateEnhancedUsers(count, includeOrders);
-        return Flux.fromIterable(users);
+            @RequestParam(defaultValue = "false") boolean includeOrders,
+            @ParameterObject GenerationOptions options,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+
+        FieldProjection fields = options.fields(EnhancedTestDataService::checkUserFields);
+        FieldDistributions distributions = options.distributions();
+        UniqueFields unique = options.uniqueFields();
+        Shard shard = options.shard();
+        return formatted("users", "count=" + count + "&includeOrders=" + includeOrders, options, fields,
+                () -> enhancedTestDataService.streamEnhancedUsers(shard, count, includeOrders, options.getSeed(),
+                        distributions, unique, fields),
+                request, response);
     }
 
-    @GetMapping(value = "/users-with-orders", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Generate users with orders", 
-               description = "Generate users with realistic order relationships and transaction history")
-    public Flux<EnhancedUser> generateUsersWithOrders(
+    @GetMapping("/users-with-orders")
+    @Operation(summary = "Generate users with orders",
+               description = "Generate users with realistic order relationships and transaction history; "
+                       + FORMATS + " for the users, orders and order_items tables")
+    public Flux<DataBuffer> generateUsersWithOrders(
             @Parameter(description = "Number of users to generate")
             @RequestParam(defaultValue = "5") int userCount,
             @Parameter(description = "Minimum orders per user")
             @RequestParam(defaultValue = "1") int minOrders,
             @Parameter(description = "Maximum orders per user")
-            @RequestParam(defaultValue = "5") int maxOrders) {
-        
-        List<EnhancedUser> users = enhancedTestDataService.generateUsersWithOrders(userCount, minOrders, maxOrders);
-        return Flux.fromIterable(users);
+            @RequestParam(defaultValue = "5") int maxOrders,
+            @ParameterObject GenerationOptions options,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+
+        FieldProjection fields = options.fields(EnhancedTestDataService::checkUserFields);
+        FieldDistributions distributions = options.distributions();
+        UniqueFields unique = options.uniqueFields();
+        Shard shard = options.shard();
+        return formatted("users-with-orders", "userCount=" + userCount + "&minOrders=" + minOrders
+                        + "&maxOrders=" + maxOrders, options, fields,
+                () -> enhancedTestDataService.streamUsersWithOrders(shard, userCount, minOrders, maxOrders,
+                        options.getSeed(), distributions, unique, fields),
+                request, response);
     }
 
-    @GetMapping(value = "/orders", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Generate enhanced orders", 
-               description = "Generate realistic order data with items, pricing, and payment information")
-    public Flux<Order> generateEnhancedOrders(
+    @GetMapping("/orders")
+    @Operation(summary = "Generate enhanced orders",
+               description = "Generate realistic order data with items, pricing, and payment information; "
+                       + FORMATS + " for the orders (and order_items) tables")
+    public Flux<DataBuffer> generateEnhancedOrders(
             @Parameter(description = "Number of orders to generate")
             @RequestParam(defaultValue = "10") int count,
             @Parameter(description = "Include order items")
-            @RequestParam(defaultValue = "true") boolean includeItems) {
-        
-        List<Order> orders = enhancedTestDataService.generateEnhancedOrders(count, includeItems);
-        return Flux.fromIterable(orders);
+            @RequestParam(defaultValue = "true") boolean includeItems,
+            @ParameterObject GenerationOptions options,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+
+        FieldProjection fields = options.fields(EnhancedTestDataService::checkOrderFields);
+        FieldDistributions distributions = options.distributions();
+        UniqueFields unique = options.uniqueFields();
+        Shard shard = options.shard();
+        return formatted("orders", "count=" + count + "&includeItems=" + includeItems, options, fields,
+                () -> enhancedTestDataService.streamEnhancedOrders(shard, count, includeItems, options.getSeed(),
+                        distributions, unique, fields),
+                request, response);
+    }
+
+    @GetMapping(value = "/users/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Page through a virtual user dataset",
+               description = "Return users [offset, offset + limit) of a seeded dataset of total users; only the "
+                       + "page is generated, so any page of a billion-record dataset is served in constant time")
+    public Mono<DatasetPage<EnhancedUser>> getEnhancedUserPage(
+            @Parameter(description = "Seed identifying the dataset")
+            @RequestParam long seed,
+            @Parameter(description = "Position of the first user; pass nextOffset of the previous page")
+            @RequestParam(defaultValue = "0") long offset,
+            @Parameter(description = "Page size (at most " + MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Number of users in the virtual dataset")
+            @RequestParam(defaultValue = DEFAULT_VIRTUAL_TOTAL) long total,
+            @Parameter(description = "Include user order history")
+            @RequestParam(defaultValue = "false") boolean includeOrders,
+            @Parameter(description = "Key distributions per field, e.g. product_id:zipf:0.99")
+            @RequestParam(required = false) String dist) {
+
+        checkPage(offset, limit, total);
+        return enhancedTestDataService.enhancedUserPage(offset, limit, total, includeOrders, seed,
+                distributions(dist));
+    }
+
+    @GetMapping(value = "/users/{index}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Look up one user of a virtual dataset",
+               description = "Generate the user at a position of a seeded dataset without its predecessors")
+    public Mono<EnhancedUser> getEnhancedUser(
+            @Parameter(description = "Zero-based position of the user")
+            @PathVariable long index,
+            @Parameter(description = "Seed identifying the dataset")
+            @RequestParam long seed,
+            @Parameter(description = "Number of users in the virtual dataset")
+            @RequestParam(defaultValue = DEFAULT_VIRTUAL_TOTAL) long total,
+            @Parameter(description = "Include user order history")
+            @RequestParam(defaultValue = "false") boolean includeOrders,
+            @Parameter(description = "Key distributions per field, e.g. product_id:zipf:0.99")
+            @RequestParam(required = false) String dist) {
+
+        checkIndex(index, total);
+        FieldDistributions distributions = distributions(dist);
+        return Mono.fromSupplier(() -> enhancedTestDataService.enhancedUserAt(index, includeOrders, seed,
+                distributions));
+    }
+
+    @GetMapping(value = "/orders/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Page through a virtual order dataset",
+               description = "Return orders [offset, offset + limit) of a seeded dataset of total orders; only "
+                       + "the page is generated")
+    public Mono<DatasetPage<Order>> getEnhancedOrderPage(
+            @Parameter(description = "Seed identifying the dataset")
+            @RequestParam long seed,
+            @Parameter(description = "Position of the first order; pass nextOffset of the previous page")
+            @RequestParam(defaultValue = "0") long offset,
+            @Parameter(description = "Page size (at most " + MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Number of orders in the virtual dataset")
+            @RequestParam(defaultValue = DEFAULT_VIRTUAL_TOTAL) long total,
+            @Parameter(description = "Include order items")
+            @RequestParam(defaultValue = "true") boolean includeItems,
+            @Parameter(description = "Key distributions per field, e.g. user_id:zipf:1.1 (users of the same dataset)")
+            @RequestParam(required = false) String dist) {
+
+        checkPage(offset, limit, total);
+        return enhancedTestDataService.enhancedOrderPage(offset, limit, total, includeItems, seed,
+                distributions(dist));
+    }
+
+    @GetMapping(value = "/orders/{index}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Look up one order of a virtual dataset",
+               description = "Generate the order at a position of a seeded dataset without its predecessors")
+    public Mono<Order> getEnhancedOrder(
+            @Parameter(description = "Zero-based position of the order")
+            @PathVariable long index,
+            @Parameter(description = "Seed identifying the dataset")
+            @RequestParam long seed,
+            @Parameter(description = "Number of orders in the virtual dataset")
+            @RequestParam(defaultValue = DEFAULT_VIRTUAL_TOTAL) long total,
+            @Parameter(description = "Include order items")
+            @RequestParam(defaultValue = "true") boolean includeItems,
+            @Parameter(description = "Key distributions per field, e.g. user_id:zipf:1.1 (users of the same dataset)")
+            @RequestParam(required = false) String dist) {
+
+        checkIndex(index, total);
+        FieldDistributions distributions = distributions(dist);
+        return Mono.fromSupplier(() -> enhancedTestDataService.enhancedOrderAt(index, total, includeItems, seed,
+                distributions));
     }
 
     @GetMapping(value = "/data-scenarios", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -75,19 +250,40 @@ public class EnhancedTestDataController {
         scenarios.put("users", Map.of(
             "description", "Enhanced user profiles with addresses and company information",
             "endpoint", "/api/v2/testdata/users",
-            "parameters", List.of("count", "includeOrders")
+            "parameters", List.of("count", "includeOrders", "seed", "dist", "unique", "shardIndex", "shardCount",
+                    "fields")
         ));
         
         scenarios.put("users-with-orders", Map.of(
             "description", "Users with realistic order history and transaction data",
             "endpoint", "/api/v2/testdata/users-with-orders",
-            "parameters", List.of("userCount", "minOrders", "maxOrders")
+            "parameters", List.of("userCount", "minOrders", "maxOrders", "seed", "dist", "unique",
+                    "shardIndex", "shardCount", "fields")
         ));
         
         scenarios.put("orders", Map.of(
             "description", "Detailed orders with items, pricing, and payment information",
             "endpoint", "/api/v2/testdata/orders",
-            "parameters", List.of("count", "includeItems")
+            "parameters", List.of("count", "includeItems", "seed", "dist", "unique", "shardIndex", "shardCount",
+                    "fields")
+        ));
+        
+        scenarios.put("virtual", Map.of(
+            "description", "Random-access pages and records of a seeded dataset; nothing before them is generated",
+            "endpoint", "/api/v2/testdata/{users|orders}/page, /api/v2/testdata/{users|orders}/{index}",
+            "parameters", List.of("seed", "offset", "limit", "total", "includeOrders", "includeItems", "dist")
+        ));
+        
+        scenarios.put("formats", Map.of(
+            "application/json", "Streamed JSON array",
+            "application/x-ndjson", "Newline-delimited JSON, one record per line (optional batchSize)",
+            "format=sql", "Multi-row INSERT statements with CREATE TABLE IF NOT EXISTS (batchSize rows per statement)",
+            "format=copy", "PostgreSQL COPY ... FROM stdin script in text format, loadable with psql",
+            "application/x-jackson-smile", "Smile-encoded array (or format=smile)",
+            "application/cbor", "CBOR-encoded array (or format=cbor)",
+            "application/x-protobuf", "Length-delimited messages of /proto/testdata.proto (or format=protobuf)",
+            "format=columnar", "Column-oriented row groups of batchSize rows with dictionary-encoded low-cardinality "
+                    + "columns, the layout of columnar export files"
         ));
         
         scenarios.put("features", List.of(
@@ -98,7 +294,13 @@ public class EnhancedTestDataController {
             "Payment method variety with masked card numbers",
             "Product categories and SKU generation",
             "Address relationships (billing vs shipping)",
-            "User profile enrichment with company data"
+            "User profile enrichment with company data",
+            "Reproducible output for a given seed",
+            "Zipf, hotspot, Pareto or latest-biased keys per field via dist",
+            "Guaranteed-unique emails, SKUs and product IDs via unique",
+            "Disjoint shards of one seeded dataset via shardIndex and shardCount",
+            "Field projection via fields; unselected fields are never generated",
+            "Constant-time pages and single-record lookups of seeded virtual datasets"
         ));
         
         return Mono.just(scenarios);
@@ -107,16 +309,129 @@ public class EnhancedTestDataController {
     @GetMapping(value = "/sample-formats", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get sample data formats", 
                description = "Preview the structure of enhanced test data")
-    public Mono<Map<String, Object>> getSampleFormats() {
-        Map<String, Object> samples = new HashMap<>();
-        
-        // Generate single samples for preview
-        List<EnhancedUser> sampleUsers = enhancedTestDataService.generateEnhancedUsers(1, true);
-        List<Order> sampleOrders = enhancedTestDataService.generateEnhancedOrders(1, true);
-        
-        samples.put("user_with_orders", sampleUsers.get(0));
-        samples.put("order_with_items", sampleOrders.get(0));
-        
-        return Mono.just(samples);
+    public Mono<JsonNode> getSampleFormats() {
+        return Mono.fromSupplier(() -> snapshotCache.json("sample-formats", () -> {
+            Map<String, Object> samples = new HashMap<>();
+            
+            // Generate single samples for preview
+            long seed = EnhancedTestDataService.SAMPLE_SEED;
+            samples.put("user_with_orders", enhancedTestDataService.generateEnhancedUsers(1, true, seed).get(0));
+            samples.put("order_with_items", enhancedTestDataService.generateEnhancedOrders(1, true, seed).get(0));
+            return samples;
+        }));
+    }
+
+    // Format the client's Accept header prefers; JSON when it accepts anything
+    private static String negotiated(ServerHttpRequest request) {
+        List<MediaType> accept = new ArrayList<>(request.getHeaders().getAccept());
+        if (accept.isEmpty()) {
+            return "json";
+        }
+        MimeTypeUtils.sortBySpecificity(accept);
+        for (MediaType acceptable : accept) {
+            if (acceptable.isWildcardType() || acceptable.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "json";
+            }
+            if (acceptable.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return "ndjson";
+            }
+            BinaryFormat binaryFormat = BinaryFormat.negotiate(List.of(acceptable), BinaryFormat.values());
+            if (binaryFormat != null) {
+                return binaryFormat.getName();
+            }
+        }
+        throw new NotAcceptableStatusException(NEGOTIABLE_TYPES);
+    }
+
+    // The records in the requested format, or the one negotiated from the Accept header without a format
+    // parameter; each format has one cache key however it was requested
+    private Flux<DataBuffer> formatted(String name, String query, GenerationOptions options, FieldProjection fields,
+                                       Supplier<Flux<?>> records, ServerHttpRequest request,
+                                       ServerHttpResponse response) {
+        String format = options.getFormat() != null ? options.getFormat() : negotiated(request);
+        String key = query + options.cacheKey(fields);
+        Long seed = options.getSeed();
+        int batchSize = options.getBatchSize();
+        switch (format.toLowerCase(Locale.ROOT)) {
+            case "json" -> {
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                return respond(seed, name + ".json?" + key, () -> ndjsonBatchEncoder.encodeArray(records.get(),
+                        response.bufferFactory(), NdjsonBatchEncoder.DEFAULT_BATCH_SIZE), response);
+            }
+            case "ndjson" -> {
+                response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+                return respond(seed, name + ".ndjson?" + key,
+                        () -> ndjsonBatchEncoder.encode(records.get(), response.bufferFactory(), batchSize), response);
+            }
+            case "smile", "cbor", "protobuf" -> {
+                BinaryFormat binaryFormat = BinaryFormat.fromName(format);
+                response.getHeaders().setContentType(binaryFormat.getMediaType());
+                return respond(seed, name + "." + binaryFormat.getName() + "?" + key,
+                        () -> binaryRecordEncoder.encode(records.get(), binaryFormat, response.bufferFactory(),
+                                batchSize), response);
+            }
+            case "columnar" -> {
+                response.getHeaders().setContentType(MediaType.parseMediaType(ExportFormat.COLUMNAR.getMediaType()));
+                return respond(seed, name + ".columnar?" + key + "&batchSize=" + batchSize,
+                        () -> columnarRecordEncoder.encode(records.get(), response.bufferFactory(), batchSize),
+                        response);
+            }
+            default -> {
+                SqlFormat sqlFormat = sqlFormat(format);
+                if (!fields.isAll()) {
+                    // Table scripts need every column
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "fields does not apply to sql and copy scripts");
+                }
+                response.getHeaders().setContentType(SqlFormat.MEDIA_TYPE);
+                return respond(seed, name + "." + sqlFormat.getName() + "?" + key + "&batchSize=" + batchSize,
+                        () -> sqlScriptEncoder.encodeEntities(records.get(), sqlFormat, response.bufferFactory(),
+                                batchSize), response);
+            }
+        }
+    }
+
+    private static void checkPage(long offset, int limit, long total) {
+        if (total < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "total must not be negative");
+        }
+        if (offset < 0 || offset > total) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "offset must be between 0 and total");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static void checkIndex(long index, long total) {
+        if (index < 0 || index >= total) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "No record " + index + " in a dataset of " + total);
+        }
+    }
+
+    private static FieldDistributions distributions(String dist) {
+        try {
+            return FieldDistributions.parse(dist);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static SqlFormat sqlFormat(String format) {
+        try {
+            return SqlFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown format: " + format
+                    + " (expected json, ndjson, sql, copy, smile, cbor, protobuf or columnar)", e);
+        }
+    }
+
+    // Seeded responses are reproducible, so they are served from the snapshot cache
+    private Flux<DataBuffer> respond(Long seed, String key, Supplier<Flux<DataBuffer>> encoded,
+                                     ServerHttpResponse response) {
+        return seed != null ? snapshotCache.stream("v2/" + key, encoded, response.bufferFactory()) : encoded.get();
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.maheshgaire.qaautomation.export.ExportFormat;
+import com.maheshgaire.qaautomation.model.export.ExportJob;
+import com.maheshgaire.qaautomation.model.export.ExportRequest;
+import com.maheshgaire.qaautomation.service.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/api/v2/testdata/exports")
+@CrossOrigin(origins = "*")
+@Tag(name = "Test Data Exports", description = "Background jobs writing large generated datasets to files")
+public class ExportJobController {
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Submit an export job",
+               description = "Queue a job writing a generated dataset to a local NDJSON, CSV or columnar file")
+    public Mono<ExportJob> submitJob(@RequestBody ExportRequest request) {
+        return Mono.fromCallable(() -> exportJobService.submit(request))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List export jobs", description = "All known export jobs, oldest first")
+    public Mono<List<ExportJob>> getJobs() {
+        return Mono.just(exportJobService.getJobs());
+    }
+
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get export job status",
+               description = "State, progress, records per second and bytes written of a job")
+    public Mono<ExportJob> getJob(@PathVariable String jobId) {
+        return withJob(jobId, Function.identity());
+    }
+
+    @PostMapping(value = "/{jobId}/cancel", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Cancel an export job",
+               description = "Stop a queued or running job; its last checkpoint is kept so it can be resumed")
+    public Mono<ExportJob> cancelJob(@PathVariable String jobId) {
+        return withJob(jobId, exportJobService::cancel);
+    }
+
+    @PostMapping(value = "/{jobId}/resume", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Resume an export job",
+               description = "Continue a cancelled or failed job from its last checkpoint")
+    public Mono<ExportJob> resumeJob(@PathVariable String jobId) {
+        return withJob(jobId, exportJobService::resume);
+    }
+
+    @GetMapping(value = "/{jobId}/download")
+    @Operation(summary = "Download an export", description = "The output file of a completed job")
+    public Mono<ResponseEntity<Resource>> downloadJob(@PathVariable String jobId) {
+        return withJob(jobId, job -> {
+            FileSystemResource file = new FileSystemResource(exportJobService.file(job));
+            ExportFormat format = ExportFormat.fromName(job.getRequest().getFormat());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(format.getMediaType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(job.getFileName()).build().toString())
+                    .body((Resource) file);
+        });
+    }
+
+    @DeleteMapping(value = "/{jobId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete an export job", description = "Remove a finished job and its file")
+    public Mono<Void> deleteJob(@PathVariable String jobId) {
+        return withJob(jobId, job -> {
+            exportJobService.delete(job);
+            return job;
+        }).then();
+    }
+
+    private <T> Mono<T> withJob(String jobId, Function<ExportJob, T> action) {
+        return Mono.justOrEmpty(exportJobService.getJob(jobId))
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "No export job '" + jobId + "'")))
+                .map(action)
+                .onErrorMap(IllegalStateException.class,
+                        e -> new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e));
+    }
+}
@@ -0,0 +1,166 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Query parameters shared by the streamed v2 datasets, bound by WebFlux data binding.
+ * The raw values are parsed and validated here; invalid ones are 400s.
+ */
+public class GenerationOptions {
+
+    @Parameter(description = "Seed for reproducible output (random when omitted)")
+    private Long seed;
+
+    @Parameter(description = "Key distributions per field, e.g. product_id:zipf:0.99,orders_per_user:pareto "
+            + "(fields user_id, product_id, category, orders_per_user; uniform when omitted)")
+    private String dist;
+
+    @Parameter(description = "Fields that must not repeat within the response: any of email, sku, product_id, "
+            + "or true for all; repeats get a numeric suffix")
+    private String unique;
+
+    @Parameter(description = "Zero-based shard to generate when the dataset is split across instances")
+    private Integer shardIndex;
+
+    @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+            + "the unsharded output")
+    private Integer shardCount;
+
+    @Parameter(description = "Comma-separated fields to generate, e.g. userId,email,orders.status or "
+            + "orderId,status,totalAmount; unselected fields are never computed (all when omitted)")
+    private String fields;
+
+    @Parameter(description = "Records per flushed chunk; rows per INSERT statement for sql and per row group "
+            + "for columnar")
+    private int batchSize = NdjsonBatchEncoder.DEFAULT_BATCH_SIZE;
+
+    @Parameter(description = "Output format: json, ndjson, sql, copy, smile, cbor, protobuf or columnar "
+            + "(negotiated from the Accept header when omitted)")
+    private String format;
+
+    /**
+     * Parsed key distributions, uniform when none are given
+     */
+    public FieldDistributions distributions() {
+        return badRequestOnInvalid(() -> FieldDistributions.parse(dist));
+    }
+
+    /**
+     * Parsed unique fields; a unique field cannot also be skewed
+     */
+    public UniqueFields uniqueFields() {
+        return badRequestOnInvalid(() -> UniqueFields.parse(unique).requireUnskewed(distributions()));
+    }
+
+    /**
+     * Requested shard, or all of the dataset; sharding needs a seed
+     */
+    public Shard shard() {
+        return badRequestOnInvalid(() -> Shard.of(shardIndex, shardCount, seed));
+    }
+
+    /**
+     * Parsed field projection, checked against the dataset's fields
+     */
+    public FieldProjection fields(UnaryOperator<FieldProjection> check) {
+        return badRequestOnInvalid(() -> check.apply(FieldProjection.parse(fields)));
+    }
+
+    /**
+     * Snapshot cache key suffix of these options; options left at their defaults add nothing, so plain
+     * requests keep their original keys
+     */
+    public String cacheKey(FieldProjection projection) {
+        FieldDistributions distributions = distributions();
+        UniqueFields uniqueFields = uniqueFields();
+        Shard shard = shard();
+        return "&seed=" + seed
+                + (distributions.isUniform() ? "" : "&dist=" + distributions)
+                + (uniqueFields.isEmpty() ? "" : "&unique=" + uniqueFields)
+                + (shard.isAll() ? "" : "&shard=" + shard)
+                + (projection.isAll() ? "" : "&fields=" + projection);
+    }
+
+    private static <T> T badRequestOnInvalid(Supplier<T> parse) {
+        try {
+            return parse.get();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // Getters and Setters
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public String getDist() {
+        return dist;
+    }
+
+    public void setDist(String dist) {
+        this.dist = dist;
+    }
+
+    public String getUnique() {
+        return unique;
+    }
+
+    public void setUnique(String unique) {
+        this.unique = unique;
+    }
+
+    public Integer getShardIndex() {
+        return shardIndex;
+    }
+
+    public void setShardIndex(Integer shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public Integer getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(Integer shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public String getFields() {
+        return fields;
+    }
+
+    public void setFields(String fields) {
+        this.fields = fields;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+}
@@ -0,0 +1,82 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.distribution.KeyDistribution;
+import com.maheshgaire.qaautomation.generation.mutation.MutationMix;
+import com.maheshgaire.qaautomation.service.MutationStreamService;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v2/testdata/mutations")
+@CrossOrigin(origins = "*")
+@Tag(name = "Mutation Streams", description = "Change-data-capture events over seeded base datasets")
+public class MutationStreamController {
+
+    /** Longest a paced stream holds events back to fill a batch */
+    private static final Duration MAX_BATCH_DELAY = Duration.ofMillis(100);
+
+    @Autowired
+    private MutationStreamService mutationStreamService;
+
+    @Autowired
+    private NdjsonBatchEncoder ndjsonBatchEncoder;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream mutation events",
+               description = "Continuous inserts, order status transitions, address changes and soft deletes "
+                       + "against a seeded dataset of users or orders, with before and after images, at a target "
+                       + "rate; the base dataset is never materialized")
+    public Flux<DataBuffer> streamMutations(
+            @Parameter(description = "Base dataset: users or orders")
+            @RequestParam(defaultValue = "orders") String dataset,
+            @Parameter(description = "Seed of the base dataset, as passed to the users and orders endpoints")
+            @RequestParam long seed,
+            @Parameter(description = "Number of records in the base dataset")
+            @RequestParam(defaultValue = "1000000") long baseCount,
+            @Parameter(description = "Relative weights of insert, status, address and delete, e.g. "
+                    + "status:60,address:20,insert:15,delete:5 (the default for orders; users default to "
+                    + "address:60,insert:30,delete:10)")
+            @RequestParam(required = false) String mix,
+            @Parameter(description = "Popularity of the changed entities, e.g. zipf:0.99 or hotspot:0.1:0.9 "
+                    + "(uniform when omitted)")
+            @RequestParam(required = false) String keys,
+            @Parameter(description = "Key distributions the base dataset was generated with")
+            @RequestParam(required = false) String dist,
+            @Parameter(description = "Target events per second; 0 streams as fast as the client reads")
+            @RequestParam(defaultValue = "1000") double rate,
+            @Parameter(description = "Number of events before the stream ends (endless when omitted)")
+            @RequestParam(required = false) Long count,
+            @Parameter(description = "Events per flushed batch")
+            @RequestParam(defaultValue = "" + NdjsonBatchEncoder.DEFAULT_BATCH_SIZE) int batchSize,
+            ServerHttpResponse response) {
+
+        try {
+            MutationMix mutationMix = mix != null ? MutationMix.parse(mix)
+                    : MutationStreamService.USERS.equals(dataset) ? MutationMix.USERS : MutationMix.ORDERS;
+            KeyDistribution keyDistribution = keys != null ? KeyDistribution.parse(keys) : KeyDistribution.UNIFORM;
+            if (count != null && count < 0) {
+                throw new IllegalArgumentException("count must not be negative");
+            }
+            Flux<?> events = mutationStreamService.mutations(dataset, baseCount, seed, FieldDistributions.parse(dist),
+                    mutationMix, keyDistribution, rate, count != null ? count : Long.MAX_VALUE);
+            return rate > 0
+                    ? ndjsonBatchEncoder.encode(events, response.bufferFactory(), batchSize, MAX_BATCH_DELAY)
+                    : ndjsonBatchEncoder.encode(events, response.bufferFactory(), batchSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.relational.RelationalDataset;
+import com.maheshgaire.qaautomation.generation.relational.RelationalTable;
+import com.maheshgaire.qaautomation.generation.relational.TableRow;
+import com.maheshgaire.qaautomation.service.RelationalDataService;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import com.maheshgaire.qaautomation.streaming.SnapshotCache;
+import com.maheshgaire.qaautomation.streaming.SqlFormat;
+import com.maheshgaire.qaautomation.streaming.SqlScriptEncoder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v2/testdata/relational")
+@CrossOrigin(origins = "*")
+@Tag(name = "Relational Test Data", description = "Flat tables with real foreign keys for seeding test databases")
+public class RelationalDatasetController {
+
+    static final String SEED_HEADER = "X-Dataset-Seed";
+
+    @Autowired
+    private RelationalDataService relationalDataService;
+
+    @Autowired
+    private NdjsonBatchEncoder ndjsonBatchEncoder;
+
+    @Autowired
+    private SnapshotCache snapshotCache;
+
+    @Autowired
+    private SqlScriptEncoder sqlScriptEncoder;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Describe the relational dataset",
+               description = "Tables, columns, row counts and foreign keys for the given dataset parameters")
+    public Mono<Map<String, Object>> describeDataset(
+            @Parameter(description = "Seed shared by all tables of the dataset (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Number of users")
+            @RequestParam(defaultValue = "1000") long users,
+            @Parameter(description = "Number of products")
+            @RequestParam(defaultValue = "100") long products,
+            @Parameter(description = "Number of orders")
+            @RequestParam(defaultValue = "5000") long orders,
+            @Parameter(description = "Maximum items per order")
+            @RequestParam(defaultValue = "5") int maxItemsPerOrder,
+            @Parameter(description = "Key distributions per field, e.g. user_id:zipf:0.99,product_id:hotspot:0.2:0.8 "
+                    + "(fields user_id, product_id, category; uniform when omitted)")
+            @RequestParam(required = false) String dist) {
+
+        RelationalDataset dataset = dataset(seed, users, products, orders, maxItemsPerOrder, dist);
+        return Mono.just(relationalDataService.describe(dataset));
+    }
+
+    @GetMapping(value = "/{table}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Generate a table",
+               description = "Stream one table of the dataset; request every table with the same seed and counts to get joinable data")
+    public Flux<DataBuffer> generateTable(
+            @Parameter(description = "Table name (users, products, orders, order_items, payments)")
+            @PathVariable String table,
+            @Parameter(description = "Seed shared by all tables of the dataset (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Number of users")
+            @RequestParam(defaultValue = "1000") long users,
+            @Parameter(description = "Number of products")
+            @RequestParam(defaultValue = "100") long products,
+            @Parameter(description = "Number of orders")
+            @RequestParam(defaultValue = "5000") long orders,
+            @Parameter(description = "Maximum items per order")
+            @RequestParam(defaultValue = "5") int maxItemsPerOrder,
+            @Parameter(description = "Key distributions per field, e.g. user_id:zipf:0.99,product_id:hotspot:0.2:0.8 "
+                    + "(fields user_id, product_id, category; uniform when omitted)")
+            @RequestParam(required = false) String dist,
+            @Parameter(description = "Zero-based shard to generate when the table is split across instances")
+            @RequestParam(required = false) Integer shardIndex,
+            @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+                    + "the unsharded table")
+            @RequestParam(required = false) Integer shardCount,
+            ServerHttpResponse response) {
+
+        RelationalDataset dataset = dataset(seed, users, products, orders, maxItemsPerOrder, dist);
+        RelationalTable relationalTable = table(table);
+        Shard shard = shard(shardIndex, shardCount, seed);
+        response.getHeaders().set(SEED_HEADER, Long.toString(dataset.getSeed()));
+        return respond(seed, key(relationalTable, "json", dataset, shard),
+                () -> ndjsonBatchEncoder.encodeArray(relationalDataService.streamTable(dataset, relationalTable, shard),
+                        response.bufferFactory(), NdjsonBatchEncoder.DEFAULT_BATCH_SIZE), response);
+    }
+
+    @GetMapping(value = "/{table}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream a table as NDJSON",
+               description = "Stream one table of the dataset as newline-delimited JSON, generated at the rate the client reads")
+    public Flux<DataBuffer> streamTable(
+            @Parameter(description = "Table name (users, products, orders, order_items, payments)")
+            @PathVariable String table,
+            @Parameter(description = "Seed shared by all tables of the dataset (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Number of users")
+            @RequestParam(defaultValue = "1000") long users,
+            @Parameter(description = "Number of products")
+            @RequestParam(defaultValue = "100") long products,
+            @Parameter(description = "Number of orders")
+            @RequestParam(defaultValue = "5000") long orders,
+            @Parameter(description = "Maximum items per order")
+            @RequestParam(defaultValue = "5") int maxItemsPerOrder,
+            @Parameter(description = "Key distributions per field, e.g. user_id:zipf:0.99,product_id:hotspot:0.2:0.8 "
+                    + "(fields user_id, product_id, category; uniform when omitted)")
+            @RequestParam(required = false) String dist,
+            @Parameter(description = "Zero-based shard to generate when the table is split across instances")
+            @RequestParam(required = false) Integer shardIndex,
+            @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+                    + "the unsharded table")
+            @RequestParam(required = false) Integer shardCount,
+            @Parameter(description = "Records written per flushed chunk")
+            @RequestParam(defaultValue = "" + NdjsonBatchEncoder.DEFAULT_BATCH_SIZE) int batchSize,
+            ServerHttpResponse response) {
+
+        RelationalDataset dataset = dataset(seed, users, products, orders, maxItemsPerOrder, dist);
+        RelationalTable relationalTable = table(table);
+        Shard shard = shard(shardIndex, shardCount, seed);
+        response.getHeaders().set(SEED_HEADER, Long.toString(dataset.getSeed()));
+        return respond(seed, key(relationalTable, "ndjson", dataset, shard),
+                () -> ndjsonBatchEncoder.encode(relationalDataService.streamTable(dataset, relationalTable, shard),
+                        response.bufferFactory(), batchSize), response);
+    }
+
+    @GetMapping(value = "/{table}", params = "format")
+    @Operation(summary = "Generate a table as a SQL script",
+               description = "format=sql streams CREATE TABLE IF NOT EXISTS plus multi-row INSERT statements; "
+                       + "format=copy streams a PostgreSQL COPY ... FROM stdin script in text format")
+    public Flux<DataBuffer> generateTableScript(
+            @Parameter(description = "Table name (users, products, orders, order_items, payments)")
+            @PathVariable String table,
+            @Parameter(description = "Script format: sql or copy")
+            @RequestParam String format,
+            @Parameter(description = "Seed shared by all tables of the dataset (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Number of users")
+            @RequestParam(defaultValue = "1000") long users,
+            @Parameter(description = "Number of products")
+            @RequestParam(defaultValue = "100") long products,
+            @Parameter(description = "Number of orders")
+            @RequestParam(defaultValue = "5000") long orders,
+            @Parameter(description = "Maximum items per order")
+            @RequestParam(defaultValue = "5") int maxItemsPerOrder,
+            @Parameter(description = "Key distributions per field, e.g. user_id:zipf:0.99,product_id:hotspot:0.2:0.8 "
+                    + "(fields user_id, product_id, category; uniform when omitted)")
+            @RequestParam(required = false) String dist,
+            @Parameter(description = "Zero-based shard to generate when the table is split across instances")
+            @RequestParam(required = false) Integer shardIndex,
+            @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+                    + "the unsharded table")
+            @RequestParam(required = false) Integer shardCount,
+            @Parameter(description = "Rows per INSERT statement and per flushed chunk")
+            @RequestParam(defaultValue = "" + NdjsonBatchEncoder.DEFAULT_BATCH_SIZE) int batchSize,
+            ServerHttpResponse response) {
+
+        RelationalDataset dataset = dataset(seed, users, products, orders, maxItemsPerOrder, dist);
+        RelationalTable relationalTable = table(table);
+        Shard shard = shard(shardIndex, shardCount, seed);
+        SqlFormat sqlFormat = sqlFormat(format);
+        response.getHeaders().set(SEED_HEADER, Long.toString(dataset.getSeed()));
+        response.getHeaders().setContentType(SqlFormat.MEDIA_TYPE);
+        return respond(seed, key(relationalTable, sqlFormat.getName(), dataset, shard) + "&batchSize=" + batchSize,
+                () -> sqlScriptEncoder.encodeRows(relationalTable,
+                        relationalDataService.streamTable(dataset, relationalTable, shard).map(TableRow::values),
+                        sqlFormat, response.bufferFactory(), batchSize), response);
+    }
+
+    // Tables requested with an explicit seed are reproducible, so they are served from the snapshot cache
+    private Flux<DataBuffer> respond(Long seed, String key, Supplier<Flux<DataBuffer>> encoded,
+                                     ServerHttpResponse response) {
+        return seed != null ? snapshotCache.stream(key, encoded, response.bufferFactory()) : encoded.get();
+    }
+
+    private static String key(RelationalTable table, String format, RelationalDataset dataset, Shard shard) {
+        return "v2/relational/" + table.getTableName() + "." + format + "?seed=" + dataset.getSeed()
+                + "&users=" + dataset.getUsers() + "&products=" + dataset.getProducts()
+                + "&orders=" + dataset.getOrders() + "&maxItemsPerOrder=" + dataset.getMaxItemsPerOrder()
+                + (dataset.getDistributions().isUniform() ? "" : "&dist=" + dataset.getDistributions())
+                + (shard.isAll() ? "" : "&shard=" + shard);
+    }
+
+    private RelationalDataset dataset(Long seed, long users, long products, long orders, int maxItemsPerOrder,
+                                      String dist) {
+        try {
+            return relationalDataService.dataset(seed, users, products, orders, maxItemsPerOrder,
+                    FieldDistributions.parse(dist));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static Shard shard(Integer shardIndex, Integer shardCount, Long seed) {
+        try {
+            return Shard.of(shardIndex, shardCount, seed);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static SqlFormat sqlFormat(String format) {
+        try {
+            return SqlFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static RelationalTable table(String name) {
+        try {
+            return RelationalTable.fromName(name);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+    }
+}
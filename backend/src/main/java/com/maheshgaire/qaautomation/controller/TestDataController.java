@@ -1,24 +1,42 @@
 package com.maheshgaire.qaautomation.controller;
 
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.Shard;
 import com.maheshgaire.qaautomation.model.TestData;
+import com.maheshgaire.qaautomation.model.template.RecordTemplate;
 import com.maheshgaire.qaautomation.service.TestDataService;
+import com.maheshgaire.qaautomation.streaming.BinaryFormat;
+import com.maheshgaire.qaautomation.streaming.BinaryRecordEncoder;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/testdata")
 @CrossOrigin(origins = "*")
 @Tag(name = "Test Data Generation", description = "APIs for generating test data")
 public class TestDataController {
 
-    @Autowired
-    private TestDataService testDataService;
+    private final TestDataService testDataService;
+    private final BinaryRecordEncoder binaryRecordEncoder;
+
+    public TestDataController(TestDataService testDataService, BinaryRecordEncoder binaryRecordEncoder) {
+        this.testDataService = testDataService;
+        this.binaryRecordEncoder = binaryRecordEncoder;
+    }
 
     @GetMapping(value = "/generate/{type}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Generate test data", description = "Generate test data of specified type")
@@ -26,13 +44,140 @@ public class TestDataController {
             @Parameter(description = "Type of test data (user, product, order)")
             @PathVariable String type,
             @Parameter(description = "Number of records to generate")
-            @RequestParam(defaultValue = "10") int count) {
-        return testDataService.generateTestData(type, count);
+            @RequestParam(defaultValue = "10") int count,
+            @Parameter(description = "Simulated processing delay per record in milliseconds (0 = no delay)")
+            @RequestParam(defaultValue = "0") long pace,
+            @Parameter(description = "Seed for reproducible output (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Zero-based shard to generate when the dataset is split across instances")
+            @RequestParam(required = false) Integer shardIndex,
+            @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+                    + "the unsharded output")
+            @RequestParam(required = false) Integer shardCount,
+            @Parameter(description = "Data fields to generate, e.g. firstName,email (all when omitted); "
+                    + "unselected fields are not computed")
+            @RequestParam(required = false) String fields) {
+        Shard shard = shard(shardIndex, shardCount, seed);
+        try {
+            return testDataService.generateTestData(type, shard, count, Duration.ofMillis(Math.max(0, pace)), seed,
+                    FieldProjection.parse(fields));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping(value = "/generate/{type}", produces = {BinaryFormat.SMILE_VALUE, BinaryFormat.CBOR_VALUE})
+    @Operation(summary = "Generate test data in a binary encoding",
+               description = "Generate test data of specified type as a Smile or CBOR array, chosen by the Accept "
+                       + "header; records stream through the same pipeline as JSON")
+    public Flux<DataBuffer> generateBinaryTestData(
+            @Parameter(description = "Type of test data (user, product, order)")
+            @PathVariable String type,
+            @Parameter(description = "Number of records to generate")
+            @RequestParam(defaultValue = "10") int count,
+            @Parameter(description = "Simulated processing delay per record in milliseconds (0 = no delay)")
+            @RequestParam(defaultValue = "0") long pace,
+            @Parameter(description = "Seed for reproducible output (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Zero-based shard to generate when the dataset is split across instances")
+            @RequestParam(required = false) Integer shardIndex,
+            @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+                    + "the unsharded output")
+            @RequestParam(required = false) Integer shardCount,
+            @Parameter(description = "Data fields to generate, e.g. firstName,email (all when omitted); "
+                    + "unselected fields are not computed")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Records written per flushed chunk")
+            @RequestParam(defaultValue = "" + NdjsonBatchEncoder.DEFAULT_BATCH_SIZE) int batchSize,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        BinaryFormat format = BinaryFormat.negotiate(request.getHeaders().getAccept(),
+                BinaryFormat.SMILE, BinaryFormat.CBOR);
+        if (format == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Accept a Smile or CBOR media type");
+        }
+        Flux<TestData> records = generateTestData(type, count, pace, seed, shardIndex, shardCount, fields);
+        response.getHeaders().setContentType(format.getMediaType());
+        return binaryRecordEncoder.encode(records, format, response.bufferFactory(), batchSize);
+    }
+
+    @GetMapping(value = "/generate/{type}/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk stream test data",
+               description = "Stream large volumes of test data as NDJSON, generated at the rate the client reads")
+    public Flux<DataBuffer> streamTestData(
+            @Parameter(description = "Type of test data (user, product, order)")
+            @PathVariable String type,
+            @Parameter(description = "Number of records to generate")
+            @RequestParam(defaultValue = "1000") int count,
+            @Parameter(description = "Records written per flushed chunk")
+            @RequestParam(defaultValue = "" + NdjsonBatchEncoder.DEFAULT_BATCH_SIZE) int batchSize,
+            @Parameter(description = "Seed for reproducible output (random when omitted)")
+            @RequestParam(required = false) Long seed,
+            @Parameter(description = "Zero-based shard to generate when the dataset is split across instances")
+            @RequestParam(required = false) Integer shardIndex,
+            @Parameter(description = "Number of shards; shards of the same seed are disjoint and together equal "
+                    + "the unsharded output")
+            @RequestParam(required = false) Integer shardCount,
+            @Parameter(description = "Data fields to generate, e.g. firstName,email (all when omitted); "
+                    + "unselected fields are not computed")
+            @RequestParam(required = false) String fields,
+            ServerHttpResponse response) {
+        Shard shard = shard(shardIndex, shardCount, seed);
+        try {
+            return testDataService.streamTestData(type, shard, count, seed, FieldProjection.parse(fields), batchSize,
+                    response.bufferFactory());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     @GetMapping(value = "/templates", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get available templates", description = "Get list of available test data templates")
     public Mono<String[]> getAvailableTemplates() {
-        return Mono.just(new String[]{"user", "product", "order", "address", "payment"});
+        return Mono.just(testDataService.getTemplateNames().toArray(new String[0]));
+    }
+
+    @GetMapping(value = "/templates/custom", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List custom templates", description = "Get the definitions of all user-defined templates")
+    public Mono<List<RecordTemplate>> getCustomTemplates() {
+        return Mono.just(testDataService.getCustomTemplates());
+    }
+
+    @PostMapping(value = "/templates", produces = MediaType.APPLICATION_JSON_VALUE,
+                 consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Register a custom template",
+               description = "Validate and compile a user-defined template; generate it via /generate/{id}")
+    public Mono<RecordTemplate> registerTemplate(@RequestBody RecordTemplate template) {
+        return Mono.fromCallable(() -> testDataService.registerTemplate(template))
+                .onErrorMap(IllegalArgumentException.class,
+                        e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e))
+                .onErrorMap(IllegalStateException.class,
+                        e -> new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e));
+    }
+
+    @GetMapping(value = "/templates/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a custom template", description = "Get the definition of a user-defined template")
+    public Mono<RecordTemplate> getTemplate(@PathVariable String id) {
+        return Mono.justOrEmpty(testDataService.getTemplate(id))
+                .switchIfEmpty(Mono.error(() -> templateNotFound(id)));
+    }
+
+    @DeleteMapping(value = "/templates/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete a custom template", description = "Remove a user-defined template")
+    public Mono<Void> deleteTemplate(@PathVariable String id) {
+        return testDataService.deleteTemplate(id) ? Mono.empty() : Mono.error(templateNotFound(id));
+    }
+
+    private static Shard shard(Integer shardIndex, Integer shardCount, Long seed) {
+        try {
+            return Shard.of(shardIndex, shardCount, seed);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private ResponseStatusException templateNotFound(String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "No custom template '" + id + "'");
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.maheshgaire.qaautomation.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Output stream that stages bytes in one large direct buffer and writes it to a
+ * file channel when full, so the channel sees few large writes with no copy
+ * through a heap buffer.
+ * <p>
+ * {@link #flush()} deliberately does nothing: Jackson and the writers flush
+ * often, and only {@link #drain()} and {@link #sync()} reach the channel.
+ */
+final class ChannelOutput extends OutputStream {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    ChannelOutput(FileChannel channel, int bufferBytes) throws IOException {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        this.position = channel.position();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensure(1);
+        buffer.put((byte) b);
+        position++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            position += chunk;
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Staged bytes reach the channel on drain() only
+    }
+
+    /**
+     * File length once everything written so far has been drained
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * Write the staged bytes to the channel
+     */
+    void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Drain and force the file contents to storage, so they survive a crash
+     */
+    void sync() throws IOException {
+        drain();
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        drain();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+}
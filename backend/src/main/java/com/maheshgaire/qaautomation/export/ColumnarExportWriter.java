@@ -0,0 +1,276 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format storing each row group column by column, so readers can
+ * skip the columns they do not need. All integers are big-endian.
+ * <pre>
+ * file   := "QACL" version:int32 columnCount:int32 (nameLength:int32 name:utf8)* group*
+ * group  := rowCount:int32 (chunkLength:int32 chunk)*       -- one chunk per column, in order
+ * chunk  := 0 value{rowCount}                                -- plain
+ *         | 1 entryCount:int32 (length:int32 utf8)* index{rowCount}   -- dictionary
+ * value  := 0 (null) | 1 (false) | 2 (true) | 3 int64 | 4 float64 | 5 length:int32 utf8
+ * index  := uint8: 0 (null) or n (entry n - 1)
+ * </pre>
+ * A chunk is dictionary encoded when its values are text or null, with at most
+ * {@value #MAX_DICTIONARY_ENTRIES} distinct ones, and that is smaller than the
+ * plain encoding, as for low-cardinality fields such as {@code status} or
+ * {@code currency}. Decimals, big integers and arrays are stored as text
+ * (arrays as JSON). Groups hold up to {@value #ROW_GROUP_ROWS} rows and also end
+ * at every checkpoint.
+ */
+final class ColumnarExportWriter extends TabularExportWriter {
+
+    static final byte[] MAGIC = {'Q', 'A', 'C', 'L'};
+    static final int VERSION = 2;
+    static final int ROW_GROUP_ROWS = 65536;
+    static final int MAX_DICTIONARY_ENTRIES = 255;
+
+    static final byte PLAIN = 0;
+    static final byte DICTIONARY = 1;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INT64 = 3;
+    static final byte FLOAT64 = 4;
+    static final byte TEXT = 5;
+
+    private final byte[] intBytes = new byte[Integer.BYTES];
+    private ColumnChunk[] chunks;
+    private int rows;
+
+    ColumnarExportWriter(OutputStream out, ObjectMapper objectMapper, List<String> columns) {
+        super(out, objectMapper, columns);
+    }
+
+    @Override
+    protected void start(List<String> columns, boolean writeHeader) throws IOException {
+        chunks = new ColumnChunk[columns.size()];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new ColumnChunk();
+        }
+        if (writeHeader) {
+            out.write(MAGIC);
+            writeInt(VERSION);
+            writeInt(columns.size());
+            for (String column : columns) {
+                byte[] name = column.getBytes(StandardCharsets.UTF_8);
+                writeInt(name.length);
+                out.write(name);
+            }
+        }
+    }
+
+    @Override
+    protected void writeRow(JsonNode[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            chunks[i].add(values[i]);
+        }
+        if (++rows == ROW_GROUP_ROWS) {
+            flushRows();
+        }
+    }
+
+    @Override
+    protected void flushRows() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        writeInt(rows);
+        for (ColumnChunk chunk : chunks) {
+            chunk.finish();
+            writeInt(chunk.size);
+            out.write(chunk.bytes, 0, chunk.size);
+            chunk.reset();
+        }
+        rows = 0;
+    }
+
+    private void writeInt(int value) throws IOException {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            intBytes[i] = (byte) (value >>> (24 - 8 * i));
+        }
+        out.write(intBytes);
+    }
+
+    /**
+     * Encoded values of one column for the current row group. While every value
+     * is text or null the chunk only records dictionary indexes, along with the
+     * size the plain encoding would have, and writes the plain values out only
+     * once the dictionary no longer applies or turns out larger.
+     */
+    private static final class ColumnChunk {
+
+        private byte[] bytes = new byte[4096];
+        private int size;
+
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<byte[]> entries = new ArrayList<>();
+        private byte[] indexes = new byte[1024];
+        private int rows;
+        private boolean dictionaryEncoded;
+        private int entryBytes;
+        private int plainBytes;
+
+        private ColumnChunk() {
+            reset();
+        }
+
+        private void add(JsonNode value) {
+            if (dictionaryEncoded) {
+                if (value == null || value.isNull() || value.isMissingNode()) {
+                    addIndex(0);
+                    plainBytes++;
+                    return;
+                }
+                if (value.isTextual() && addEntry(value.textValue())) {
+                    return;
+                }
+                writePlainIndexes();
+            }
+            addPlain(value);
+        }
+
+        private boolean addEntry(String text) {
+            Integer index = dictionary.get(text);
+            if (index == null) {
+                if (entries.size() == MAX_DICTIONARY_ENTRIES) {
+                    return false;
+                }
+                byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+                entries.add(utf8);
+                entryBytes += Integer.BYTES + utf8.length;
+                index = entries.size();
+                dictionary.put(text, index);
+            }
+            addIndex(index);
+            plainBytes += 1 + Integer.BYTES + entries.get(index - 1).length;
+            return true;
+        }
+
+        private void addIndex(int index) {
+            if (rows == indexes.length) {
+                indexes = Arrays.copyOf(indexes, rows * 2);
+            }
+            indexes[rows++] = (byte) index;
+        }
+
+        /**
+         * Leave the complete chunk, with its encoding, in {@code bytes}
+         */
+        private void finish() {
+            if (!dictionaryEncoded) {
+                return;
+            }
+            if (Integer.BYTES + entryBytes + rows >= plainBytes) {
+                writePlainIndexes();
+                return;
+            }
+            size = 0;
+            put(DICTIONARY);
+            putInt(entries.size());
+            for (byte[] entry : entries) {
+                putBytes(entry);
+            }
+            ensure(rows);
+            System.arraycopy(indexes, 0, bytes, size, rows);
+            size += rows;
+        }
+
+        private void reset() {
+            size = 0;
+            put(PLAIN);
+            dictionary.clear();
+            entries.clear();
+            rows = 0;
+            dictionaryEncoded = true;
+            entryBytes = 0;
+            plainBytes = 0;
+        }
+
+        // Switch to the plain encoding, writing out the values recorded as indexes so far
+        private void writePlainIndexes() {
+            dictionaryEncoded = false;
+            ensure(plainBytes);
+            for (int i = 0; i < rows; i++) {
+                int index = indexes[i] & 0xFF;
+                if (index == 0) {
+                    put(NULL);
+                } else {
+                    put(TEXT);
+                    putBytes(entries.get(index - 1));
+                }
+            }
+        }
+
+        private void addPlain(JsonNode value) {
+            if (value == null || value.isNull() || value.isMissingNode()) {
+                put(NULL);
+            } else if (value.isBoolean()) {
+                put(value.booleanValue() ? TRUE : FALSE);
+            } else if (value.isIntegralNumber() && value.canConvertToLong()) {
+                put(INT64);
+                putLong(value.longValue());
+            } else if (value.isDouble() || value.isFloat()) {
+                put(FLOAT64);
+                putLong(Double.doubleToRawLongBits(value.doubleValue()));
+            } else if (value.isContainerNode()) {
+                putText(value.toString());
+            } else if (value.isBigDecimal()) {
+                putText(value.decimalValue().toPlainString());
+            } else {
+                putText(value.asText());
+            }
+        }
+
+        private void putText(String text) {
+            put(TEXT);
+            putBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Length-prefixed bytes
+        private void putBytes(byte[] utf8) {
+            putInt(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void put(byte value) {
+            ensure(1);
+            bytes[size++] = value;
+        }
+
+        private void putInt(int value) {
+            ensure(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void putLong(long value) {
+            ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Streams records as a {@link ExportFormat#COLUMNAR} file, the layout of
+ * columnar export jobs, with one row group and one DataBuffer per batch of
+ * records. The columns are those of the first batch; the header goes out with
+ * it.
+ */
+@Component
+public class ColumnarRecordEncoder {
+
+    private static final int ESTIMATED_RECORD_BYTES = 160;
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarRecordEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> Flux<DataBuffer> encode(Flux<T> records, DataBufferFactory bufferFactory, int rowGroupRows) {
+        int size = Math.max(1, rowGroupRows);
+        return Flux.defer(() -> {
+            BufferTarget target = new BufferTarget();
+            ExportWriter writer = new ColumnarExportWriter(target, objectMapper, null);
+            return records.buffer(size)
+                    .map(batch -> target.encode(batch, writer, bufferFactory))
+                    // An empty file still has its header
+                    .switchIfEmpty(Mono.fromSupplier(() -> target.encode(List.of(), writer, bufferFactory)));
+        });
+    }
+
+    /**
+     * Stream the writer writes into; points at the buffer of the row group being encoded
+     */
+    private static final class BufferTarget extends OutputStream {
+
+        private DataBuffer buffer;
+
+        private DataBuffer encode(List<?> batch, ExportWriter writer, DataBufferFactory bufferFactory) {
+            buffer = bufferFactory.allocateBuffer(Math.max(64, batch.size() * ESTIMATED_RECORD_BYTES));
+            DataBuffer encoded = buffer;
+            boolean complete = false;
+            try {
+                for (Object record : batch) {
+                    writer.write(record);
+                }
+                writer.flush();
+                complete = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to encode columnar row group", e);
+            } finally {
+                buffer = null;
+                if (!complete) {
+                    DataBufferUtils.release(encoded);
+                }
+            }
+            return encoded;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.ensureWritable(1);
+            buffer.write((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.ensureWritable(length);
+            buffer.write(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV with a header row; nested objects become dotted columns and arrays JSON text
+ */
+final class CsvExportWriter extends TabularExportWriter {
+
+    private static final int WRITER_BUFFER_CHARS = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out, ObjectMapper objectMapper, List<String> columns) {
+        super(out, objectMapper, columns);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITER_BUFFER_CHARS);
+    }
+
+    @Override
+    protected void start(List<String> columns, boolean writeHeader) throws IOException {
+        if (writeHeader) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(columns.get(i));
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    @Override
+    protected void writeRow(JsonNode[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            JsonNode value = values[i];
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            if (value.isContainerNode()) {
+                writeField(value.toString());
+            } else if (value.isBigDecimal()) {
+                writer.write(value.decimalValue().toPlainString());
+            } else {
+                writeField(value.asText());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    protected void flushRows() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String text) throws IOException {
+        if (!needsQuotes(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package com.maheshgaire.qaautomation.export;
+
+import java.util.Locale;
+
+/**
+ * Generated datasets an export job can write
+ */
+public enum ExportDataset {
+
+    TEST_DATA("testdata"),
+    USERS("users"),
+    USERS_WITH_ORDERS("users-with-orders"),
+    ORDERS("orders");
+
+    private final String datasetName;
+
+    ExportDataset(String datasetName) {
+        this.datasetName = datasetName;
+    }
+
+    /**
+     * Dataset for a name; underscores are accepted for dashes
+     */
+    public static ExportDataset fromName(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT).replace('_', '-');
+        for (ExportDataset dataset : values()) {
+            if (dataset.datasetName.equals(normalized)) {
+                return dataset;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export dataset: " + name);
+    }
+
+    public String getDatasetName() {
+        return datasetName;
+    }
+}
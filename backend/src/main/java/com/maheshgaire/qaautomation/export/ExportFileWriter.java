@@ -0,0 +1,81 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Export file being written, opened either fresh or at the last checkpoint of
+ * an interrupted run. Anything after the checkpoint (a partial buffer flushed
+ * before a crash) is cut off, so resuming appends exactly where the checkpoint
+ * left the file.
+ */
+public final class ExportFileWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final ChannelOutput out;
+    private final ExportWriter writer;
+
+    private ExportFileWriter(FileChannel channel, ChannelOutput out, ExportWriter writer) {
+        this.channel = channel;
+        this.out = out;
+        this.writer = writer;
+    }
+
+    /**
+     * Open the file at a checkpoint; columns are the checkpoint's layout for tabular formats, or null
+     */
+    public static ExportFileWriter open(Path file, ExportFormat format, long checkpointBytes, List<String> columns,
+                                        ObjectMapper objectMapper, int bufferBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < checkpointBytes) {
+                throw new IOException("Export file " + file + " is shorter than its checkpoint");
+            }
+            channel.truncate(checkpointBytes);
+            channel.position(checkpointBytes);
+            ChannelOutput out = new ChannelOutput(channel, bufferBytes);
+            return new ExportFileWriter(channel, out, ExportWriter.create(format, out, objectMapper, columns));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void write(Object record) throws IOException {
+        writer.write(record);
+    }
+
+    /**
+     * Write out and force everything so far; the returned file length is the new checkpoint
+     */
+    public long checkpoint() throws IOException {
+        writer.flush();
+        out.sync();
+        return out.position();
+    }
+
+    public long bytesWritten() {
+        return out.position();
+    }
+
+    /**
+     * Column layout of tabular formats, known from the first checkpoint on
+     */
+    public List<String> columns() {
+        return writer.columns();
+    }
+
+    /**
+     * Close the file; output since the last checkpoint is dropped, as a resumed run rewrites it
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.maheshgaire.qaautomation.export;
+
+import java.util.Locale;
+
+/**
+ * File formats an export job can write
+ */
+public enum ExportFormat {
+
+    NDJSON("ndjson", "ndjson", "application/x-ndjson"),
+    CSV("csv", "csv", "text/csv"),
+    COLUMNAR("columnar", "qacol", "application/octet-stream");
+
+    private final String formatName;
+    private final String extension;
+    private final String mediaType;
+
+    ExportFormat(String formatName, String extension, String mediaType) {
+        this.formatName = formatName;
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat fromName(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (format.formatName.equals(normalized)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export format: " + name);
+    }
+
+    public String getFormatName() {
+        return formatName;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,45 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Encodes exported records into an output stream, a {@link ChannelOutput} for
+ * export files. Writers may buffer internally, but after {@link #flush()} every
+ * record written so far must be in the output, because that is where a job
+ * takes its checkpoints.
+ */
+abstract class ExportWriter {
+
+    protected final OutputStream out;
+
+    protected ExportWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writer for the format; columns are those of the checkpoint being resumed, or null for a new file
+     */
+    static ExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper,
+                               List<String> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter(out, objectMapper);
+            case CSV -> new CsvExportWriter(out, objectMapper, columns);
+            case COLUMNAR -> new ColumnarExportWriter(out, objectMapper, columns);
+        };
+    }
+
+    abstract void write(Object record) throws IOException;
+
+    abstract void flush() throws IOException;
+
+    /**
+     * Column layout of tabular formats once fixed; null for formats without one
+     */
+    List<String> columns() {
+        return null;
+    }
+}
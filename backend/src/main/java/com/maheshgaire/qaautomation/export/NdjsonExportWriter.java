@@ -0,0 +1,36 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON object per line, serialized with the application's mapper (and so its streaming serializers)
+ */
+final class NdjsonExportWriter extends ExportWriter {
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    NdjsonExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        super(out);
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    void write(Object record) throws IOException {
+        objectWriter.writeValue(generator, record);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    void flush() throws IOException {
+        generator.flush();
+    }
+}
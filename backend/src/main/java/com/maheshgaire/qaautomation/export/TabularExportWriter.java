@@ -0,0 +1,224 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base for formats with a fixed column layout. Records are flattened into
+ * dotted paths ({@code address.city}); arrays stay whole and are rendered as
+ * JSON text. The columns are the union of those seen in the records before the
+ * first checkpoint (at most {@value #SCHEMA_SAMPLE}); later records are written
+ * against that layout, with missing values left empty.
+ * <p>
+ * Records are flattened straight from their serialized tokens into the row,
+ * without building a tree or a map per record; each path is resolved to its
+ * column once.
+ */
+abstract class TabularExportWriter extends ExportWriter {
+
+    static final int SCHEMA_SAMPLE = 1000;
+
+    private final ObjectMapper treeMapper;
+    private final JsonNodeFactory nodeFactory;
+    private final List<String> resumedColumns;
+    private final List<Map<String, JsonNode>> pending = new ArrayList<>();
+    private final Path root = new Path("");
+    private List<String> columns;
+    private Map<String, Integer> columnIndexes;
+    private JsonNode[] row;
+
+    private final Leaves rowValues = (path, value) -> {
+        int column = path.column(columnIndexes);
+        if (column >= 0) {
+            row[column] = value;
+        }
+    };
+
+    protected TabularExportWriter(OutputStream out, ObjectMapper objectMapper, List<String> resumedColumns) {
+        super(out);
+        // Keep decimals exactly as serialized (e.g. 5.00) rather than as doubles
+        this.treeMapper = objectMapper.copy()
+                .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false)
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.nodeFactory = treeMapper.getNodeFactory();
+        this.resumedColumns = resumedColumns;
+    }
+
+    @Override
+    final void write(Object record) throws IOException {
+        if (columns == null && resumedColumns != null) {
+            fixColumns(resumedColumns, false);
+        }
+        if (columns != null) {
+            Arrays.fill(row, null);
+            flatten(record, rowValues);
+            writeRow(row);
+            return;
+        }
+        Map<String, JsonNode> values = new LinkedHashMap<>();
+        flatten(record, (path, value) -> values.put(path.name, value));
+        pending.add(values);
+        if (pending.size() >= SCHEMA_SAMPLE) {
+            fixColumnsFromPending();
+        }
+    }
+
+    @Override
+    final void flush() throws IOException {
+        if (columns == null) {
+            if (resumedColumns != null) {
+                fixColumns(resumedColumns, false);
+            } else {
+                fixColumnsFromPending();
+            }
+        }
+        flushRows();
+    }
+
+    @Override
+    final List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * Called once the layout is known; the header is written unless resuming a file that has one
+     */
+    protected abstract void start(List<String> columns, boolean writeHeader) throws IOException;
+
+    protected abstract void writeRow(JsonNode[] values) throws IOException;
+
+    protected abstract void flushRows() throws IOException;
+
+    private void fixColumnsFromPending() throws IOException {
+        Set<String> union = new LinkedHashSet<>();
+        for (Map<String, JsonNode> values : pending) {
+            union.addAll(values.keySet());
+        }
+        fixColumns(List.copyOf(union), true);
+        for (Map<String, JsonNode> values : pending) {
+            writeRow(values);
+        }
+        pending.clear();
+    }
+
+    private void fixColumns(List<String> fixed, boolean writeHeader) throws IOException {
+        this.columns = fixed;
+        this.columnIndexes = new HashMap<>();
+        for (int i = 0; i < fixed.size(); i++) {
+            columnIndexes.put(fixed.get(i), i);
+        }
+        this.row = new JsonNode[fixed.size()];
+        start(fixed, writeHeader);
+    }
+
+    private void writeRow(Map<String, JsonNode> values) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            row[i] = values.get(columns.get(i));
+        }
+        writeRow(row);
+    }
+
+    private void flatten(Object record, Leaves leaves) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(treeMapper, false);
+        treeMapper.writeValue(tokens, record);
+        try (JsonParser parser = tokens.asParser(treeMapper)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                flatten(parser, root, leaves);
+            } else {
+                leaves.accept(root.child("value"), value(parser));
+            }
+        }
+    }
+
+    private void flatten(JsonParser parser, Path object, Leaves leaves) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Path field = object.child(parser.currentName());
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                flatten(parser, field, leaves);
+            } else {
+                leaves.accept(field, value(parser));
+            }
+        }
+    }
+
+    // Same nodes as reading the record into a tree with USE_BIG_DECIMAL_FOR_FLOATS
+    private JsonNode value(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return nodeFactory.textNode(parser.getText());
+            case VALUE_NUMBER_INT:
+                return switch (parser.getNumberType()) {
+                    case INT -> nodeFactory.numberNode(parser.getIntValue());
+                    case LONG -> nodeFactory.numberNode(parser.getLongValue());
+                    default -> nodeFactory.numberNode(parser.getBigIntegerValue());
+                };
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberType() != JsonParser.NumberType.BIG_DECIMAL && parser.isNaN()
+                        ? nodeFactory.numberNode(parser.getDoubleValue())
+                        : DecimalNode.valueOf(parser.getDecimalValue());
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return nodeFactory.booleanNode(parser.getBooleanValue());
+            case VALUE_NULL:
+                return nodeFactory.nullNode();
+            default:
+                // Arrays and embedded values
+                return treeMapper.readTree(parser);
+        }
+    }
+
+    private interface Leaves {
+        void accept(Path path, JsonNode value);
+    }
+
+    /**
+     * Dotted path of a field, with its children and its column cached across records
+     */
+    private static final class Path {
+
+        private static final int UNRESOLVED = -2;
+
+        private final String name;
+        private final Map<String, Path> children = new HashMap<>();
+        private int column = UNRESOLVED;
+
+        private Path(String name) {
+            this.name = name;
+        }
+
+        private Path child(String field) {
+            Path child = children.get(field);
+            if (child == null) {
+                child = new Path(name.isEmpty() ? field : name + "." + field);
+                children.put(field, child);
+            }
+            return child;
+        }
+
+        // Index of the column, or -1 when the layout has none for this path
+        private int column(Map<String, Integer> columnIndexes) {
+            if (column == UNRESOLVED) {
+                column = columnIndexes.getOrDefault(name, -1);
+            }
+            return column;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.maheshgaire.qaautomation.generation;
+
+import net.datafaker.Faker;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Value tables extracted from Faker once at startup, so hot generation paths
+ * sample a plain array by index instead of resolving Faker's YAML expressions
+ * for every value.
+ * <p>
+ * Each table is filled by drawing from Faker with a fixed seed and keeping the
+ * distinct results in draw order, so the snapshot (and therefore seeded output)
+ * is the same on every start. A table that comes out empty falls back to Faker.
+ */
+@Component
+public class DictionarySnapshot {
+
+    static final int SAMPLE_DRAWS = 4096;
+
+    private static final long SNAPSHOT_SEED = 0x5eed_d1c7L;
+
+    private final Dictionary firstNames;
+    private final Dictionary lastNames;
+    private final Dictionary cities;
+    private final Dictionary states;
+    private final Dictionary countries;
+    private final Dictionary streetNames;
+    private final Dictionary companies;
+    private final Dictionary jobTitles;
+    private final Dictionary languages;
+    private final Dictionary productNames;
+    private final Dictionary domains;
+
+    public DictionarySnapshot() {
+        Faker faker = new Faker(new Random(SNAPSHOT_SEED));
+        this.firstNames = snapshot(faker, "firstName", f -> f.name().firstName());
+        this.lastNames = snapshot(faker, "lastName", f -> f.name().lastName());
+        this.cities = snapshot(faker, "city", f -> f.address().city());
+        this.states = snapshot(faker, "state", f -> f.address().state());
+        this.countries = snapshot(faker, "country", f -> f.address().country());
+        this.streetNames = snapshot(faker, "streetName", f -> f.address().streetName());
+        this.companies = snapshot(faker, "company", f -> f.company().name());
+        this.jobTitles = snapshot(faker, "jobTitle", f -> f.job().title());
+        this.languages = snapshot(faker, "language", f -> f.nation().language());
+        this.productNames = snapshot(faker, "productName", f -> f.commerce().productName());
+        this.domains = snapshot(faker, "domain", f -> f.internet().domainName());
+    }
+
+    private static Dictionary snapshot(Faker faker, String name, Function<Faker, String> source) {
+        Set<String> values = new LinkedHashSet<>();
+        for (int i = 0; i < SAMPLE_DRAWS; i++) {
+            String value = source.apply(faker);
+            if (value != null && !value.isEmpty()) {
+                values.add(value);
+            }
+        }
+        return new Dictionary(name, values.toArray(new String[0]), source);
+    }
+
+    public Dictionary firstNames() {
+        return firstNames;
+    }
+
+    public Dictionary lastNames() {
+        return lastNames;
+    }
+
+    public Dictionary cities() {
+        return cities;
+    }
+
+    public Dictionary states() {
+        return states;
+    }
+
+    public Dictionary countries() {
+        return countries;
+    }
+
+    public Dictionary streetNames() {
+        return streetNames;
+    }
+
+    public Dictionary companies() {
+        return companies;
+    }
+
+    public Dictionary jobTitles() {
+        return jobTitles;
+    }
+
+    public Dictionary languages() {
+        return languages;
+    }
+
+    public Dictionary productNames() {
+        return productNames;
+    }
+
+    public Dictionary domains() {
+        return domains;
+    }
+
+    /**
+     * One index-addressable value table
+     */
+    public static final class Dictionary {
+
+        private final String name;
+        private final String[] values;
+        private final Function<Faker, String> fallback;
+
+        Dictionary(String name, String[] values, Function<Faker, String> fallback) {
+            this.name = name;
+            this.values = values;
+            this.fallback = fallback;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        public String get(int index) {
+            return values[index];
+        }
+
+        /**
+         * Sample a value using the faker's current random stream
+         */
+        public String pick(Faker faker) {
+            return values.length > 0 ? values[faker.random().nextInt(values.length)] : fallback.apply(faker);
+        }
+    }
+}
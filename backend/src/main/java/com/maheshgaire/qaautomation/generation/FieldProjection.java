@@ -0,0 +1,147 @@
+package com.maheshgaire.qaautomation.generation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fields a client asked for, parsed from a comma-separated list such as
+ * {@code userId,email,orders.status}. A dotted path selects fields of a nested
+ * object or list, and naming the object itself selects all of it. Generators
+ * consult the projection before computing a field, so unselected fields cost
+ * nothing rather than being dropped after generation.
+ */
+public final class FieldProjection {
+
+    public static final FieldProjection ALL = new FieldProjection(null);
+
+    private static final Object WHOLE = new Object();
+
+    /** Selected fields and their own projections; null selects every field */
+    private final Map<String, FieldProjection> fields;
+
+    private FieldProjection(Map<String, FieldProjection> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a field list; null or blank selects every field
+     */
+    public static FieldProjection parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return ALL;
+        }
+        Map<String, Object> tree = new TreeMap<>();
+        for (String entry : spec.split(",")) {
+            String path = entry.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            String[] parts = path.split("\\.", -1);
+            Map<String, Object> level = tree;
+            for (int i = 0; i < parts.length; i++) {
+                String part = parts[i].trim();
+                if (part.isEmpty()) {
+                    throw new IllegalArgumentException("Empty field name in '" + path + "'");
+                }
+                Object existing = level.get(part);
+                if (i == parts.length - 1) {
+                    level.put(part, WHOLE);
+                } else if (existing == WHOLE) {
+                    break;
+                } else {
+                    if (existing == null) {
+                        existing = new TreeMap<String, Object>();
+                        level.put(part, existing);
+                    }
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> next = (Map<String, Object>) existing;
+                    level = next;
+                }
+            }
+        }
+        if (tree.isEmpty()) {
+            throw new IllegalArgumentException("fields lists no field");
+        }
+        return of(tree);
+    }
+
+    private static FieldProjection of(Map<String, Object> tree) {
+        Map<String, FieldProjection> fields = new TreeMap<>();
+        tree.forEach((name, value) -> {
+            @SuppressWarnings("unchecked")
+            FieldProjection nested = value == WHOLE ? ALL : of((Map<String, Object>) value);
+            fields.put(name, nested);
+        });
+        return new FieldProjection(Collections.unmodifiableMap(fields));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.containsKey(field);
+    }
+
+    /**
+     * Projection of a selected field's own fields; every field when it was selected whole
+     */
+    public FieldProjection nested(String field) {
+        return fields == null ? ALL : fields.getOrDefault(field, ALL);
+    }
+
+    /**
+     * Reject names outside {@code known} and paths below a field not in {@code nestable},
+     * which can only be selected whole. Nested projections are checked by the caller.
+     */
+    public FieldProjection check(Collection<String> known, Collection<String> nestable) {
+        if (fields == null) {
+            return this;
+        }
+        fields.forEach((name, nested) -> {
+            if (!known.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "' (expected "
+                        + String.join(", ", known) + ")");
+            }
+            if (!nested.isAll() && !nestable.contains(name)) {
+                throw new IllegalArgumentException(name + " can only be selected as a whole");
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Canonical list of dotted paths in name order; empty when every field is selected
+     */
+    @Override
+    public String toString() {
+        List<String> paths = new ArrayList<>();
+        if (fields != null) {
+            fields.forEach((name, nested) -> {
+                if (nested.isAll()) {
+                    paths.add(name);
+                } else {
+                    for (String path : nested.toString().split(",")) {
+                        paths.add(name + "." + path);
+                    }
+                }
+            });
+        }
+        return String.join(",", paths);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FieldProjection other
+                && (fields == null ? other.fields == null : fields.equals(other.fields));
+    }
+
+    @Override
+    public int hashCode() {
+        return fields == null ? 0 : fields.hashCode();
+    }
+}
@@ -0,0 +1,157 @@
+package com.maheshgaire.qaautomation.generation;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Fork-join engine for record generation. Large counts are split into chunks
+ * that run on a dedicated pool; every record is written to its own index, so the
+ * result is in record order without a merge step.
+ * <p>
+ * Each worker thread owns one {@link SeededFaker}. Because records draw only from
+ * their own streams, the output does not depend on how chunks were scheduled.
+ * <p>
+ * {@link #stream} is the lazy counterpart: chunks are only generated as the
+ * subscriber requests them, so at most a few chunks per worker are in memory
+ * whatever the total count.
+ */
+@Component
+public class ParallelGenerator {
+
+    static final int CHUNK_SIZE = 256;
+
+    private static final ThreadLocal<SeededFaker> FAKERS = ThreadLocal.withInitial(SeededFaker::new);
+
+    private final ForkJoinPool pool;
+    private final Scheduler scheduler;
+
+    public ParallelGenerator(@Value("${testdata.generation.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.scheduler = Schedulers.fromExecutorService(pool, "testdata-generation");
+    }
+
+    /**
+     * Generates one record per index
+     */
+    @FunctionalInterface
+    public interface RecordFactory<T> {
+        T create(SeededFaker faker, long index);
+    }
+
+    /**
+     * Generate records [0, count) in order, in parallel when the count spans several chunks; empty when
+     * the count is not positive
+     */
+    public <T> List<T> generate(int count, RecordFactory<T> factory) {
+        if (count <= 0) {
+            return List.of();
+        }
+        Object[] records = new Object[count];
+        if (count <= CHUNK_SIZE) {
+            fill(records, 0, count, factory);
+        } else {
+            pool.invoke(new ChunkTask(records, 0, count, factory));
+        }
+        @SuppressWarnings("unchecked")
+        List<T> result = (List<T>) Collections.unmodifiableList(Arrays.asList(records));
+        return result;
+    }
+
+    /**
+     * Lazily generate records [0, count) in order, one chunk per worker in flight
+     */
+    public <T> Flux<T> stream(long count, RecordFactory<T> factory) {
+        return stream(0, count, factory);
+    }
+
+    /**
+     * Lazily generate records [from, to) in order; each record is the same as in a stream from zero
+     */
+    public <T> Flux<T> stream(long from, long to, RecordFactory<T> factory) {
+        Flux<Long> chunkStarts = Flux.generate(() -> from, (start, sink) -> {
+            if (start >= to) {
+                sink.complete();
+            } else {
+                sink.next(start);
+            }
+            return start + CHUNK_SIZE;
+        });
+        return chunkStarts
+                .flatMapSequential(start -> Mono.fromCallable(() -> chunk(start, Math.min(start + CHUNK_SIZE, to), factory))
+                        .subscribeOn(scheduler), pool.getParallelism(), 1)
+                .flatMapIterable(Function.identity(), 1);
+    }
+
+    /**
+     * Generate the single record at {@code index} on the calling thread; the same as in any stream over it
+     */
+    public <T> T generateAt(long index, RecordFactory<T> factory) {
+        return factory.create(FAKERS.get(), index);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+        pool.shutdownNow();
+    }
+
+    private static <T> List<T> chunk(long from, long to, RecordFactory<T> factory) {
+        SeededFaker faker = FAKERS.get();
+        @SuppressWarnings("unchecked")
+        T[] records = (T[]) new Object[(int) (to - from)];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = factory.create(faker, from + i);
+        }
+        return Arrays.asList(records);
+    }
+
+    private static void fill(Object[] records, int from, int to, RecordFactory<?> factory) {
+        SeededFaker faker = FAKERS.get();
+        for (int i = from; i < to; i++) {
+            records[i] = factory.create(faker, i);
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] records;
+        private final int from;
+        private final int to;
+        private final RecordFactory<?> factory;
+
+        private ChunkTask(Object[] records, int from, int to, RecordFactory<?> factory) {
+            this.records = records;
+            this.from = from;
+            this.to = to;
+            this.factory = factory;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                fill(records, from, to, factory);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(records, from, middle, factory), new ChunkTask(records, middle, to, factory));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.maheshgaire.qaautomation.generation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tree of independent random streams derived from one root seed.
+ * <p>
+ * Every record gets its own stream seed computed from (root seed, record index),
+ * and nested values (addresses, orders, items) derive child seeds from their
+ * parent. Nothing is drawn from shared state, so a request can be split across
+ * threads in any way and still produce the same output for the same seed.
+ */
+public final class RandomStreams {
+
+    /** Reference clock for seeded runs so timestamps are reproducible too. */
+    public static final LocalDateTime SEEDED_REFERENCE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    public static final long SEEDED_REFERENCE_EPOCH_MILLIS =
+            SEEDED_REFERENCE_TIME.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final boolean seeded;
+
+    private RandomStreams(long seed, boolean seeded) {
+        this.seed = seed;
+        this.seeded = seeded;
+    }
+
+    /**
+     * Streams for the given seed, or for a random root seed when none is supplied
+     */
+    public static RandomStreams of(Long seed) {
+        return seed != null
+                ? new RandomStreams(seed, true)
+                : new RandomStreams(ThreadLocalRandom.current().nextLong(), false);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Seed of the stream for the record at the given position
+     */
+    public long recordSeed(long index) {
+        return child(seed, index);
+    }
+
+    /**
+     * Timestamp to stamp on generated entities: fixed for seeded runs, wall clock otherwise
+     */
+    public LocalDateTime now() {
+        return seeded ? SEEDED_REFERENCE_TIME : LocalDateTime.now();
+    }
+
+    /**
+     * Seed of an independent child stream of the given parent stream
+     */
+    public static long child(long parentSeed, long stream) {
+        return mix64(parentSeed + GOLDEN_GAMMA * (mix64(stream) | 1L));
+    }
+
+    /**
+     * SplitMix64 finalizer (the same mixing function SplittableRandom uses)
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    static long nextSeed(long state) {
+        return state + GOLDEN_GAMMA;
+    }
+}
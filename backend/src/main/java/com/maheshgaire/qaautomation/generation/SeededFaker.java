@@ -0,0 +1,24 @@
+package com.maheshgaire.qaautomation.generation;
+
+import net.datafaker.Faker;
+
+import java.util.Random;
+
+/**
+ * Faker bound to a private Random that is reseeded before each use, so every
+ * value group is drawn from its own stream of the {@link RandomStreams} tree.
+ * Not thread-safe: keep one instance per generating thread.
+ */
+public final class SeededFaker {
+
+    private final Random random = new Random();
+    private final Faker faker = new Faker(random);
+
+    /**
+     * Reseed to the given child stream of a record and return the faker
+     */
+    public Faker at(long recordSeed, long stream) {
+        random.setSeed(RandomStreams.child(recordSeed, stream));
+        return faker;
+    }
+}
@@ -0,0 +1,73 @@
+package com.maheshgaire.qaautomation.generation;
+
+/**
+ * One of {@code count} disjoint, contiguous slices of a seeded dataset. Shard
+ * {@code index} generates positions [total * index / count, total * (index + 1) / count),
+ * each record exactly as a single node would, so the shards concatenated in
+ * index order equal the single-node output and no two shards share an ID.
+ */
+public record Shard(int index, int count) {
+
+    public static final Shard ALL = new Shard(0, 1);
+
+    public static final int MAX_COUNT = 1 << 16;
+
+    public Shard {
+        if (count < 1 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("shardCount must be between 1 and " + MAX_COUNT);
+        }
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("shardIndex must be between 0 and shardCount - 1");
+        }
+    }
+
+    /**
+     * Shard from optional request parameters; both absent means the whole dataset.
+     * A real split needs a seed, otherwise every shard would slice a different dataset.
+     */
+    public static Shard of(Integer index, Integer count, Long seed) {
+        if (index == null && count == null) {
+            return ALL;
+        }
+        if (index == null || count == null) {
+            throw new IllegalArgumentException("shardIndex and shardCount must be given together");
+        }
+        Shard shard = new Shard(index, count);
+        if (!shard.isAll() && seed == null) {
+            throw new IllegalArgumentException("Sharded generation needs a seed shared by all shards");
+        }
+        return shard;
+    }
+
+    public boolean isAll() {
+        return count == 1;
+    }
+
+    /**
+     * First position of this shard in a dataset of {@code total} records
+     */
+    public long from(long total) {
+        return boundary(total, index);
+    }
+
+    /**
+     * End (exclusive) of this shard in a dataset of {@code total} records
+     */
+    public long to(long total) {
+        return boundary(total, index + 1);
+    }
+
+    public long size(long total) {
+        return to(total) - from(total);
+    }
+
+    // floor(total * i / count) without overflowing for large totals
+    private long boundary(long total, int i) {
+        return total / count * i + total % count * i / count;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
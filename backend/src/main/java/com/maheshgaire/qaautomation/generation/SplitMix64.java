@@ -0,0 +1,24 @@
+package com.maheshgaire.qaautomation.generation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Reseedable SplitMix64 generator. One instance is reused per subscriber and
+ * reseeded for every record, so per-record streams cost no allocation.
+ * Not thread-safe.
+ */
+public final class SplitMix64 implements RandomGenerator {
+
+    private long state;
+
+    public SplitMix64 reseed(long seed) {
+        this.state = seed;
+        return this;
+    }
+
+    @Override
+    public long nextLong() {
+        state = RandomStreams.nextSeed(state);
+        return RandomStreams.mix64(state);
+    }
+}
@@ -0,0 +1,88 @@
+package com.maheshgaire.qaautomation.generation;
+
+/**
+ * Bounded canonicalization table for generated strings that repeat across
+ * records (postal codes, masked card numbers, birth dates, skewed product IDs),
+ * so large in-memory datasets hold one instance per value instead of one per
+ * record.
+ * <p>
+ * The table is direct-mapped: each value hashes to one slot, a hit returns the
+ * instance already there and a miss replaces it. Memory is fixed by the
+ * capacity no matter how many distinct values pass through, and high-cardinality
+ * values simply evict each other without growing anything. Lookups take no
+ * lock; concurrent writers may overwrite each other's entry, which only costs
+ * a later miss, and strings are immutable so any instance read from a slot is
+ * safe to share.
+ * <p>
+ * A table belongs to one request that builds its records in memory and is
+ * dropped with it. Streamed records are encoded and released one chunk at a
+ * time, so there is nothing to share and they use {@link #none()}. Values from
+ * fixed lists and the {@link DictionarySnapshot} tables are shared already and
+ * need no interning.
+ */
+public final class StringInterner {
+
+    static final int REQUEST_CAPACITY = 1 << 18;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final StringInterner NONE = new StringInterner(null);
+
+    private final String[] table;
+    private final int mask;
+
+    /**
+     * Table of at least the given number of slots, rounded up to a power of two
+     */
+    public StringInterner(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = Integer.highestOneBit(Math.min(capacity, MAX_CAPACITY));
+        if (size < capacity && size < MAX_CAPACITY) {
+            size <<= 1;
+        }
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    private StringInterner(String[] table) {
+        this.table = table;
+        this.mask = 0;
+    }
+
+    /**
+     * Table for one request building {@code records} records in memory, a few slots per record up to
+     * a fixed cap
+     */
+    public static StringInterner forRecords(long records) {
+        return new StringInterner((int) Math.max(1, Math.min(records * 4, REQUEST_CAPACITY)));
+    }
+
+    /**
+     * Interner that keeps no table and returns every value as it is
+     */
+    public static StringInterner none() {
+        return NONE;
+    }
+
+    /**
+     * Canonical instance equal to the value; null passes through
+     */
+    public String intern(String value) {
+        if (value == null || table == null) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String cached = table[slot];
+        if (cached != null && cached.equals(value)) {
+            return cached;
+        }
+        table[slot] = value;
+        return value;
+    }
+
+    public int capacity() {
+        return table != null ? table.length : 0;
+    }
+}
@@ -0,0 +1,107 @@
+package com.maheshgaire.qaautomation.generation.distribution;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Key distributions chosen per field of a generated dataset, parsed from a
+ * comma-separated spec such as {@code user_id:zipf:1.1,category:hotspot}.
+ * An entry without a field name ({@code zipf}) applies to every field not
+ * named explicitly; fields not covered stay uniform.
+ */
+public final class FieldDistributions {
+
+    /** Referenced user of an order */
+    public static final String USER_ID = "user_id";
+    /** Product of an order item */
+    public static final String PRODUCT_ID = "product_id";
+    /** Product category */
+    public static final String CATEGORY = "category";
+    /** Number of orders generated for a user */
+    public static final String ORDERS_PER_USER = "orders_per_user";
+
+    public static final List<String> FIELDS = List.of(USER_ID, PRODUCT_ID, CATEGORY, ORDERS_PER_USER);
+
+    public static final FieldDistributions UNIFORM = new FieldDistributions(Map.of());
+
+    private final Map<String, KeyDistribution> distributions;
+
+    private FieldDistributions(Map<String, KeyDistribution> distributions) {
+        this.distributions = distributions;
+    }
+
+    /**
+     * Parse a spec; null or blank means uniform everywhere
+     */
+    public static FieldDistributions parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return UNIFORM;
+        }
+        Map<String, KeyDistribution> named = new TreeMap<>();
+        KeyDistribution fallback = null;
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            int colon = trimmed.indexOf(':');
+            String field = colon > 0 ? trimmed.substring(0, colon) : trimmed;
+            if (FIELDS.contains(field)) {
+                if (colon < 0) {
+                    throw new IllegalArgumentException("Missing distribution for " + field);
+                }
+                if (named.put(field, KeyDistribution.parse(trimmed.substring(colon + 1))) != null) {
+                    throw new IllegalArgumentException("Distribution for " + field + " given twice");
+                }
+            } else if (fallback == null) {
+                fallback = KeyDistribution.parse(trimmed);
+            } else {
+                throw new IllegalArgumentException("Only one distribution may apply to all fields; "
+                        + "prefix the others with a field name (" + String.join(", ", FIELDS) + ")");
+            }
+        }
+        if (fallback != null) {
+            for (String field : FIELDS) {
+                named.putIfAbsent(field, fallback);
+            }
+        }
+        named.values().removeIf(KeyDistribution::isUniform);
+        return named.isEmpty() ? UNIFORM : new FieldDistributions(named);
+    }
+
+    public KeyDistribution get(String field) {
+        return distributions.getOrDefault(field, KeyDistribution.UNIFORM);
+    }
+
+    public boolean isUniform() {
+        return distributions.isEmpty();
+    }
+
+    /**
+     * Sampler for a field over [0, n), or null when the field is uniform
+     * so callers can keep their plain draws
+     */
+    public IndexSampler sampler(String field, long n) {
+        KeyDistribution distribution = distributions.get(field);
+        return distribution != null ? distribution.sampler(n) : null;
+    }
+
+    /**
+     * Canonical spec listing the skewed fields in name order; empty when uniform
+     */
+    @Override
+    public String toString() {
+        return distributions.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FieldDistributions other && distributions.equals(other.distributions);
+    }
+
+    @Override
+    public int hashCode() {
+        return distributions.hashCode();
+    }
+}
@@ -0,0 +1,23 @@
+package com.maheshgaire.qaautomation.generation.distribution;
+
+import com.maheshgaire.qaautomation.generation.SplitMix64;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws indices in [0, n) from a fixed distribution. Index 0 is the most
+ * popular key unless the distribution says otherwise. Samplers are immutable
+ * and thread-safe; all state lives in the random generator passed in.
+ */
+@FunctionalInterface
+public interface IndexSampler {
+
+    long next(RandomGenerator random);
+
+    /**
+     * Index drawn from the stream with the given seed, so it is a pure function of the seed
+     */
+    default long at(long seed) {
+        return next(new SplitMix64().reseed(seed));
+    }
+}
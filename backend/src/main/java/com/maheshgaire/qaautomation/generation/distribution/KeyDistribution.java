@@ -0,0 +1,187 @@
+package com.maheshgaire.qaautomation.generation.distribution;
+
+import java.util.Locale;
+
+/**
+ * Popularity distribution over a key space, parsed from specs such as
+ * {@code zipf}, {@code zipf:1.2}, {@code hotspot:0.2:0.8}, {@code pareto:1.16}
+ * or {@code latest}. Samplers draw in O(1): small domains (up to
+ * {@value #ALIAS_LIMIT} keys) use an alias table built from the exact
+ * probabilities, larger ones sample by inversion or rejection-inversion.
+ */
+public final class KeyDistribution {
+
+    public static final KeyDistribution UNIFORM = new KeyDistribution(Kind.UNIFORM, 0, 0);
+
+    static final int ALIAS_LIMIT = 4096;
+
+    public enum Kind {
+        /** Every key equally likely */
+        UNIFORM,
+        /** Key k drawn with probability proportional to (k + 1)^-exponent; default exponent 0.99 */
+        ZIPF,
+        /** A fraction of the keys (default 0.2) receives a fraction of the draws (default 0.8) */
+        HOTSPOT,
+        /** Bounded Pareto with shape alpha (default 1.16, the 80/20 rule) */
+        PARETO,
+        /** Zipf favouring the highest, most recently created keys */
+        LATEST
+    }
+
+    private final Kind kind;
+    private final double first;
+    private final double second;
+
+    private KeyDistribution(Kind kind, double first, double second) {
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Distribution for a spec: a kind name optionally followed by ':'-separated parameters
+     */
+    public static KeyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        return switch (parts[0]) {
+            case "uniform" -> {
+                parameters(parts, 0);
+                yield UNIFORM;
+            }
+            case "zipf", "zipfian" -> new KeyDistribution(Kind.ZIPF, exponent(parts), 0);
+            case "latest" -> new KeyDistribution(Kind.LATEST, exponent(parts), 0);
+            case "hotspot" -> {
+                parameters(parts, 2);
+                double hotKeys = parameter(parts, 1, 0.2);
+                double hotDraws = parameter(parts, 2, 0.8);
+                if (!(hotKeys > 0 && hotKeys < 1) || !(hotDraws >= 0 && hotDraws <= 1)) {
+                    throw new IllegalArgumentException("hotspot needs 0 < hot key fraction < 1 and 0 <= hot draw fraction <= 1");
+                }
+                yield new KeyDistribution(Kind.HOTSPOT, hotKeys, hotDraws);
+            }
+            case "pareto" -> {
+                parameters(parts, 1);
+                double alpha = parameter(parts, 1, 1.16);
+                if (!(alpha > 0) || Double.isInfinite(alpha)) {
+                    throw new IllegalArgumentException("pareto shape must be positive");
+                }
+                yield new KeyDistribution(Kind.PARETO, alpha, 0);
+            }
+            default -> throw new IllegalArgumentException("Unknown distribution '" + parts[0]
+                    + "' (expected uniform, zipf, hotspot, pareto or latest)");
+        };
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isUniform() {
+        return kind == Kind.UNIFORM;
+    }
+
+    /**
+     * Sampler of indices in [0, n)
+     */
+    public IndexSampler sampler(long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Key space must hold at least one key");
+        }
+        if (kind == Kind.UNIFORM || n == 1) {
+            return random -> random.nextLong(n);
+        }
+        if (n <= ALIAS_LIMIT) {
+            double[] weights = new double[(int) n];
+            for (int k = 0; k < weights.length; k++) {
+                weights[k] = weight(k, n);
+            }
+            return new AliasSampler(weights);
+        }
+        return switch (kind) {
+            case ZIPF -> new ZipfSampler(n, first);
+            case LATEST -> {
+                ZipfSampler zipf = new ZipfSampler(n, first);
+                yield random -> n - 1 - zipf.next(random);
+            }
+            case HOTSPOT -> {
+                long hot = hotKeys(n);
+                double hotDraws = second;
+                yield random -> random.nextDouble() < hotDraws ? random.nextLong(hot) : hot + random.nextLong(n - hot);
+            }
+            case PARETO -> {
+                double alpha = first;
+                double mass = -Math.expm1(-alpha * Math.log(n + 1.0));
+                yield random -> {
+                    double x = Math.pow(1.0 - random.nextDouble() * mass, -1.0 / alpha);
+                    return Math.min(n - 1, Math.max(0, (long) x - 1));
+                };
+            }
+            case UNIFORM -> throw new IllegalStateException();
+        };
+    }
+
+    // Unnormalized probability of index k out of n
+    private double weight(long k, long n) {
+        return switch (kind) {
+            case ZIPF -> Math.pow(k + 1, -first);
+            case LATEST -> Math.pow(n - k, -first);
+            case HOTSPOT -> {
+                long hot = hotKeys(n);
+                yield k < hot ? second / hot : (1 - second) / (n - hot);
+            }
+            case PARETO -> Math.pow(k + 1, -first) - Math.pow(k + 2, -first);
+            case UNIFORM -> 1;
+        };
+    }
+
+    private long hotKeys(long n) {
+        return Math.min(n - 1, Math.max(1, Math.round(n * first)));
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case UNIFORM -> "uniform";
+            case ZIPF -> "zipf:" + first;
+            case LATEST -> "latest:" + first;
+            case HOTSPOT -> "hotspot:" + first + ":" + second;
+            case PARETO -> "pareto:" + first;
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof KeyDistribution other && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    private static double exponent(String[] parts) {
+        parameters(parts, 1);
+        double exponent = parameter(parts, 1, 0.99);
+        if (!(exponent > 0) || Double.isInfinite(exponent)) {
+            throw new IllegalArgumentException(parts[0] + " exponent must be positive");
+        }
+        return exponent;
+    }
+
+    private static void parameters(String[] parts, int max) {
+        if (parts.length - 1 > max) {
+            throw new IllegalArgumentException(parts[0] + " takes at most " + max + " parameter(s)");
+        }
+    }
+
+    private static double parameter(String[] parts, int index, double defaultValue) {
+        if (index >= parts.length || parts[index].isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(parts[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + parts[0] + " parameter: " + parts[index]);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.maheshgaire.qaautomation.generation.id;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+
+/**
+ * Source of time-ordered, collision-free entity IDs.
+ * <p>
+ * Live IDs combine the wall clock, a per-thread counter and a per-thread worker
+ * number, so concurrent threads never share state or collide. Seeded runs use
+ * {@link #idFor} instead, which encodes the record's position in the dataset and
+ * is therefore both reproducible and unique within it.
+ */
+public interface IdGenerator {
+
+    /**
+     * Strategy name as used in configuration
+     */
+    String name();
+
+    /**
+     * Next live ID, prefixed with the given text
+     */
+    String nextId(String prefix);
+
+    /**
+     * Deterministic ID for sub-entity {@code slot} of record {@code record}
+     */
+    String idFor(String prefix, long epochMillis, long record, int slot);
+
+    default String nextId() {
+        return nextId("");
+    }
+
+    /**
+     * Deterministic ID for seeded streams, live ID otherwise
+     */
+    default String next(String prefix, RandomStreams streams, long record, int slot) {
+        return streams.isSeeded()
+                ? idFor(prefix, RandomStreams.SEEDED_REFERENCE_EPOCH_MILLIS, record, slot)
+                : nextId(prefix);
+    }
+}
@@ -0,0 +1,134 @@
+package com.maheshgaire.qaautomation.generation.id;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.SplitMix64;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Built-in {@link IdGenerator} strategies and the per-thread clock state they share
+ */
+public final class IdGenerators {
+
+    static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** Snowflake worker numbers fit in 10 bits */
+    static final int SNOWFLAKE_WORKERS = 1 << 10;
+
+    private static final AtomicInteger WORKERS = new AtomicInteger();
+
+    // Clock of the thread holding each Snowflake worker number
+    private static final AtomicReferenceArray<ThreadClock> SNOWFLAKE_LEASES =
+            new AtomicReferenceArray<>(SNOWFLAKE_WORKERS);
+    private static final AtomicInteger NEXT_SNOWFLAKE_WORKER = new AtomicInteger();
+
+    private static final ThreadLocal<ThreadClock> CLOCKS = ThreadLocal.withInitial(ThreadClock::new);
+
+    private IdGenerators() {
+    }
+
+    /**
+     * Strategy by configuration name: uuidv7, ulid or snowflake
+     */
+    public static IdGenerator forStrategy(String strategy) {
+        return switch (strategy.toLowerCase(Locale.ROOT)) {
+            case "uuidv7", "uuid" -> uuidV7();
+            case "ulid" -> ulid();
+            case "snowflake" -> snowflake();
+            default -> throw new IllegalArgumentException("Unknown ID strategy: " + strategy);
+        };
+    }
+
+    public static IdGenerator uuidV7() {
+        return new UuidV7Generator();
+    }
+
+    public static IdGenerator ulid() {
+        return new UlidGenerator();
+    }
+
+    public static IdGenerator snowflake() {
+        return new SnowflakeGenerator();
+    }
+
+    static ThreadClock clock() {
+        return CLOCKS.get();
+    }
+
+    /**
+     * Lease a Snowflake worker number to the clock's thread: a free one, or one whose holder has
+     * terminated. The new holder continues from the last (millis, sequence) issued under the number,
+     * so its IDs never repeat the old holder's.
+     */
+    private static int leaseSnowflakeWorker(ThreadClock clock) {
+        int start = NEXT_SNOWFLAKE_WORKER.getAndIncrement();
+        for (int i = 0; i < SNOWFLAKE_WORKERS; i++) {
+            int worker = (start + i) & (SNOWFLAKE_WORKERS - 1);
+            ThreadClock holder = SNOWFLAKE_LEASES.get(worker);
+            // A terminated holder's last writes are visible once isAlive() returns false
+            if ((holder == null || !holder.owner.isAlive()) && SNOWFLAKE_LEASES.compareAndSet(worker, holder, clock)) {
+                if (holder != null) {
+                    clock.millis = holder.millis;
+                    clock.sequence = holder.sequence;
+                }
+                return worker;
+            }
+        }
+        throw new IllegalStateException("All " + SNOWFLAKE_WORKERS
+                + " Snowflake worker numbers are held by live threads; use the uuidv7 or ulid ID strategy");
+    }
+
+    /**
+     * Monotonic millisecond clock plus sequence counter owned by one thread.
+     * When the counter overflows within a millisecond the clock borrows the next
+     * millisecond, so IDs from one thread stay strictly increasing.
+     */
+    static final class ThreadClock {
+
+        final Thread owner = Thread.currentThread();
+        final int worker = WORKERS.getAndIncrement();
+        final SplitMix64 random = new SplitMix64().reseed(RandomStreams.mix64(System.nanoTime() ^ worker));
+        long millis;
+        long sequence;
+        private int snowflakeWorker = -1;
+
+        /**
+         * Snowflake worker number of this thread, leased on first use and unique among live threads
+         */
+        int snowflakeWorker() {
+            if (snowflakeWorker < 0) {
+                snowflakeWorker = leaseSnowflakeWorker(this);
+            }
+            return snowflakeWorker;
+        }
+
+        /**
+         * Advance to the next (millis, sequence) pair, with sequence kept below 2^sequenceBits
+         */
+        void tick(int sequenceBits) {
+            long now = System.currentTimeMillis();
+            if (now > millis) {
+                millis = now;
+                sequence = 0;
+            } else if (++sequence >>> sequenceBits != 0) {
+                millis++;
+                sequence = 0;
+            }
+        }
+    }
+
+    static void appendHex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+
+    static char[] withPrefix(String prefix, int length) {
+        char[] chars = new char[prefix.length() + length];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        return chars;
+    }
+}
@@ -0,0 +1,36 @@
+package com.maheshgaire.qaautomation.generation.id;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+
+/**
+ * Snowflake-style 63-bit IDs: 41 bits of millis since 2024-01-01, a 10-bit worker
+ * number and a 12-bit per-thread sequence, printed in decimal. Worker numbers are
+ * leased so no two live threads share one; a 1025th concurrently generating thread
+ * fails with an IllegalStateException rather than risk a duplicate.
+ */
+final class SnowflakeGenerator implements IdGenerator {
+
+    private static final long EPOCH = RandomStreams.SEEDED_REFERENCE_EPOCH_MILLIS;
+    private static final int SEQUENCE_BITS = 12;
+
+    @Override
+    public String name() {
+        return "snowflake";
+    }
+
+    @Override
+    public String nextId(String prefix) {
+        IdGenerators.ThreadClock clock = IdGenerators.clock();
+        int worker = clock.snowflakeWorker();
+        clock.tick(SEQUENCE_BITS);
+        long id = ((clock.millis - EPOCH) << 22) | ((long) worker << 12) | clock.sequence;
+        return prefix + id;
+    }
+
+    @Override
+    public String idFor(String prefix, long epochMillis, long record, int slot) {
+        // One millisecond per record keeps seeded IDs ordered by record; the slot takes the sequence bits
+        long id = ((epochMillis - EPOCH + record) << 22) | (slot & 0xfff);
+        return prefix + id;
+    }
+}
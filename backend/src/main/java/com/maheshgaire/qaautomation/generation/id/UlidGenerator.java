@@ -0,0 +1,52 @@
+package com.maheshgaire.qaautomation.generation.id;
+
+/**
+ * ULID: 48-bit Unix millis followed by 80 bits, Crockford base32 encoded.
+ * Live IDs fill the 80 bits with a 16-bit worker number, a 24-bit per-thread
+ * counter and 40 random bits.
+ */
+final class UlidGenerator implements IdGenerator {
+
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int COUNTER_BITS = 24;
+    private static final int LENGTH = 26;
+
+    @Override
+    public String name() {
+        return "ulid";
+    }
+
+    @Override
+    public String nextId(String prefix) {
+        IdGenerators.ThreadClock clock = IdGenerators.clock();
+        clock.tick(COUNTER_BITS);
+        long hi = (clock.millis << 16) | (clock.worker & 0xffff);
+        long lo = (clock.sequence << 40) | (clock.random.nextLong() & 0xffffffffffL);
+        return format(prefix, hi, lo);
+    }
+
+    @Override
+    public String idFor(String prefix, long epochMillis, long record, int slot) {
+        long hi = (epochMillis << 16) | ((record >>> 48) & 0xffff);
+        long lo = (record << 16) | (slot & 0xffff);
+        return format(prefix, hi, lo);
+    }
+
+    private static String format(String prefix, long hi, long lo) {
+        int p = prefix.length();
+        char[] chars = IdGenerators.withPrefix(prefix, LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            int shift = (LENGTH - 1 - i) * 5;
+            long bits;
+            if (shift >= 64) {
+                bits = hi >>> (shift - 64);
+            } else if (shift > 59) {
+                bits = (lo >>> shift) | (hi << (64 - shift));
+            } else {
+                bits = lo >>> shift;
+            }
+            chars[p + i] = CROCKFORD[(int) (bits & 31)];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,49 @@
+package com.maheshgaire.qaautomation.generation.id;
+
+/**
+ * RFC 9562 UUID version 7: 48-bit Unix millis, then a 12-bit per-thread counter,
+ * then a 16-bit worker number and 46 random bits
+ */
+final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long RANDOM_MASK = (1L << 46) - 1;
+
+    @Override
+    public String name() {
+        return "uuidv7";
+    }
+
+    @Override
+    public String nextId(String prefix) {
+        IdGenerators.ThreadClock clock = IdGenerators.clock();
+        clock.tick(COUNTER_BITS);
+        long randB = ((long) (clock.worker & 0xffff) << 46) | (clock.random.nextLong() & RANDOM_MASK);
+        return format(prefix, clock.millis, clock.sequence, randB);
+    }
+
+    @Override
+    public String idFor(String prefix, long epochMillis, long record, int slot) {
+        // 74 variable bits: the top 12 hold record bits 46..57, the rest record bits 0..45 and the slot
+        long randA = (record >>> 46) & 0xfff;
+        long randB = ((record & RANDOM_MASK) << 16) | (slot & 0xffff);
+        return format(prefix, epochMillis, randA, randB);
+    }
+
+    private static String format(String prefix, long millis, long randA, long randB) {
+        long msb = (millis << 16) | 0x7000L | (randA & 0xfff);
+        long lsb = 0x8000000000000000L | (randB & 0x3fffffffffffffffL);
+        int p = prefix.length();
+        char[] chars = IdGenerators.withPrefix(prefix, 36);
+        IdGenerators.appendHex(chars, p, msb >>> 32, 8);
+        chars[p + 8] = '-';
+        IdGenerators.appendHex(chars, p + 9, msb >>> 16, 4);
+        chars[p + 13] = '-';
+        IdGenerators.appendHex(chars, p + 14, msb, 4);
+        chars[p + 18] = '-';
+        IdGenerators.appendHex(chars, p + 19, lsb >>> 48, 4);
+        chars[p + 23] = '-';
+        IdGenerators.appendHex(chars, p + 24, lsb, 12);
+        return new String(chars);
+    }
+}
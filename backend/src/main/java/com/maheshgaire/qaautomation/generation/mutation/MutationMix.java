@@ -0,0 +1,80 @@
+package com.maheshgaire.qaautomation.generation.mutation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Relative weights of the mutation types in a stream, parsed from a spec such as
+ * {@code status:60,address:25,insert:10,delete:5}. Types not listed never occur.
+ */
+public final class MutationMix {
+
+    /** Default mix for orders: mostly status transitions */
+    public static final MutationMix ORDERS = parse("status:60,address:20,insert:15,delete:5");
+
+    /** Default mix for users, which have no status */
+    public static final MutationMix USERS = parse("address:60,insert:30,delete:10");
+
+    private final Map<MutationType, Double> weights;
+    private final MutationType[] types;
+    private final double[] cumulative;
+
+    private MutationMix(Map<MutationType, Double> weights) {
+        this.weights = weights;
+        this.types = weights.keySet().toArray(new MutationType[0]);
+        this.cumulative = new double[types.length];
+        double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        double sum = 0;
+        for (int i = 0; i < types.length; i++) {
+            sum += weights.get(types[i]);
+            cumulative[i] = sum / total;
+        }
+    }
+
+    /**
+     * Parse a mix; each entry is a type name and a non-negative weight
+     */
+    public static MutationMix parse(String spec) {
+        Map<MutationType, Double> weights = new EnumMap<>(MutationType.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mutation mix entries look like status:60, got '" + entry + "'");
+            }
+            MutationType type = MutationType.fromName(parts[0]);
+            double weight;
+            try {
+                weight = Double.parseDouble(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight for " + type.getName() + ": " + parts[1]);
+            }
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weight for " + type.getName() + " must not be negative");
+            }
+            if (weights.put(type, weight) != null) {
+                throw new IllegalArgumentException("Weight for " + type.getName() + " given twice");
+            }
+        }
+        weights.values().removeIf(weight -> weight == 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mutation mix needs at least one positive weight");
+        }
+        return new MutationMix(weights);
+    }
+
+    public boolean contains(MutationType type) {
+        return weights.containsKey(type);
+    }
+
+    /**
+     * Type for a uniform draw in [0, 1)
+     */
+    public MutationType pick(double uniform) {
+        for (int i = 0; i < types.length - 1; i++) {
+            if (uniform < cumulative[i]) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+}
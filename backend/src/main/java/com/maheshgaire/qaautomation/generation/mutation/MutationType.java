@@ -0,0 +1,39 @@
+package com.maheshgaire.qaautomation.generation.mutation;
+
+import java.util.Locale;
+
+/**
+ * Kind of change a mutation stream applies to its base dataset
+ */
+public enum MutationType {
+
+    /** A new entity appended after the base dataset */
+    INSERT("insert"),
+    /** An order moved one step along its status lifecycle */
+    STATUS("status"),
+    /** A new home address for a user or shipping address for an order */
+    ADDRESS("address"),
+    /** An entity marked as deleted; it receives no further changes */
+    DELETE("delete");
+
+    private final String name;
+
+    MutationType(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static MutationType fromName(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (MutationType type : values()) {
+            if (type.name.equals(normalized)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown mutation '" + name
+                + "' (expected insert, status, address or delete)");
+    }
+}
@@ -0,0 +1,81 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import java.util.List;
+
+import static com.maheshgaire.qaautomation.generation.plan.FieldGenerators.*;
+
+/**
+ * The built-in v1 test data templates
+ */
+public final class BuiltInPlans {
+
+    static final String[] FIRST_NAMES = {"John", "Jane", "Mike", "Sarah", "David", "Emma", "Chris", "Lisa"};
+    static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis"};
+    static final String[] PRODUCTS = {"Laptop", "Phone", "Tablet", "Monitor", "Keyboard", "Mouse", "Headphones", "Camera"};
+    static final String[] CITIES = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix", "Philadelphia", "San Antonio", "San Diego"};
+    static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "outlook.com", "company.com"};
+
+    private BuiltInPlans() {
+    }
+
+    public static List<RecordPlan> all() {
+        return List.of(user(), product(), order(), address(), payment());
+    }
+
+    /**
+     * Plan for a type nobody registered: a single explanatory message field
+     */
+    public static RecordPlan unknown(String type) {
+        return RecordPlan.builder(type)
+                .field("message", constant("Unknown type: " + type))
+                .build();
+    }
+
+    private static RecordPlan user() {
+        return RecordPlan.builder("user")
+                .field("firstName", pick(FIRST_NAMES))
+                .field("lastName", pick(LAST_NAMES))
+                .field("email", email(FIRST_NAMES, LAST_NAMES, EMAIL_DOMAINS))
+                .field("age", integer(18, 77))
+                .field("city", pick(CITIES))
+                .build();
+    }
+
+    private static RecordPlan product() {
+        return RecordPlan.builder("product")
+                .field("name", pick(PRODUCTS))
+                .field("price", amount(50, 1000))
+                .field("category", constant("Electronics"))
+                .field("inStock", bool())
+                .field("sku", prefixed("SKU-", 10000))
+                .build();
+    }
+
+    private static RecordPlan order() {
+        return RecordPlan.builder("order")
+                .field("orderId", prefixed("ORD-", 100000))
+                .field("customerId", prefixed("CUST-", 10000))
+                .field("total", amount(10, 500))
+                .field("status", pick("COMPLETED", "PENDING"))
+                .field("items", integer(1, 5))
+                .build();
+    }
+
+    private static RecordPlan address() {
+        return RecordPlan.builder("address")
+                .field("street", street(LAST_NAMES))
+                .field("city", pick(CITIES))
+                .field("zipCode", digits("", 5))
+                .field("country", constant("USA"))
+                .build();
+    }
+
+    private static RecordPlan payment() {
+        return RecordPlan.builder("payment")
+                .field("cardNumber", digits("**** **** **** ", 4))
+                .field("cardType", pick("VISA", "MASTERCARD"))
+                .field("amount", amount(10, 1000))
+                .field("currency", constant("USD"))
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces one field value per record, writing it into a typed slot
+ */
+public interface FieldGenerator {
+
+    FieldKind kind();
+
+    void generate(RandomGenerator random, RecordSlots slots, int slot);
+}
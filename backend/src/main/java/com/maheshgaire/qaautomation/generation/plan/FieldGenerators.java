@@ -0,0 +1,159 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import com.maheshgaire.qaautomation.generation.distribution.IndexSampler;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Factory for the field generators plans are compiled from
+ */
+public final class FieldGenerators {
+
+    private FieldGenerators() {
+    }
+
+    /**
+     * Uniform choice from a fixed set of values
+     */
+    public static FieldGenerator pick(String... values) {
+        String[] choices = values.clone();
+        return of(FieldKind.STRING, (random, slots, slot) ->
+                slots.setString(slot, choices[random.nextInt(choices.length)]));
+    }
+
+    /**
+     * Choice from a fixed set of values with the sampler's popularity; earlier values are drawn more often
+     */
+    public static FieldGenerator pick(IndexSampler sampler, String... values) {
+        String[] choices = values.clone();
+        return of(FieldKind.STRING, (random, slots, slot) ->
+                slots.setString(slot, choices[(int) sampler.next(random)]));
+    }
+
+    public static FieldGenerator constant(String value) {
+        return of(FieldKind.STRING, (random, slots, slot) -> slots.setString(slot, value));
+    }
+
+    /**
+     * Integer in [min, max]
+     */
+    public static FieldGenerator integer(long min, long max) {
+        long span = max - min + 1;
+        return of(FieldKind.LONG, (random, slots, slot) -> slots.setLong(slot, min + random.nextLong(span)));
+    }
+
+    /**
+     * Integer min + i, with the offset i drawn by the sampler
+     */
+    public static FieldGenerator integer(IndexSampler sampler, long min) {
+        return of(FieldKind.LONG, (random, slots, slot) -> slots.setLong(slot, min + sampler.next(random)));
+    }
+
+    /**
+     * Amount in [min, min + span) rounded to cents
+     */
+    public static FieldGenerator amount(double min, double span) {
+        return of(FieldKind.DOUBLE, (random, slots, slot) ->
+                slots.setDouble(slot, Math.round((random.nextDouble() * span + min) * 100.0) / 100.0));
+    }
+
+    public static FieldGenerator bool() {
+        return of(FieldKind.BOOLEAN, (random, slots, slot) -> slots.setBoolean(slot, random.nextBoolean()));
+    }
+
+    /**
+     * Prefix followed by an integer in [0, bound)
+     */
+    public static FieldGenerator prefixed(String prefix, int bound) {
+        return of(FieldKind.STRING, (random, slots, slot) -> slots.setString(slot, prefix + random.nextInt(bound)));
+    }
+
+    /**
+     * Prefix followed by an integer drawn by the sampler
+     */
+    public static FieldGenerator prefixed(IndexSampler sampler, String prefix) {
+        return of(FieldKind.STRING, (random, slots, slot) -> slots.setString(slot, prefix + sampler.next(random)));
+    }
+
+    /**
+     * Prefix followed by a zero-padded integer in [0, 10^width)
+     */
+    public static FieldGenerator digits(String prefix, int width) {
+        int bound = (int) Math.pow(10, width);
+        return of(FieldKind.STRING, (random, slots, slot) ->
+                slots.setString(slot, prefix + zeroPad(random.nextInt(bound), width)));
+    }
+
+    /**
+     * first.last@domain in lower case
+     */
+    public static FieldGenerator email(String[] firstNames, String[] lastNames, String[] domains) {
+        String[] first = lowerCase(firstNames);
+        String[] last = lowerCase(lastNames);
+        String[] at = domains.clone();
+        return of(FieldKind.STRING, (random, slots, slot) -> slots.setString(slot,
+                first[random.nextInt(first.length)] + "." + last[random.nextInt(last.length)]
+                        + "@" + at[random.nextInt(at.length)]));
+    }
+
+    /**
+     * House number and street name
+     */
+    public static FieldGenerator street(String[] streetNames) {
+        String[] names = streetNames.clone();
+        return of(FieldKind.STRING, (random, slots, slot) -> slots.setString(slot,
+                (random.nextInt(9999) + 1) + " " + names[random.nextInt(names.length)] + " St"));
+    }
+
+    /**
+     * Nested record generated by its own plan
+     */
+    public static FieldGenerator object(RecordPlan plan) {
+        return new NestedGenerator(plan);
+    }
+
+    static String zeroPad(int value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
+    }
+
+    private static String[] lowerCase(String[] values) {
+        String[] lower = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            lower[i] = values[i].toLowerCase();
+        }
+        return lower;
+    }
+
+    private static FieldGenerator of(FieldKind kind, SlotWriter writer) {
+        return new SimpleGenerator(kind, writer);
+    }
+
+    @FunctionalInterface
+    private interface SlotWriter {
+        void write(RandomGenerator random, RecordSlots slots, int slot);
+    }
+
+    private record SimpleGenerator(FieldKind kind, SlotWriter writer) implements FieldGenerator {
+        @Override
+        public void generate(RandomGenerator random, RecordSlots slots, int slot) {
+            writer.write(random, slots, slot);
+        }
+    }
+
+    record NestedGenerator(RecordPlan plan) implements FieldGenerator {
+        @Override
+        public FieldKind kind() {
+            return FieldKind.OBJECT;
+        }
+
+        @Override
+        public void generate(RandomGenerator random, RecordSlots slots, int slot) {
+            plan.fill(random, slots.getObject(slot));
+        }
+    }
+}
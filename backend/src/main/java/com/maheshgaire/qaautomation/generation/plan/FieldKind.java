@@ -0,0 +1,12 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+/**
+ * Storage class of a plan field, which decides the slot array its value lives in
+ */
+public enum FieldKind {
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    STRING,
+    OBJECT
+}
@@ -0,0 +1,256 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.unique.UniqueValues;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Record template compiled once into a fixed field layout. Generating a record
+ * fills a reusable {@link RecordSlots} and encoding writes the slots straight to
+ * a JsonGenerator using pre-encoded field names, so no per-record map is built.
+ * <p>
+ * Text fields may be marked unique; callers keep one {@link UniqueValues} per
+ * such field for a stream and pass the filled slots through {@link #claimUnique}.
+ * <p>
+ * {@link #project} compiles a plan writing only some of the fields. Fields share
+ * one random stream, so fields before the last selected one are still drawn to
+ * keep every value equal to the full record's, but they are not written, and
+ * fields after it are never generated.
+ */
+public final class RecordPlan {
+
+    private final String name;
+    private final String[] fieldNames;
+    private final SerializedString[] encodedNames;
+    private final FieldGenerator[] generators;
+    private final FieldKind[] kinds;
+    private final UniqueValues.Style[] uniqueStyles;
+    private final boolean hasUniqueFields;
+    /** Slots written to the output; null writes every slot */
+    private final boolean[] written;
+
+    private RecordPlan(String name, List<String> fieldNames, List<FieldGenerator> generators,
+                       List<UniqueValues.Style> uniqueStyles) {
+        this(name, fieldNames, generators, uniqueStyles, null);
+    }
+
+    private RecordPlan(String name, List<String> fieldNames, List<FieldGenerator> generators,
+                       List<UniqueValues.Style> uniqueStyles, boolean[] written) {
+        this.name = name;
+        this.written = written;
+        this.fieldNames = fieldNames.toArray(new String[0]);
+        this.generators = generators.toArray(new FieldGenerator[0]);
+        this.uniqueStyles = uniqueStyles.toArray(new UniqueValues.Style[0]);
+        this.hasUniqueFields = uniqueStyles.stream().anyMatch(Objects::nonNull);
+        this.encodedNames = new SerializedString[this.fieldNames.length];
+        this.kinds = new FieldKind[this.fieldNames.length];
+        for (int i = 0; i < this.fieldNames.length; i++) {
+            encodedNames[i] = new SerializedString(this.fieldNames[i]);
+            kinds[i] = this.generators[i].kind();
+        }
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return fieldNames.length;
+    }
+
+    public String fieldName(int slot) {
+        return fieldNames[slot];
+    }
+
+    public FieldKind kind(int slot) {
+        return kinds[slot];
+    }
+
+    /**
+     * Plan writing only the projected fields; an object field may be projected further
+     */
+    public RecordPlan project(FieldProjection projection) {
+        return project(projection, true);
+    }
+
+    // A nested plan may drop its trailing fields only when nothing after it draws from the shared stream
+    private RecordPlan project(FieldProjection projection, boolean truncate) {
+        if (projection.isAll()) {
+            return this;
+        }
+        List<String> objects = new ArrayList<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (kinds[i] == FieldKind.OBJECT) {
+                objects.add(fieldNames[i]);
+            }
+        }
+        projection.check(List.of(fieldNames), objects);
+        int last = -1;
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (projection.includes(fieldNames[i])) {
+                last = i;
+            }
+        }
+        int end = truncate ? last + 1 : fieldNames.length;
+        List<FieldGenerator> projected = new ArrayList<>();
+        List<UniqueValues.Style> styles = new ArrayList<>();
+        boolean[] selected = new boolean[end];
+        for (int i = 0; i < end; i++) {
+            selected[i] = projection.includes(fieldNames[i]);
+            FieldGenerator generator = generators[i];
+            if (selected[i] && generator instanceof FieldGenerators.NestedGenerator nested) {
+                generator = FieldGenerators.object(nested.plan().project(projection.nested(fieldNames[i]),
+                        truncate && i == last));
+            }
+            projected.add(generator);
+            styles.add(selected[i] ? uniqueStyles[i] : null);
+        }
+        return new RecordPlan(name, List.of(fieldNames).subList(0, end), projected, styles, selected);
+    }
+
+    /**
+     * Allocate slots for this plan, including nested records
+     */
+    public RecordSlots newSlots() {
+        RecordSlots slots = new RecordSlots(fieldNames.length);
+        for (int i = 0; i < generators.length; i++) {
+            if (generators[i] instanceof FieldGenerators.NestedGenerator nested) {
+                slots.refs[i] = nested.plan().newSlots();
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Generate one record into the given slots
+     */
+    public void fill(RandomGenerator random, RecordSlots slots) {
+        for (int i = 0; i < generators.length; i++) {
+            generators[i].generate(random, slots, i);
+        }
+    }
+
+    public boolean hasUniqueFields() {
+        return hasUniqueFields;
+    }
+
+    /**
+     * Fresh sets for the unique fields, indexed by slot; null when no field is unique
+     */
+    public UniqueValues[] newUniqueValues(long expectedRecords) {
+        if (!hasUniqueFields) {
+            return null;
+        }
+        UniqueValues[] values = new UniqueValues[uniqueStyles.length];
+        for (int i = 0; i < uniqueStyles.length; i++) {
+            if (uniqueStyles[i] != null) {
+                values[i] = new UniqueValues(uniqueStyles[i], expectedRecords);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Replace each unique field of the filled slots with a value not handed out before
+     */
+    public void claimUnique(RecordSlots slots, UniqueValues[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                slots.setString(i, values[i].claim(slots.getString(i)));
+            }
+        }
+    }
+
+    /**
+     * Write the record's fields into the current JSON object
+     */
+    public void writeFields(JsonGenerator generator, RecordSlots slots) throws IOException {
+        for (int i = 0; i < kinds.length; i++) {
+            if (written != null && !written[i]) {
+                continue;
+            }
+            generator.writeFieldName(encodedNames[i]);
+            switch (kinds[i]) {
+                case LONG -> generator.writeNumber(slots.longs[i]);
+                case DOUBLE -> generator.writeNumber(slots.doubles[i]);
+                case BOOLEAN -> generator.writeBoolean(slots.longs[i] != 0);
+                case STRING -> generator.writeString((String) slots.refs[i]);
+                case OBJECT -> {
+                    generator.writeStartObject();
+                    ((FieldGenerators.NestedGenerator) generators[i]).plan().writeFields(generator, (RecordSlots) slots.refs[i]);
+                    generator.writeEndObject();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy the record into a map, for callers that need a detached value
+     */
+    public Map<String, Object> toMap(RecordSlots slots) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < kinds.length; i++) {
+            if (written != null && !written[i]) {
+                continue;
+            }
+            Object value = switch (kinds[i]) {
+                case LONG -> slots.longs[i];
+                case DOUBLE -> slots.doubles[i];
+                case BOOLEAN -> slots.longs[i] != 0;
+                case STRING -> slots.refs[i];
+                case OBJECT -> ((FieldGenerators.NestedGenerator) generators[i]).plan().toMap((RecordSlots) slots.refs[i]);
+            };
+            values.put(fieldNames[i], value);
+        }
+        return values;
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private final List<String> fieldNames = new ArrayList<>();
+        private final List<FieldGenerator> generators = new ArrayList<>();
+        private final List<UniqueValues.Style> uniqueStyles = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder field(String fieldName, FieldGenerator generator) {
+            return field(fieldName, generator, null);
+        }
+
+        /**
+         * Add a field; a non-null style marks a text field whose values must not repeat
+         */
+        public Builder field(String fieldName, FieldGenerator generator, UniqueValues.Style unique) {
+            if (fieldNames.contains(fieldName)) {
+                throw new IllegalArgumentException("Duplicate field: " + fieldName);
+            }
+            if (unique != null && generator.kind() != FieldKind.STRING) {
+                throw new IllegalArgumentException("unique applies only to text fields");
+            }
+            fieldNames.add(fieldName);
+            generators.add(generator);
+            uniqueStyles.add(unique);
+            return this;
+        }
+
+        public RecordPlan build() {
+            return new RecordPlan(name, fieldNames, generators, uniqueStyles);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import com.maheshgaire.qaautomation.model.template.RecordTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Holds the compiled plans for the built-in templates, compiled once at startup,
+ * and for user-defined templates, compiled once per registered version.
+ */
+@Component
+public class RecordPlanRegistry {
+
+    private static final Pattern TEMPLATE_ID = Pattern.compile("[a-z0-9][a-z0-9_-]{0,63}");
+    // Fixed path segments under /templates that a template id would be shadowed by
+    private static final Set<String> RESERVED_IDS = Set.of("custom");
+
+    private final Map<String, RecordPlan> builtIns = new LinkedHashMap<>();
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+    public RecordPlanRegistry() {
+        for (RecordPlan plan : BuiltInPlans.all()) {
+            builtIns.put(plan.getName(), plan);
+        }
+    }
+
+    /**
+     * Plan for the given type; unknown types get a plan that reports the type as unknown
+     */
+    public RecordPlan plan(String type) {
+        String key = type.toLowerCase(Locale.ROOT);
+        RecordPlan plan = builtIns.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        CompiledTemplate compiled = templates.get(key);
+        return compiled != null ? compiled.plan() : BuiltInPlans.unknown(type);
+    }
+
+    /**
+     * Built-in names followed by registered template ids
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>(builtIns.keySet());
+        templates.keySet().stream().sorted().forEach(names::add);
+        return names;
+    }
+
+    /**
+     * Validate, compile and store a template. Re-registering an identical definition
+     * keeps the existing compiled plan and version; a changed definition gets the next version.
+     */
+    public RecordTemplate register(RecordTemplate template) {
+        if (template.getId() == null) {
+            throw new IllegalArgumentException("Template id is required");
+        }
+        String id = template.getId().toLowerCase(Locale.ROOT);
+        if (!TEMPLATE_ID.matcher(id).matches()) {
+            throw new IllegalArgumentException("Template id must be 1-64 characters of a-z, 0-9, '_' or '-'");
+        }
+        if (RESERVED_IDS.contains(id)) {
+            throw new IllegalArgumentException("Template id '" + id + "' is reserved");
+        }
+        if (builtIns.containsKey(id)) {
+            throw new IllegalStateException("Template '" + id + "' is built in and cannot be replaced");
+        }
+        template.setId(id);
+        return templates.compute(id, (key, existing) -> {
+            if (existing != null && existing.template().sameDefinition(template)) {
+                return existing;
+            }
+            RecordPlan plan = TemplateCompiler.compile(template);
+            RecordTemplate stored = copyOf(template);
+            stored.setVersion(existing != null ? existing.template().getVersion() + 1 : 1);
+            stored.setRegisteredAt(LocalDateTime.now());
+            return new CompiledTemplate(stored, plan);
+        }).template();
+    }
+
+    public Optional<RecordTemplate> template(String id) {
+        CompiledTemplate compiled = templates.get(id.toLowerCase(Locale.ROOT));
+        return Optional.ofNullable(compiled).map(CompiledTemplate::template);
+    }
+
+    public List<RecordTemplate> templates() {
+        return templates.values().stream()
+                .map(CompiledTemplate::template)
+                .sorted(Comparator.comparing(RecordTemplate::getId))
+                .toList();
+    }
+
+    public boolean unregister(String id) {
+        return templates.remove(id.toLowerCase(Locale.ROOT)) != null;
+    }
+
+    private static RecordTemplate copyOf(RecordTemplate template) {
+        RecordTemplate copy = new RecordTemplate();
+        copy.setId(template.getId());
+        copy.setDescription(template.getDescription());
+        copy.setFields(List.copyOf(template.getFields()));
+        return copy;
+    }
+
+    private record CompiledTemplate(RecordTemplate template, RecordPlan plan) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+/**
+ * Reusable value storage for one record of a {@link RecordPlan}. Numbers and
+ * booleans live in a primitive array so generating a record boxes nothing;
+ * strings and nested records live in the reference array.
+ * Not thread-safe: one instance per subscriber, overwritten for every record.
+ */
+public final class RecordSlots {
+
+    final long[] longs;
+    final double[] doubles;
+    final Object[] refs;
+
+    RecordSlots(int size) {
+        this.longs = new long[size];
+        this.doubles = new double[size];
+        this.refs = new Object[size];
+    }
+
+    public long getLong(int slot) {
+        return longs[slot];
+    }
+
+    public void setLong(int slot, long value) {
+        longs[slot] = value;
+    }
+
+    public double getDouble(int slot) {
+        return doubles[slot];
+    }
+
+    public void setDouble(int slot, double value) {
+        doubles[slot] = value;
+    }
+
+    public boolean getBoolean(int slot) {
+        return longs[slot] != 0;
+    }
+
+    public void setBoolean(int slot, boolean value) {
+        longs[slot] = value ? 1 : 0;
+    }
+
+    public String getString(int slot) {
+        return (String) refs[slot];
+    }
+
+    public void setString(int slot, String value) {
+        refs[slot] = value;
+    }
+
+    public RecordSlots getObject(int slot) {
+        return (RecordSlots) refs[slot];
+    }
+}
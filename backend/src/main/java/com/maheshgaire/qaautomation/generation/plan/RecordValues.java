@@ -0,0 +1,59 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One generated record detached from its generator: the plan and slots of its
+ * own. Any ObjectMapper (JSON, Smile, CBOR, token buffers) serializes it
+ * straight from the slots through {@link RecordPlan#writeFields}, so encoding
+ * builds no map and boxes no numbers. Reading it as a map copies the values
+ * into one on first access.
+ */
+@JsonSerialize(using = RecordValues.Serializer.class)
+public final class RecordValues extends AbstractMap<String, Object> {
+
+    private final RecordPlan plan;
+    private final RecordSlots slots;
+    private Map<String, Object> values;
+
+    /**
+     * Values of the record in the given slots, which the caller hands over and no longer writes
+     */
+    public RecordValues(RecordPlan plan, RecordSlots slots) {
+        this.plan = plan;
+        this.slots = slots;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (values == null) {
+            values = plan.toMap(slots);
+        }
+        return values.entrySet();
+    }
+
+    public static final class Serializer extends StdSerializer<RecordValues> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Serializer() {
+            super(RecordValues.class);
+        }
+
+        @Override
+        public void serialize(RecordValues record, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(record);
+            record.plan.writeFields(gen, record.slots);
+            gen.writeEndObject();
+        }
+    }
+}
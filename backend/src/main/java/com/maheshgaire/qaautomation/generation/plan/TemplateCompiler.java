@@ -0,0 +1,158 @@
+package com.maheshgaire.qaautomation.generation.plan;
+
+import com.maheshgaire.qaautomation.generation.distribution.IndexSampler;
+import com.maheshgaire.qaautomation.generation.distribution.KeyDistribution;
+import com.maheshgaire.qaautomation.generation.unique.UniqueValues;
+import com.maheshgaire.qaautomation.model.template.RecordTemplate;
+import com.maheshgaire.qaautomation.model.template.TemplateField;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.maheshgaire.qaautomation.generation.plan.FieldGenerators.*;
+
+/**
+ * Validates user-defined templates and compiles them into {@link RecordPlan}s.
+ * Invalid templates are rejected with an IllegalArgumentException naming the field.
+ */
+public final class TemplateCompiler {
+
+    static final int MAX_FIELDS = 200;
+    static final int MAX_DEPTH = 5;
+    private static final int MAX_DIGITS = 9;
+    private static final Set<String> SKEWABLE = Set.of("pick", "integer", "prefixed");
+
+    private TemplateCompiler() {
+    }
+
+    public static RecordPlan compile(RecordTemplate template) {
+        return compileFields(template.getId(), template.getFields(), "", 1);
+    }
+
+    private static RecordPlan compileFields(String name, List<TemplateField> fields, String path, int depth) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException(path.isEmpty()
+                    ? "Template must define at least one field" : "object must define at least one field");
+        }
+        if (fields.size() > MAX_FIELDS) {
+            throw new IllegalArgumentException("Template objects may define at most " + MAX_FIELDS + " fields");
+        }
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Objects may be nested at most " + MAX_DEPTH + " levels deep");
+        }
+        RecordPlan.Builder builder = RecordPlan.builder(name);
+        for (TemplateField field : fields) {
+            if (field == null || field.getName() == null || field.getName().isBlank()) {
+                throw new IllegalArgumentException("Every field needs a name");
+            }
+            String fieldPath = path.isEmpty() ? field.getName() : path + "." + field.getName();
+            try {
+                builder.field(field.getName(), compileField(field, fieldPath, depth), uniqueStyle(field, depth));
+            } catch (IllegalArgumentException e) {
+                throw e.getMessage().startsWith("Field '") ? e
+                        : new IllegalArgumentException("Field '" + fieldPath + "': " + e.getMessage());
+            }
+        }
+        return builder.build();
+    }
+
+    private static FieldGenerator compileField(TemplateField field, String path, int depth) {
+        if (field.getGenerator() == null) {
+            throw new IllegalArgumentException("generator is required");
+        }
+        String generator = field.getGenerator().toLowerCase(Locale.ROOT);
+        if (field.getDistribution() != null && !SKEWABLE.contains(generator)) {
+            throw new IllegalArgumentException("distribution applies only to pick, integer and prefixed");
+        }
+        return switch (generator) {
+            case "pick" -> {
+                if (field.getValues() == null || field.getValues().isEmpty()) {
+                    throw new IllegalArgumentException("pick requires non-empty values");
+                }
+                String[] values = field.getValues().toArray(new String[0]);
+                IndexSampler sampler = sampler(field, values.length);
+                yield sampler != null ? pick(sampler, values) : pick(values);
+            }
+            case "constant" -> constant(require(field.getValue(), "constant requires value"));
+            case "integer" -> {
+                long min = wholeNumber(require(field.getMin(), "integer requires min"), "min");
+                long max = wholeNumber(require(field.getMax(), "integer requires max"), "max");
+                if (min > max) {
+                    throw new IllegalArgumentException("min must not exceed max");
+                }
+                IndexSampler sampler = sampler(field, max - min + 1);
+                yield sampler != null ? integer(sampler, min) : integer(min, max);
+            }
+            case "decimal" -> {
+                double min = require(field.getMin(), "decimal requires min");
+                double max = require(field.getMax(), "decimal requires max");
+                if (min > max) {
+                    throw new IllegalArgumentException("min must not exceed max");
+                }
+                yield amount(min, max - min);
+            }
+            case "boolean" -> bool();
+            case "prefixed" -> {
+                long bound = wholeNumber(require(field.getMax(), "prefixed requires max"), "max");
+                if (bound < 1 || bound > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("max must be between 1 and " + Integer.MAX_VALUE);
+                }
+                String prefix = field.getPrefix() != null ? field.getPrefix() : "";
+                IndexSampler sampler = sampler(field, bound);
+                yield sampler != null ? prefixed(sampler, prefix) : prefixed(prefix, (int) bound);
+            }
+            case "digits" -> {
+                int length = require(field.getLength(), "digits requires length");
+                if (length < 1 || length > MAX_DIGITS) {
+                    throw new IllegalArgumentException("length must be between 1 and " + MAX_DIGITS);
+                }
+                yield digits(field.getPrefix() != null ? field.getPrefix() : "", length);
+            }
+            case "firstname" -> pick(BuiltInPlans.FIRST_NAMES);
+            case "lastname" -> pick(BuiltInPlans.LAST_NAMES);
+            case "email" -> email(BuiltInPlans.FIRST_NAMES, BuiltInPlans.LAST_NAMES, BuiltInPlans.EMAIL_DOMAINS);
+            case "city" -> pick(BuiltInPlans.CITIES);
+            case "street" -> street(BuiltInPlans.LAST_NAMES);
+            case "object" -> object(compileFields(field.getName(), field.getFields(), path, depth + 1));
+            default -> throw new IllegalArgumentException("unknown generator '" + field.getGenerator() + "'");
+        };
+    }
+
+    // Suffix placement for a unique field, null when the field may repeat
+    private static UniqueValues.Style uniqueStyle(TemplateField field, int depth) {
+        if (!Boolean.TRUE.equals(field.getUnique())) {
+            return null;
+        }
+        if (depth > 1) {
+            throw new IllegalArgumentException("unique applies only to top-level fields");
+        }
+        if (field.getDistribution() != null) {
+            throw new IllegalArgumentException("unique cannot be combined with distribution");
+        }
+        return "email".equalsIgnoreCase(field.getGenerator()) ? UniqueValues.Style.EMAIL : UniqueValues.Style.SUFFIX;
+    }
+
+    // Sampler for the field's distribution over n values; null for uniform so the plain generators are used
+    private static IndexSampler sampler(TemplateField field, long n) {
+        if (field.getDistribution() == null || field.getDistribution().isBlank()) {
+            return null;
+        }
+        KeyDistribution distribution = KeyDistribution.parse(field.getDistribution());
+        return distribution.isUniform() ? null : distribution.sampler(n);
+    }
+
+    private static <T> T require(T value, String message) {
+        if (value == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return value;
+    }
+
+    private static long wholeNumber(double value, String name) {
+        if (value != Math.rint(value) || Math.abs(value) > 1e15) {
+            throw new IllegalArgumentException(name + " must be a whole number");
+        }
+        return (long) value;
+    }
+}
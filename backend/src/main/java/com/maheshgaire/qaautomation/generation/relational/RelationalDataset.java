@@ -0,0 +1,283 @@
+package com.maheshgaire.qaautomation.generation.relational;
+
+import com.maheshgaire.qaautomation.generation.DictionarySnapshot;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.SeededFaker;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.distribution.IndexSampler;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.model.Money;
+import net.datafaker.Faker;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A multi-table dataset in which every row is a pure function of (seed, table, row index).
+ * <p>
+ * Primary keys are 1-based row positions, so each table can be generated on its
+ * own, in any order and split into any index ranges, and foreign keys always
+ * point at rows that exist in the parent table:
+ * <ul>
+ *   <li>orders.user_id references users, sampled uniformly unless a
+ *       {@link FieldDistributions#USER_ID} distribution skews it towards hot users</li>
+ *   <li>order_items.order_id references orders; order {@code o} owns item ids
+ *       {@code o * maxItemsPerOrder + 1 ..}, so item ids are disjoint per order</li>
+ *   <li>order_items.product_id references products (optionally skewed by
+ *       {@link FieldDistributions#PRODUCT_ID}); the unit price is the product's price</li>
+ *   <li>payments has one row per order, with payment_id equal to order_id</li>
+ * </ul>
+ * Order totals and payment amounts equal the sum of the order's items, and
+ * orders are placed after the user was created.
+ */
+public final class RelationalDataset {
+
+    public static final int MAX_ITEMS_PER_ORDER = 100;
+
+    // Child streams of a row
+    private static final long ROW_VALUES = 1;
+    private static final long ROW_CREATED = 2;
+    private static final long ROW_PRICE = 3;
+    private static final long ROW_PARENT = 4;
+    private static final long ROW_ITEMS = 5;
+    private static final long ROW_OFFSET = 6;
+    private static final long ROW_CATEGORY = 7;
+
+    private static final long DAY_MINUTES = 24 * 60;
+
+    private static final String[] ORDER_STATUSES = {"pending", "confirmed", "processing", "shipped", "delivered", "cancelled"};
+    private static final String[] PAYMENT_METHODS = {"credit_card", "debit_card", "paypal", "apple_pay", "google_pay", "bank_transfer"};
+    private static final String[] CARD_TYPES = {"Visa", "MasterCard", "American Express", "Discover"};
+    private static final String[] PAYMENT_STATUSES = {"pending", "completed", "failed", "refunded"};
+    private static final String[] PROCESSORS = {"Stripe", "PayPal", "Square", "Braintree"};
+    private static final String[] CATEGORIES = {"Electronics", "Clothing", "Books", "Home & Garden", "Sports", "Toys", "Beauty", "Food"};
+
+    private final long seed;
+    private final long users;
+    private final long products;
+    private final long orders;
+    private final int maxItemsPerOrder;
+    private final DictionarySnapshot dictionary;
+    private final IdGenerator idGenerator;
+    private final FieldDistributions distributions;
+    private final IndexSampler userSampler;
+    private final IndexSampler productSampler;
+    private final IndexSampler categorySampler;
+    private final long[] tableSeeds;
+
+    public RelationalDataset(long seed, long users, long products, long orders, int maxItemsPerOrder,
+                             DictionarySnapshot dictionary, IdGenerator idGenerator) {
+        this(seed, users, products, orders, maxItemsPerOrder, FieldDistributions.UNIFORM, dictionary, idGenerator);
+    }
+
+    /**
+     * Dataset whose user, product and category references follow the given distributions
+     */
+    public RelationalDataset(long seed, long users, long products, long orders, int maxItemsPerOrder,
+                             FieldDistributions distributions, DictionarySnapshot dictionary,
+                             IdGenerator idGenerator) {
+        if (users < 1 || products < 1 || orders < 0) {
+            throw new IllegalArgumentException("users and products must be at least 1, orders at least 0");
+        }
+        if (maxItemsPerOrder < 1 || maxItemsPerOrder > MAX_ITEMS_PER_ORDER) {
+            throw new IllegalArgumentException("maxItemsPerOrder must be between 1 and " + MAX_ITEMS_PER_ORDER);
+        }
+        this.seed = seed;
+        this.users = users;
+        this.products = products;
+        this.orders = orders;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.dictionary = dictionary;
+        this.idGenerator = idGenerator;
+        this.distributions = distributions;
+        this.userSampler = distributions.sampler(FieldDistributions.USER_ID, users);
+        this.productSampler = distributions.sampler(FieldDistributions.PRODUCT_ID, products);
+        this.categorySampler = distributions.sampler(FieldDistributions.CATEGORY, CATEGORIES.length);
+        this.tableSeeds = new long[RelationalTable.values().length];
+        for (RelationalTable table : RelationalTable.values()) {
+            tableSeeds[table.ordinal()] = RandomStreams.child(seed, table.ordinal() + 1);
+        }
+    }
+
+    /**
+     * Number of indices a table is generated over. Order items are generated per
+     * order, so their row count is only bounded by {@code orders * maxItemsPerOrder}.
+     */
+    public long indexCount(RelationalTable table) {
+        return switch (table) {
+            case USERS -> users;
+            case PRODUCTS -> products;
+            case ORDERS, ORDER_ITEMS, PAYMENTS -> orders;
+        };
+    }
+
+    public TableRow user(SeededFaker seededFaker, long index) {
+        long rowSeed = rowSeed(RelationalTable.USERS, index);
+        Faker faker = seededFaker.at(rowSeed, ROW_VALUES);
+        String firstName = dictionary.firstNames().pick(faker);
+        String lastName = dictionary.lastNames().pick(faker);
+        String email = (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z.]", "")
+                + "." + (index + 1) + "@" + dictionary.domains().pick(faker);
+        return new TableRow(RelationalTable.USERS,
+                index + 1,
+                firstName,
+                lastName,
+                email,
+                faker.phoneNumber().cellPhone(),
+                dictionary.cities().pick(faker),
+                dictionary.states().pick(faker),
+                dictionary.countries().pick(faker),
+                timestamp(userCreatedMinute(index)));
+    }
+
+    public TableRow product(SeededFaker seededFaker, long index) {
+        long rowSeed = rowSeed(RelationalTable.PRODUCTS, index);
+        Faker faker = seededFaker.at(rowSeed, ROW_VALUES);
+        String name = dictionary.productNames().pick(faker);
+        String letters = name.replaceAll("[^A-Za-z0-9]", "");
+        String sku = letters.substring(0, Math.min(6, letters.length())).toUpperCase() + "-" + (index + 1);
+        return new TableRow(RelationalTable.PRODUCTS,
+                index + 1,
+                name,
+                sku,
+                categorySampler != null
+                        ? CATEGORIES[(int) categorySampler.at(RandomStreams.child(rowSeed, ROW_CATEGORY))]
+                        : CATEGORIES[faker.random().nextInt(CATEGORIES.length)],
+                cents(productPriceCents(index)));
+    }
+
+    public TableRow order(SeededFaker seededFaker, long index) {
+        long rowSeed = rowSeed(RelationalTable.ORDERS, index);
+        long userIndex = userIndex(rowSeed);
+        List<TableRow> items = orderItems(seededFaker, index);
+        Faker faker = seededFaker.at(rowSeed, ROW_VALUES);
+        return new TableRow(RelationalTable.ORDERS,
+                index + 1,
+                userIndex + 1,
+                ORDER_STATUSES[faker.random().nextInt(ORDER_STATUSES.length)],
+                items.size(),
+                total(items),
+                timestamp(orderCreatedMinute(index, userIndex)));
+    }
+
+    /**
+     * All items of one order; item ids are {@code orderIndex * maxItemsPerOrder + position + 1}
+     */
+    public List<TableRow> orderItems(SeededFaker seededFaker, long orderIndex) {
+        long itemsSeed = RandomStreams.child(rowSeed(RelationalTable.ORDERS, orderIndex), ROW_ITEMS);
+        int count = 1 + (int) draw(itemsSeed, 0, maxItemsPerOrder);
+        List<TableRow> items = new ArrayList<>(count);
+        for (int position = 0; position < count; position++) {
+            long itemSeed = RandomStreams.child(itemsSeed, position + 1);
+            long productIndex = productSampler != null
+                    ? productSampler.at(RandomStreams.child(itemSeed, ROW_PARENT))
+                    : draw(itemSeed, ROW_PARENT, products);
+            int quantity = 1 + (int) draw(itemSeed, ROW_VALUES, 4);
+            long unitCents = productPriceCents(productIndex);
+            items.add(new TableRow(RelationalTable.ORDER_ITEMS,
+                    orderIndex * maxItemsPerOrder + position + 1,
+                    orderIndex + 1,
+                    productIndex + 1,
+                    quantity,
+                    cents(unitCents),
+                    cents(unitCents * quantity)));
+        }
+        return items;
+    }
+
+    public TableRow payment(SeededFaker seededFaker, long orderIndex) {
+        List<TableRow> items = orderItems(seededFaker, orderIndex);
+        long userIndex = userIndex(rowSeed(RelationalTable.ORDERS, orderIndex));
+        long paidMinute = orderCreatedMinute(orderIndex, userIndex)
+                + draw(rowSeed(RelationalTable.PAYMENTS, orderIndex), ROW_CREATED, 120);
+        Faker faker = seededFaker.at(rowSeed(RelationalTable.PAYMENTS, orderIndex), ROW_VALUES);
+        return new TableRow(RelationalTable.PAYMENTS,
+                orderIndex + 1,
+                orderIndex + 1,
+                PAYMENT_METHODS[faker.random().nextInt(PAYMENT_METHODS.length)],
+                CARD_TYPES[faker.random().nextInt(CARD_TYPES.length)],
+                PAYMENT_STATUSES[faker.random().nextInt(PAYMENT_STATUSES.length)],
+                total(items),
+                PROCESSORS[faker.random().nextInt(PROCESSORS.length)],
+                idGenerator.idFor("txn_", epochMillis(paidMinute), orderIndex, 0),
+                timestamp(paidMinute));
+    }
+
+    // Getters
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public long getProducts() {
+        return products;
+    }
+
+    public long getOrders() {
+        return orders;
+    }
+
+    public int getMaxItemsPerOrder() {
+        return maxItemsPerOrder;
+    }
+
+    public FieldDistributions getDistributions() {
+        return distributions;
+    }
+
+    private long rowSeed(RelationalTable table, long index) {
+        return RandomStreams.child(tableSeeds[table.ordinal()], index);
+    }
+
+    private long userIndex(long orderRowSeed) {
+        return userSampler != null
+                ? userSampler.at(RandomStreams.child(orderRowSeed, ROW_PARENT))
+                : draw(orderRowSeed, ROW_PARENT, users);
+    }
+
+    private long productPriceCents(long productIndex) {
+        return 500 + draw(rowSeed(RelationalTable.PRODUCTS, productIndex), ROW_PRICE, 99_501);
+    }
+
+    // Minutes before the reference time: users signed up over the last two years
+    private long userCreatedMinute(long userIndex) {
+        return -DAY_MINUTES * 30 - draw(rowSeed(RelationalTable.USERS, userIndex), ROW_CREATED, DAY_MINUTES * 700);
+    }
+
+    // Orders are placed within 30 days after their user signed up
+    private long orderCreatedMinute(long orderIndex, long userIndex) {
+        return userCreatedMinute(userIndex)
+                + draw(rowSeed(RelationalTable.ORDERS, orderIndex), ROW_OFFSET, DAY_MINUTES * 30);
+    }
+
+    private static long draw(long parentSeed, long stream, long bound) {
+        return Long.remainderUnsigned(RandomStreams.child(parentSeed, stream), bound);
+    }
+
+    private static Money total(List<TableRow> items) {
+        long total = 0;
+        for (TableRow item : items) {
+            total += ((Money) item.get(5)).getMinorUnits();
+        }
+        return cents(total);
+    }
+
+    private static Money cents(long cents) {
+        return Money.ofMinor(cents, null);
+    }
+
+    private static long epochMillis(long minute) {
+        return RandomStreams.SEEDED_REFERENCE_EPOCH_MILLIS + minute * 60_000;
+    }
+
+    private static String timestamp(long minute) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                LocalDateTime.ofEpochSecond(epochMillis(minute) / 1000, 0, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,98 @@
+package com.maheshgaire.qaautomation.generation.relational;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.maheshgaire.qaautomation.seeding.SqlTable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tables of the relational dataset, with their columns in output order.
+ * The first column of every table is its numeric primary key.
+ */
+public enum RelationalTable implements SqlTable {
+
+    USERS("users", "user_id BIGINT", "first_name VARCHAR(100)", "last_name VARCHAR(100)", "email VARCHAR(255)",
+            "phone VARCHAR(40)", "city VARCHAR(100)", "state VARCHAR(100)", "country VARCHAR(100)",
+            "created_at TIMESTAMP"),
+    PRODUCTS("products", "product_id BIGINT", "name VARCHAR(255)", "sku VARCHAR(40)", "category VARCHAR(40)",
+            "unit_price DECIMAL(14,2)"),
+    ORDERS("orders", "order_id BIGINT", "user_id BIGINT", "status VARCHAR(20)", "item_count INTEGER",
+            "total_amount DECIMAL(14,2)", "created_at TIMESTAMP"),
+    ORDER_ITEMS("order_items", "order_item_id BIGINT", "order_id BIGINT", "product_id BIGINT", "quantity INTEGER",
+            "unit_price DECIMAL(14,2)", "total_price DECIMAL(14,2)"),
+    PAYMENTS("payments", "payment_id BIGINT", "order_id BIGINT", "method VARCHAR(40)", "card_type VARCHAR(40)",
+            "status VARCHAR(20)", "amount DECIMAL(14,2)", "processor VARCHAR(40)", "transaction_id VARCHAR(64)",
+            "paid_at TIMESTAMP");
+
+    private final String tableName;
+    private final String[] columns;
+    private final String[] columnTypes;
+    private final SerializedString[] encodedColumns;
+
+    /**
+     * Columns are given as "name TYPE" with the SQL type used in DDL
+     */
+    RelationalTable(String tableName, String... definitions) {
+        this.tableName = tableName;
+        this.columns = new String[definitions.length];
+        this.columnTypes = new String[definitions.length];
+        for (int i = 0; i < definitions.length; i++) {
+            int space = definitions[i].indexOf(' ');
+            columns[i] = definitions[i].substring(0, space);
+            columnTypes[i] = definitions[i].substring(space + 1);
+        }
+        this.encodedColumns = Arrays.stream(columns).map(SerializedString::new).toArray(SerializedString[]::new);
+    }
+
+    /**
+     * Table for a name as used in URLs; dashes are accepted for underscores
+     */
+    public static RelationalTable fromName(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT).replace('-', '_');
+        for (RelationalTable table : values()) {
+            if (table.tableName.equals(normalized)) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("Unknown table: " + name);
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return List.of(columns);
+    }
+
+    @Override
+    public int columnCount() {
+        return columns.length;
+    }
+
+    public String column(int index) {
+        return columns[index];
+    }
+
+    @Override
+    public String columnName(int index) {
+        return columns[index];
+    }
+
+    @Override
+    public String columnType(int index) {
+        return columnTypes[index];
+    }
+
+    @Override
+    public List<String> primaryKey() {
+        return List.of(columns[0]);
+    }
+
+    SerializedString encodedColumn(int index) {
+        return encodedColumns[index];
+    }
+}
@@ -0,0 +1,80 @@
+package com.maheshgaire.qaautomation.generation.relational;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.maheshgaire.qaautomation.model.Money;
+
+import java.io.IOException;
+
+/**
+ * One row of a relational table: column values in the table's column order.
+ * Serializes as a flat JSON object keyed by column name.
+ */
+public final class TableRow extends JsonSerializable.Base {
+
+    private final RelationalTable table;
+    private final Object[] values;
+
+    TableRow(RelationalTable table, Object... values) {
+        if (values.length != table.columnCount()) {
+            throw new IllegalArgumentException("Expected " + table.columnCount() + " values for "
+                    + table.getTableName() + ", got " + values.length);
+        }
+        this.table = table;
+        this.values = values;
+    }
+
+    public RelationalTable getTable() {
+        return table;
+    }
+
+    public Object get(int column) {
+        return values[column];
+    }
+
+    /**
+     * All column values in table order; the row's own array, so callers must not modify it
+     */
+    public Object[] values() {
+        return values;
+    }
+
+    /**
+     * Value of the numeric primary key
+     */
+    public long key() {
+        return (Long) values[0];
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            generator.writeFieldName(table.encodedColumn(i));
+            writeValue(generator, values[i]);
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        serialize(generator, provider);
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Money money) {
+            money.writeTo(generator);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.maheshgaire.qaautomation.generation.unique;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Set of 64-bit fingerprints kept off-heap: a linear-probing table of raw longs
+ * in direct buffers. There are no per-key objects; memory is about 11 to 22
+ * bytes per key depending on where the table is in its growth cycle.
+ * <p>
+ * Not thread-safe.
+ */
+public final class FingerprintSet {
+
+    static final int MIN_CAPACITY = 1 << 10;
+    static final long MAX_CAPACITY = 1L << 32;
+    private static final double MAX_LOAD = 0.75;
+
+    private static final long EMPTY = 0;
+    // Stands in for a zero fingerprint, which would read as an empty slot
+    private static final long ZERO = 0x9e3779b97f4a7c15L;
+    private static final long FIBONACCI = 0x9e3779b97f4a7c15L;
+
+    private OffHeapLongs table;
+    private int slotShift;
+    private long mask;
+    private long threshold;
+    private long size;
+
+    public FingerprintSet(long expectedSize) {
+        long capacity = MIN_CAPACITY;
+        while (capacity * MAX_LOAD < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Add a fingerprint; false when it was already present
+     */
+    public boolean add(long fingerprint) {
+        long key = fingerprint == EMPTY ? ZERO : fingerprint;
+        long slot = (key * FIBONACCI) >>> slotShift;
+        for (long existing = table.get(slot); existing != EMPTY; existing = table.get(slot)) {
+            if (existing == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table.set(slot, key);
+        if (++size > threshold) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long fingerprint) {
+        long key = fingerprint == EMPTY ? ZERO : fingerprint;
+        long slot = (key * FIBONACCI) >>> slotShift;
+        for (long existing = table.get(slot); existing != EMPTY; existing = table.get(slot)) {
+            if (existing == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Off-heap bytes held by the table
+     */
+    public long memoryBytes() {
+        return table.bytes();
+    }
+
+    private void allocate(long capacity) {
+        table = new OffHeapLongs(capacity);
+        slotShift = 64 - Long.numberOfTrailingZeros(capacity);
+        mask = capacity - 1;
+        threshold = (long) (capacity * MAX_LOAD);
+    }
+
+    private void grow() {
+        if (table.length() >= MAX_CAPACITY) {
+            throw new IllegalStateException("Unique value set is full at " + size + " keys");
+        }
+        OffHeapLongs old = table;
+        allocate(old.length() << 1);
+        for (long i = 0; i < old.length(); i++) {
+            long key = old.get(i);
+            if (key != EMPTY) {
+                long slot = (key * FIBONACCI) >>> slotShift;
+                while (table.get(slot) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table.set(slot, key);
+            }
+        }
+    }
+
+    /**
+     * Power-of-two array of longs spread over direct buffers of at most 8 MB each
+     */
+    private static final class OffHeapLongs {
+
+        private static final int PAGE_SHIFT = 20;
+
+        private final LongBuffer[] pages;
+        private final long length;
+        private final int pageShift;
+        private final long pageMask;
+
+        private OffHeapLongs(long length) {
+            this.length = length;
+            this.pageShift = Math.min(PAGE_SHIFT, Long.numberOfTrailingZeros(length));
+            this.pageMask = (1L << pageShift) - 1;
+            this.pages = new LongBuffer[(int) (length >>> pageShift)];
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = ByteBuffer.allocateDirect(Long.BYTES << pageShift)
+                        .order(ByteOrder.nativeOrder())
+                        .asLongBuffer();
+            }
+        }
+
+        long get(long index) {
+            return pages[(int) (index >>> pageShift)].get((int) (index & pageMask));
+        }
+
+        void set(long index, long value) {
+            pages[(int) (index >>> pageShift)].put((int) (index & pageMask), value);
+        }
+
+        long length() {
+            return length;
+        }
+
+        long bytes() {
+            return length * Long.BYTES;
+        }
+    }
+}
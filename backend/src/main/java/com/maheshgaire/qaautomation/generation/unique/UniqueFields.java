@@ -0,0 +1,93 @@
+package com.maheshgaire.qaautomation.generation.unique;
+
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fields of the enhanced models that must not repeat within one generated
+ * stream, parsed from a comma-separated list such as {@code email,sku}.
+ * {@code true} or {@code all} selects every field. Order and transaction IDs
+ * are not listed because the ID generator never repeats them.
+ */
+public final class UniqueFields {
+
+    public static final String EMAIL = "email";
+    public static final String SKU = "sku";
+    public static final String PRODUCT_ID = FieldDistributions.PRODUCT_ID;
+
+    public static final List<String> FIELDS = List.of(EMAIL, SKU, PRODUCT_ID);
+
+    public static final UniqueFields NONE = new UniqueFields(Set.of());
+
+    private final Set<String> fields;
+
+    private UniqueFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a field list; null, blank or {@code false} means no unique fields
+     */
+    public static UniqueFields parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.trim().equalsIgnoreCase("false")) {
+            return NONE;
+        }
+        String trimmed = spec.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.equals("true") || trimmed.equals("all")) {
+            return new UniqueFields(Collections.unmodifiableSet(new TreeSet<>(FIELDS)));
+        }
+        Set<String> fields = new TreeSet<>();
+        for (String entry : trimmed.split(",")) {
+            String field = entry.trim();
+            if (!FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown unique field '" + field
+                        + "' (expected " + String.join(", ", FIELDS) + ", true or all)");
+            }
+            fields.add(field);
+        }
+        return new UniqueFields(Collections.unmodifiableSet(fields));
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Reject a skewed field that is also required to be unique, since a skew exists to repeat keys
+     */
+    public UniqueFields requireUnskewed(FieldDistributions distributions) {
+        for (String field : fields) {
+            if (!distributions.get(field).isUniform()) {
+                throw new IllegalArgumentException(field + " cannot be both unique and skewed");
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Canonical list in name order; empty when no field is unique
+     */
+    @Override
+    public String toString() {
+        return String.join(",", fields);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UniqueFields other && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+}
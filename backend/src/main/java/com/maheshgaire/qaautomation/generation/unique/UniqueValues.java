@@ -0,0 +1,104 @@
+package com.maheshgaire.qaautomation.generation.unique;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+
+/**
+ * Hands out each generated string at most once. Values are remembered only as
+ * 64-bit fingerprints in a {@link FingerprintSet}; a value already handed out
+ * is retried with a numeric suffix until an unused variant is found.
+ * <p>
+ * Suffixes are drawn from the value's fingerprint and the number of collisions
+ * so far, so feeding the same values in the same order always yields the same
+ * output. Not thread-safe: use one instance per stream, in record order.
+ */
+public final class UniqueValues {
+
+    /**
+     * Where the suffix goes
+     */
+    public enum Style {
+        /** Before the '@' of an email address: jane.doe4821@example.com */
+        EMAIL,
+        /** After the value, separated by a dash: WIRELE-1234-57 */
+        SUFFIX
+    }
+
+    static final int MAX_ATTEMPTS = 64;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Style style;
+    private final FingerprintSet seen;
+    private long collisions;
+
+    public UniqueValues(Style style, long expectedSize) {
+        this.style = style;
+        this.seen = new FingerprintSet(expectedSize);
+    }
+
+    /**
+     * The value itself if it has not been handed out yet, otherwise an unused suffixed variant
+     */
+    public String claim(String value) {
+        long fingerprint = fingerprint(value);
+        if (seen.add(fingerprint)) {
+            return value;
+        }
+        long collision = ++collisions;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            // Suffixes widen by one digit every four attempts, so crowded values still resolve quickly
+            long bound = POWERS_OF_TEN[2 + attempt / 4];
+            long suffix = (RandomStreams.mix64(fingerprint + RandomStreams.child(collision, attempt)) >>> 1) % bound;
+            String candidate = withSuffix(value, suffix);
+            if (seen.add(fingerprint(candidate))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No unused variant of '" + value + "' after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    /**
+     * Values handed out so far
+     */
+    public long size() {
+        return seen.size();
+    }
+
+    /**
+     * Values that had to be suffixed
+     */
+    public long collisions() {
+        return collisions;
+    }
+
+    public long memoryBytes() {
+        return seen.memoryBytes();
+    }
+
+    private String withSuffix(String value, long suffix) {
+        int at = style == Style.EMAIL ? value.lastIndexOf('@') : -1;
+        if (at < 0) {
+            return value + (style == Style.EMAIL ? "" : "-") + suffix;
+        }
+        return value.substring(0, at) + suffix + value.substring(at);
+    }
+
+    // FNV-1a over the UTF-16 chars, finished with the SplitMix64 mixer
+    static long fingerprint(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return RandomStreams.mix64(hash ^ value.length());
+    }
+}
@@ -3,11 +3,18 @@ package com.maheshgaire.qaautomation.mcp.controller;
 import com.maheshgaire.qaautomation.mcp.model.MCPError;
 import com.maheshgaire.qaautomation.mcp.model.MCPMessage;
 import com.maheshgaire.qaautomation.mcp.server.MCPServer;
+import com.maheshgaire.qaautomation.streaming.BinaryFormat;
+import com.maheshgaire.qaautomation.streaming.BinaryRecordEncoder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
@@ -27,6 +34,9 @@ public class MCPController {
     @Autowired
     private MCPServer mcpServer;
     
+    @Autowired
+    private BinaryRecordEncoder binaryRecordEncoder;
+    
     @PostMapping(value = "/rpc", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "MCP JSON-RPC endpoint", 
                description = "Handle MCP protocol requests via JSON-RPC 2.0")
@@ -145,6 +155,22 @@ public class MCPController {
             @PathVariable String toolName,
             @RequestBody(required = false) Map<String, Object> arguments) {
         
+        return toolResponse(toolName, arguments);
+    }
+    
+    @PostMapping(value = "/tools/{toolName}/call", produces = {BinaryFormat.SMILE_VALUE, BinaryFormat.CBOR_VALUE})
+    @Operation(summary = "Call a specific MCP tool with a binary response",
+               description = "Execute a tool and answer in Smile or CBOR, chosen by the Accept header")
+    public Mono<DataBuffer> callToolBinary(
+            @PathVariable String toolName,
+            @RequestBody(required = false) Map<String, Object> arguments,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        
+        return binary(toolResponse(toolName, arguments), request, response);
+    }
+    
+    private Mono<Map<String, Object>> toolResponse(String toolName, Map<String, Object> arguments) {
         return mcpServer.callTool(toolName, arguments != null ? arguments : new HashMap<>())
                 .map(result -> {
                     Map<String, Object> response = new HashMap<>();
@@ -179,6 +205,18 @@ public class MCPController {
     @Operation(summary = "Read a specific MCP resource", 
                description = "Get content of a resource by URI")
     public Mono<Map<String, Object>> readResource(@RequestParam String uri) {
+        return resourceResponse(uri);
+    }
+    
+    @GetMapping(value = "/resources/read", produces = {BinaryFormat.SMILE_VALUE, BinaryFormat.CBOR_VALUE})
+    @Operation(summary = "Read a specific MCP resource with a binary response",
+               description = "Get content of a resource by URI in Smile or CBOR, chosen by the Accept header")
+    public Mono<DataBuffer> readResourceBinary(@RequestParam String uri, ServerHttpRequest request,
+                                               ServerHttpResponse response) {
+        return binary(resourceResponse(uri), request, response);
+    }
+    
+    private Mono<Map<String, Object>> resourceResponse(String uri) {
         return mcpServer.readResource(uri)
                 .map(content -> {
                     Map<String, Object> response = new HashMap<>();
@@ -196,6 +234,19 @@ public class MCPController {
                 });
     }
     
+    // Same envelope as the JSON handlers, encoded by the dataset encoder so binary output matches the v2 endpoints
+    private Mono<DataBuffer> binary(Mono<Map<String, Object>> body, ServerHttpRequest request,
+                                    ServerHttpResponse response) {
+        BinaryFormat format = BinaryFormat.negotiate(request.getHeaders().getAccept(),
+                BinaryFormat.SMILE, BinaryFormat.CBOR);
+        if (format == null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE,
+                    "Accept a Smile or CBOR media type"));
+        }
+        response.getHeaders().setContentType(format.getMediaType());
+        return binaryRecordEncoder.encodeValue(body, format, response.bufferFactory());
+    }
+    
     @GetMapping(value = "/prompts", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List available MCP prompts", 
                description = "Get all available prompts that can be generated via MCP")
@@ -1,13 +1,28 @@
 package com.maheshgaire.qaautomation.mcp.server;
 
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
 import com.maheshgaire.qaautomation.mcp.model.*;
 import com.maheshgaire.qaautomation.service.AIAnalysisService;
 import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import com.maheshgaire.qaautomation.streaming.SnapshotCache;
+import com.maheshgaire.qaautomation.streaming.SqlFormat;
+import com.maheshgaire.qaautomation.streaming.SqlScriptEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -24,6 +39,15 @@ public class QAAutomationMCPServer implements MCPServer {
     @Autowired
     private EnhancedTestDataService testDataService;
     
+    @Autowired
+    private IdGenerator idGenerator;
+    
+    @Autowired
+    private SnapshotCache snapshotCache;
+    
+    @Autowired
+    private SqlScriptEncoder sqlScriptEncoder;
+    
     @Value("${mcp.server.name:qa-automation-hub}")
     private String serverName;
     
@@ -162,7 +186,18 @@ public class QAAutomationMCPServer implements MCPServer {
         Map<String, Object> properties = Map.of(
             "type", Map.of("type", "string", "enum", Arrays.asList("users", "orders", "products", "mixed")),
             "count", Map.of("type", "integer", "minimum", 1, "maximum", 1000),
-            "format", Map.of("type", "string", "enum", Arrays.asList("json", "csv", "xml"))
+            "format", Map.of("type", "string", "enum", Arrays.asList("json", "sql", "copy"),
+                    "description", "json, multi-row INSERT statements (sql) or a PostgreSQL COPY script (copy); "
+                            + "SQL formats cover users and orders"),
+            "seed", Map.of("type", "integer", "description", "Seed for reproducible output (random when omitted)"),
+            "shardIndex", Map.of("type", "integer", "minimum", 0,
+                    "description", "Zero-based shard of the seeded dataset to generate (users and orders)"),
+            "shardCount", Map.of("type", "integer", "minimum", 1,
+                    "description", "Number of shards; shards of one seed are disjoint and together equal the "
+                            + "unsharded output"),
+            "fields", Map.of("type", "string",
+                    "description", "Comma-separated fields to generate for json users or orders, e.g. "
+                            + "userId,email,orders.status (all when omitted)")
         );
         
         return MCPTool.create(
@@ -283,24 +318,45 @@ public class QAAutomationMCPServer implements MCPServer {
         String type = (String) arguments.get("type");
         Integer count = (Integer) arguments.get("count");
         String format = (String) arguments.getOrDefault("format", "json");
+        Long seed = arguments.get("seed") instanceof Number number ? number.longValue() : null;
         
         try {
-            Object data = switch (type) {
-                case "users" -> testDataService.generateEnhancedUsers(count, false);
-                case "orders" -> testDataService.generateEnhancedOrders(count, true);
-                case "products" -> generateSampleProducts(count); // We'll create this method
-                case "mixed" -> generateMixedTestData(count); // We'll create this method
-                default -> throw new IllegalArgumentException("Unknown data type: " + type);
-            };
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("data", data);
-            result.put("count", count);
-            result.put("type", type);
-            result.put("format", format);
-            result.put("generated_at", LocalDateTime.now());
+            Shard shard = Shard.of(arguments.get("shardIndex") instanceof Number index ? index.intValue() : null,
+                    arguments.get("shardCount") instanceof Number shards ? shards.intValue() : null, seed);
+            FieldProjection fields = FieldProjection.parse((String) arguments.get("fields"));
+            Mono<Object> data;
+            if (!"json".equals(format)) {
+                if (!fields.isAll()) {
+                    throw new IllegalArgumentException("fields applies to the json format only");
+                }
+                data = generateSqlScript(type, count, SqlFormat.fromName(format), seed, shard);
+            } else if (!shard.isAll() || !fields.isAll()) {
+                data = entities(type, count, seed, shard, fields).collectList().map(entities -> (Object) entities);
+            } else {
+                data = Mono.just(switch (type) {
+                    case "users" -> testDataService.generateEnhancedUsers(count, false, seed);
+                    case "orders" -> testDataService.generateEnhancedOrders(count, true, seed);
+                    case "products" -> generateSampleProducts(count, seed); // We'll create this method
+                    case "mixed" -> generateMixedTestData(count, seed); // We'll create this method
+                    default -> throw new IllegalArgumentException("Unknown data type: " + type);
+                });
+            }
             
-            return Mono.just(result);
+            return data.map(generated -> {
+                Map<String, Object> result = new HashMap<>();
+                result.put("data", generated);
+                result.put("count", count);
+                result.put("type", type);
+                result.put("format", format);
+                if (seed != null) {
+                    result.put("seed", seed);
+                }
+                if (!shard.isAll()) {
+                    result.put("shard", shard.toString());
+                }
+                result.put("generated_at", LocalDateTime.now());
+                return result;
+            });
         } catch (Exception e) {
             return Mono.error(new RuntimeException("Failed to generate test data: " + e.getMessage()));
         }
@@ -497,7 +553,8 @@ public class QAAutomationMCPServer implements MCPServer {
     // Resource handler methods
     private Mono<Object> generateSampleUsers() {
         try {
-            return Mono.just(testDataService.generateEnhancedUsers(5, false));
+            return Mono.just(snapshotCache.json("mcp/test-data/users", () ->
+                    testDataService.generateEnhancedUsers(5, false, EnhancedTestDataService.SAMPLE_SEED)));
         } catch (Exception e) {
             return Mono.error(new RuntimeException("Failed to generate sample users: " + e.getMessage()));
         }
@@ -505,7 +562,8 @@ public class QAAutomationMCPServer implements MCPServer {
     
     private Mono<Object> generateSampleOrders() {
         try {
-            return Mono.just(testDataService.generateEnhancedOrders(5, true));
+            return Mono.just(snapshotCache.json("mcp/test-data/orders", () ->
+                    testDataService.generateEnhancedOrders(5, true, EnhancedTestDataService.SAMPLE_SEED)));
         } catch (Exception e) {
             return Mono.error(new RuntimeException("Failed to generate sample orders: " + e.getMessage()));
         }
@@ -537,11 +595,13 @@ public class QAAutomationMCPServer implements MCPServer {
     }
     
     // Helper methods for missing data types
-    private Object generateSampleProducts(int count) {
+    private Object generateSampleProducts(int count, Long seed) {
+        // Seeded IDs depend only on the product's position, so the same seed returns the same products
+        RandomStreams streams = RandomStreams.of(seed);
         List<Map<String, Object>> products = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             Map<String, Object> product = new HashMap<>();
-            product.put("id", i + 1);
+            product.put("id", idGenerator.next("prod_", streams, i, 0));
             product.put("name", "Sample Product " + (i + 1));
             product.put("category", "Electronics");
             product.put("price", 99.99 + (i * 10));
@@ -552,11 +612,38 @@ public class QAAutomationMCPServer implements MCPServer {
         return products;
     }
     
-    private Object generateMixedTestData(int count) {
+    private Mono<Object> generateSqlScript(String type, int count, SqlFormat format, Long seed, Shard shard) {
+        if (!"users".equals(type) && !"orders".equals(type)) {
+            throw new IllegalArgumentException("SQL formats are available for users and orders, not " + type);
+        }
+        DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        return DataBufferUtils.join(sqlScriptEncoder.encodeEntities(entities(type, count, seed, shard, FieldProjection.ALL), format,
+                        bufferFactory, NdjsonBatchEncoder.DEFAULT_BATCH_SIZE))
+                .map(buffer -> {
+                    String script = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return (Object) script;
+                })
+                .defaultIfEmpty("");
+    }
+    
+    // Seeded users or orders of one shard; products and mixed data are not index-addressable
+    private Flux<?> entities(String type, int count, Long seed, Shard shard, FieldProjection fields) {
+        return switch (type) {
+            case "users" -> testDataService.streamEnhancedUsers(shard, count, false, seed,
+                    FieldDistributions.UNIFORM, UniqueFields.NONE, EnhancedTestDataService.checkUserFields(fields));
+            case "orders" -> testDataService.streamEnhancedOrders(shard, count, true, seed,
+                    FieldDistributions.UNIFORM, UniqueFields.NONE, EnhancedTestDataService.checkOrderFields(fields));
+            default -> throw new IllegalArgumentException(
+                    "Sharding and fields are available for users and orders, not " + type);
+        };
+    }
+    
+    private Object generateMixedTestData(int count, Long seed) {
         Map<String, Object> mixedData = new HashMap<>();
-        mixedData.put("users", testDataService.generateEnhancedUsers(Math.max(1, count / 3), false));
-        mixedData.put("orders", testDataService.generateEnhancedOrders(Math.max(1, count / 3), true));
-        mixedData.put("products", generateSampleProducts(Math.max(1, count / 3)));
+        mixedData.put("users", testDataService.generateEnhancedUsers(Math.max(1, count / 3), false, seed));
+        mixedData.put("orders", testDataService.generateEnhancedOrders(Math.max(1, count / 3), true, seed));
+        mixedData.put("products", generateSampleProducts(Math.max(1, count / 3), seed));
         return mixedData;
     }
     
@@ -0,0 +1,167 @@
+package com.maheshgaire.qaautomation.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed-point amount: a whole number of minor units (cents) with the currency's
+ * number of fraction digits.
+ * <p>
+ * Generated prices are kept in this form so that arithmetic is plain long math
+ * and serialization can print the decimal digits straight into the generator's
+ * buffer. The decimal text always carries {@code scale} fraction digits, which
+ * is exactly what {@link BigDecimal#toString()} prints for the same value, so
+ * responses stay byte-compatible with BigDecimal amounts.
+ */
+public final class Money implements Comparable<Money> {
+
+    private static final int DEFAULT_SCALE = 2;
+
+    // Sign, 19 digits, point and a leading zero fit with room to spare
+    private static final int MAX_CHARS = 24;
+
+    private static final Map<String, Integer> FRACTION_DIGITS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<char[]> DIGITS = ThreadLocal.withInitial(() -> new char[MAX_CHARS]);
+
+    private final long minorUnits;
+    private final int scale;
+    private final String currency;
+
+    private Money(long minorUnits, int scale, String currency) {
+        if (scale < 0 || scale > 18) {
+            throw new IllegalArgumentException("Unsupported scale " + scale);
+        }
+        this.minorUnits = minorUnits;
+        this.scale = scale;
+        this.currency = currency;
+    }
+
+    /**
+     * Amount in minor units of an ISO 4217 currency; without a currency two fraction digits are assumed
+     */
+    public static Money ofMinor(long minorUnits, String currency) {
+        return new Money(minorUnits, fractionDigits(currency), currency);
+    }
+
+    public static Money ofMinor(long minorUnits, int scale, String currency) {
+        return new Money(minorUnits, scale, currency);
+    }
+
+    /**
+     * Exact conversion from a decimal amount, keeping its scale; fails if it does not fit in a long
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        BigDecimal plain = amount.scale() < 0 ? amount.setScale(0) : amount;
+        return new Money(plain.unscaledValue().longValueExact(), plain.scale(), currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        if (other.scale != scale) {
+            throw new IllegalArgumentException("Cannot add amounts with scales " + scale + " and " + other.scale);
+        }
+        return new Money(Math.addExact(minorUnits, other.minorUnits), scale, currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), scale, currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    /**
+     * Write the decimal form as a JSON number without creating any intermediate objects;
+     * binary formats such as CBOR take the decimal itself, since they would write the text as a string
+     */
+    public void writeTo(JsonGenerator gen) throws IOException {
+        if (gen.canWriteBinaryNatively()) {
+            gen.writeNumber(toBigDecimal());
+            return;
+        }
+        char[] buffer = DIGITS.get();
+        int start = format(buffer);
+        gen.writeNumber(buffer, start, MAX_CHARS - start);
+    }
+
+    /**
+     * Format the decimal form right-aligned into a buffer of {@value #MAX_CHARS} chars, returning where it starts
+     */
+    int format(char[] buffer) {
+        // Work on the non-positive value so Long.MIN_VALUE needs no special case
+        long value = minorUnits > 0 ? -minorUnits : minorUnits;
+        int pos = MAX_CHARS;
+        for (int i = 0; i < scale; i++) {
+            buffer[--pos] = (char) ('0' - value % 10);
+            value /= 10;
+        }
+        if (scale > 0) {
+            buffer[--pos] = '.';
+        }
+        do {
+            buffer[--pos] = (char) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+        if (minorUnits < 0) {
+            buffer[--pos] = '-';
+        }
+        return pos;
+    }
+
+    private static int fractionDigits(String currency) {
+        if (currency == null) {
+            return DEFAULT_SCALE;
+        }
+        return FRACTION_DIGITS.computeIfAbsent(currency, code -> {
+            int digits = Currency.getInstance(code).getDefaultFractionDigits();
+            return digits < 0 ? DEFAULT_SCALE : digits;
+        });
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money money)) {
+            return false;
+        }
+        return minorUnits == money.minorUnits && scale == money.scale && Objects.equals(currency, money.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minorUnits, scale, currency);
+    }
+
+    @Override
+    public String toString() {
+        char[] buffer = DIGITS.get();
+        int start = format(buffer);
+        return new String(buffer, start, MAX_CHARS - start);
+    }
+}
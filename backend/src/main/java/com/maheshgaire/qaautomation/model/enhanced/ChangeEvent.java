@@ -0,0 +1,133 @@
+package com.maheshgaire.qaautomation.model.enhanced;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Change-data-capture event: one mutation of an entity with its before and after images")
+public class ChangeEvent<T> {
+
+    @Schema(description = "Position of the event in the stream")
+    private long sequence;
+
+    @Schema(description = "Operation: c (insert) or u (update, including soft deletes)")
+    private String op;
+
+    @Schema(description = "Mutation type: insert, status, address or delete")
+    private String type;
+
+    @Schema(description = "Entity set: users or orders")
+    private String entity;
+
+    @Schema(description = "ID of the changed entity")
+    private String key;
+
+    @Schema(description = "Position of the entity in the dataset; inserts follow the base records")
+    private long index;
+
+    @Schema(description = "Entity version after the change; base records start at 1")
+    private long version;
+
+    @Schema(description = "Time of the change")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "True when the change soft-deletes the entity")
+    private Boolean deleted;
+
+    @Schema(description = "Entity before the change; absent for inserts")
+    private T before;
+
+    @Schema(description = "Entity after the change")
+    private T after;
+
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    public void setOp(String op) {
+        this.op = op;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public void setIndex(long index) {
+        this.index = index;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(Boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public T getBefore() {
+        return before;
+    }
+
+    public void setBefore(T before) {
+        this.before = before;
+    }
+
+    public T getAfter() {
+        return after;
+    }
+
+    public void setAfter(T after) {
+        this.after = after;
+    }
+}
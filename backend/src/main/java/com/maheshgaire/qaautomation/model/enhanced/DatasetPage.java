@@ -0,0 +1,91 @@
+package com.maheshgaire.qaautomation.model.enhanced;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "One page of a seeded virtual dataset")
+public class DatasetPage<T> {
+
+    @Schema(description = "Records at positions [offset, offset + items.size) of the dataset")
+    private List<T> items;
+
+    @Schema(description = "Position of the first record in the page")
+    private long offset;
+
+    @Schema(description = "Requested page size")
+    private int limit;
+
+    @Schema(description = "Number of records in the virtual dataset")
+    private long total;
+
+    @Schema(description = "Seed identifying the dataset")
+    private long seed;
+
+    @Schema(description = "Offset of the next page; absent on the last page")
+    private Long nextOffset;
+
+    public DatasetPage() {
+    }
+
+    public DatasetPage(List<T> items, long offset, int limit, long total, long seed) {
+        this.items = items;
+        this.offset = offset;
+        this.limit = limit;
+        this.total = total;
+        this.seed = seed;
+        long next = offset + items.size();
+        this.nextOffset = next < total ? next : null;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public Long getNextOffset() {
+        return nextOffset;
+    }
+
+    public void setNextOffset(Long nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+}
@@ -1,6 +1,8 @@
 package com.maheshgaire.qaautomation.model.enhanced;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.maheshgaire.qaautomation.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -20,8 +22,8 @@ public class Order {
     @Schema(description = "Order status")
     private String status;
     
-    @Schema(description = "Order total amount")
-    private BigDecimal totalAmount;
+    @Schema(description = "Order total amount", implementation = BigDecimal.class)
+    private Money totalAmount;
     
     @Schema(description = "Currency code")
     private String currency;
@@ -75,10 +77,20 @@ public class Order {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return totalAmount != null ? totalAmount.toBigDecimal() : null;
     }
 
     public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount != null ? Money.of(totalAmount, currency) : null;
+    }
+
+    @JsonIgnore
+    public Money getTotalAmountMoney() {
+        return totalAmount;
+    }
+
+    @JsonIgnore
+    public void setTotalAmountMoney(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
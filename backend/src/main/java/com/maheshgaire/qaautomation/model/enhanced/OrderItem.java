@@ -1,6 +1,8 @@
 package com.maheshgaire.qaautomation.model.enhanced;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.maheshgaire.qaautomation.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
@@ -21,11 +23,11 @@ public class OrderItem {
     @Schema(description = "Quantity ordered")
     private Integer quantity;
     
-    @Schema(description = "Unit price")
-    private BigDecimal unitPrice;
+    @Schema(description = "Unit price", implementation = BigDecimal.class)
+    private Money unitPrice;
     
-    @Schema(description = "Total price for this item")
-    private BigDecimal totalPrice;
+    @Schema(description = "Total price for this item", implementation = BigDecimal.class)
+    private Money totalPrice;
     
     @Schema(description = "Product category")
     private String category;
@@ -64,18 +66,38 @@ public class OrderItem {
     }
 
     public BigDecimal getUnitPrice() {
-        return unitPrice;
+        return unitPrice != null ? unitPrice.toBigDecimal() : null;
     }
 
     public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice != null ? Money.of(unitPrice, null) : null;
+    }
+
+    @JsonIgnore
+    public Money getUnitPriceMoney() {
+        return unitPrice;
+    }
+
+    @JsonIgnore
+    public void setUnitPriceMoney(Money unitPrice) {
         this.unitPrice = unitPrice;
     }
 
     public BigDecimal getTotalPrice() {
-        return totalPrice;
+        return totalPrice != null ? totalPrice.toBigDecimal() : null;
     }
 
     public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice != null ? Money.of(totalPrice, null) : null;
+    }
+
+    @JsonIgnore
+    public Money getTotalPriceMoney() {
+        return totalPrice;
+    }
+
+    @JsonIgnore
+    public void setTotalPriceMoney(Money totalPrice) {
         this.totalPrice = totalPrice;
     }
 
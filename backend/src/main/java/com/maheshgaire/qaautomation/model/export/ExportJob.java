@@ -0,0 +1,201 @@
+package com.maheshgaire.qaautomation.model.export;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * State of a bulk export job. The writer thread updates the counters while the
+ * job runs; the checkpoint fields are what the job resumes from after an
+ * interruption.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(value = "progress", allowGetters = true)
+@Schema(description = "Bulk export job status")
+public class ExportJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    @Schema(description = "Job identifier")
+    private String jobId;
+
+    @Schema(description = "Current state")
+    private volatile State state;
+
+    @Schema(description = "Job definition with server defaults (including the seed) filled in")
+    private ExportRequest request;
+
+    @Schema(description = "Name of the output file")
+    private String fileName;
+
+    @Schema(description = "Column layout of csv and columnar files, fixed at the first checkpoint")
+    private List<String> columns;
+
+    @Schema(description = "Records written so far")
+    private volatile long recordsWritten;
+
+    @Schema(description = "Bytes written so far")
+    private volatile long bytesWritten;
+
+    @Schema(description = "Records durably written at the last checkpoint")
+    private volatile long checkpointRecords;
+
+    @Schema(description = "File length at the last checkpoint")
+    private volatile long checkpointBytes;
+
+    @Schema(description = "Write rate of the current or last run")
+    private volatile Double recordsPerSecond;
+
+    @Schema(description = "Times the job was resumed from a checkpoint")
+    private int resumeCount;
+
+    @Schema(description = "Failure message")
+    private String error;
+
+    @Schema(description = "When the job was submitted")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the current or last run started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the job completed, failed or was cancelled")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Fraction of records written (0-1)")
+    public double getProgress() {
+        Long count = request != null ? request.getCount() : null;
+        return count == null || count == 0 ? 0 : (double) recordsWritten / count;
+    }
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED || state == State.CANCELLED;
+    }
+
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public ExportRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(ExportRequest request) {
+        this.request = request;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    public void setRecordsWritten(long recordsWritten) {
+        this.recordsWritten = recordsWritten;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    public long getCheckpointRecords() {
+        return checkpointRecords;
+    }
+
+    public void setCheckpointRecords(long checkpointRecords) {
+        this.checkpointRecords = checkpointRecords;
+    }
+
+    public long getCheckpointBytes() {
+        return checkpointBytes;
+    }
+
+    public void setCheckpointBytes(long checkpointBytes) {
+        this.checkpointBytes = checkpointBytes;
+    }
+
+    public Double getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public void setRecordsPerSecond(Double recordsPerSecond) {
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    public int getResumeCount() {
+        return resumeCount;
+    }
+
+    public void setResumeCount(int resumeCount) {
+        this.resumeCount = resumeCount;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,133 @@
+package com.maheshgaire.qaautomation.model.export;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Bulk export job definition")
+public class ExportRequest {
+
+    @Schema(description = "Dataset to generate: testdata, users, users-with-orders or orders", example = "users")
+    private String dataset;
+
+    @Schema(description = "Template name for the testdata dataset", example = "user")
+    private String type;
+
+    @Schema(description = "Number of records to write", example = "1000000")
+    private Long count;
+
+    @Schema(description = "Seed for reproducible output; assigned by the server when omitted")
+    private Long seed;
+
+    @Schema(description = "Output format: ndjson, csv or columnar", example = "ndjson")
+    private String format;
+
+    @Schema(description = "Include orders in each user (users dataset)")
+    private Boolean includeOrders;
+
+    @Schema(description = "Include items in each order (orders dataset)")
+    private Boolean includeItems;
+
+    @Schema(description = "Minimum orders per user (users-with-orders dataset)")
+    private Integer minOrders;
+
+    @Schema(description = "Maximum orders per user (users-with-orders dataset)")
+    private Integer maxOrders;
+
+    @Schema(description = "Key distributions per field for users, orders and items, e.g. "
+            + "user_id:zipf:0.99,product_id:hotspot:0.2:0.8 (uniform when omitted)")
+    private String distribution;
+
+    @Schema(description = "Fields that must not repeat: any of email, sku, product_id, or true for all",
+            example = "email,sku")
+    private String unique;
+
+    // Getters and Setters
+    public String getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(String dataset) {
+        this.dataset = dataset;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public Boolean getIncludeOrders() {
+        return includeOrders;
+    }
+
+    public void setIncludeOrders(Boolean includeOrders) {
+        this.includeOrders = includeOrders;
+    }
+
+    public Boolean getIncludeItems() {
+        return includeItems;
+    }
+
+    public void setIncludeItems(Boolean includeItems) {
+        this.includeItems = includeItems;
+    }
+
+    public Integer getMinOrders() {
+        return minOrders;
+    }
+
+    public void setMinOrders(Integer minOrders) {
+        this.minOrders = minOrders;
+    }
+
+    public Integer getMaxOrders() {
+        return maxOrders;
+    }
+
+    public void setMaxOrders(Integer maxOrders) {
+        this.maxOrders = maxOrders;
+    }
+
+    public String getDistribution() {
+        return distribution;
+    }
+
+    public void setDistribution(String distribution) {
+        this.distribution = distribution;
+    }
+
+    public String getUnique() {
+        return unique;
+    }
+
+    public void setUnique(String unique) {
+        this.unique = unique;
+    }
+}
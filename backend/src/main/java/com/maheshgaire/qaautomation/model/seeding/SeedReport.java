@@ -0,0 +1,127 @@
+package com.maheshgaire.qaautomation.model.seeding;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of a database seeding run")
+public class SeedReport {
+
+    @Schema(description = "Run definition with server defaults (including the seed) filled in")
+    private SeedRequest request;
+
+    @Schema(description = "Rows inserted across all tables")
+    private long totalRows;
+
+    @Schema(description = "Wall-clock duration of the run")
+    private long elapsedMillis;
+
+    @Schema(description = "Overall insert rate")
+    private double rowsPerSecond;
+
+    @Schema(description = "Per-table insert and commit metrics, keyed by table name")
+    private Map<String, TableMetrics> tables;
+
+    // Getters and Setters
+    public SeedRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(SeedRequest request) {
+        this.request = request;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public Map<String, TableMetrics> getTables() {
+        return tables;
+    }
+
+    public void setTables(Map<String, TableMetrics> tables) {
+        this.tables = tables;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Insert metrics of one table")
+    public static class TableMetrics {
+
+        @Schema(description = "Rows inserted")
+        private long rows;
+
+        @Schema(description = "Batches committed")
+        private long batches;
+
+        @Schema(description = "Mean time to insert and commit one batch")
+        private double meanBatchMillis;
+
+        @Schema(description = "Slowest batch insert and commit")
+        private double maxBatchMillis;
+
+        /**
+         * Account for one committed batch
+         */
+        public void record(int batchRows, long batchNanos) {
+            double millis = batchNanos / 1e6;
+            meanBatchMillis += (millis - meanBatchMillis) / ++batches;
+            maxBatchMillis = Math.max(maxBatchMillis, millis);
+            rows += batchRows;
+        }
+
+        // Getters and Setters
+        public long getRows() {
+            return rows;
+        }
+
+        public void setRows(long rows) {
+            this.rows = rows;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public void setBatches(long batches) {
+            this.batches = batches;
+        }
+
+        public double getMeanBatchMillis() {
+            return meanBatchMillis;
+        }
+
+        public void setMeanBatchMillis(double meanBatchMillis) {
+            this.meanBatchMillis = meanBatchMillis;
+        }
+
+        public double getMaxBatchMillis() {
+            return maxBatchMillis;
+        }
+
+        public void setMaxBatchMillis(double maxBatchMillis) {
+            this.maxBatchMillis = maxBatchMillis;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.maheshgaire.qaautomation.model.seeding;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Database seeding run definition")
+public class SeedRequest {
+
+    @Schema(description = "Entities to generate: users, users-with-orders or orders", example = "users-with-orders")
+    private String dataset;
+
+    @Schema(description = "Number of top-level entities (users or orders) to generate", example = "100000")
+    private Long count;
+
+    @Schema(description = "Seed for reproducible data; random when omitted")
+    private Long seed;
+
+    @Schema(description = "Include orders in each user (users dataset)")
+    private Boolean includeOrders;
+
+    @Schema(description = "Include items in each order (orders dataset)")
+    private Boolean includeItems;
+
+    @Schema(description = "Minimum orders per user (users-with-orders dataset)")
+    private Integer minOrders;
+
+    @Schema(description = "Maximum orders per user (users-with-orders dataset)")
+    private Integer maxOrders;
+
+    @Schema(description = "Key distributions per field for users, orders and items, e.g. "
+            + "user_id:zipf:0.99,product_id:hotspot:0.2:0.8 (uniform when omitted)")
+    private String distribution;
+
+    @Schema(description = "Fields that must not repeat: any of email, sku, product_id, or true for all",
+            example = "email,sku")
+    private String unique;
+
+    @Schema(description = "Rows per table committed in one batch", example = "1000")
+    private Integer batchSize;
+
+    @Schema(description = "Parallel writer connections", example = "4")
+    private Integer writers;
+
+    @Schema(description = "Prefix for the users, orders and order_items table names (letters, digits, underscores)")
+    private String tablePrefix;
+
+    @Schema(description = "Drop and recreate the tables before seeding")
+    private Boolean recreateTables;
+
+    // Getters and Setters
+    public String getDataset() {
+        return dataset;
+    }
+
+    public void setDataset(String dataset) {
+        this.dataset = dataset;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public Boolean getIncludeOrders() {
+        return includeOrders;
+    }
+
+    public void setIncludeOrders(Boolean includeOrders) {
+        this.includeOrders = includeOrders;
+    }
+
+    public Boolean getIncludeItems() {
+        return includeItems;
+    }
+
+    public void setIncludeItems(Boolean includeItems) {
+        this.includeItems = includeItems;
+    }
+
+    public Integer getMinOrders() {
+        return minOrders;
+    }
+
+    public void setMinOrders(Integer minOrders) {
+        this.minOrders = minOrders;
+    }
+
+    public Integer getMaxOrders() {
+        return maxOrders;
+    }
+
+    public void setMaxOrders(Integer maxOrders) {
+        this.maxOrders = maxOrders;
+    }
+
+    public String getDistribution() {
+        return distribution;
+    }
+
+    public void setDistribution(String distribution) {
+        this.distribution = distribution;
+    }
+
+    public String getUnique() {
+        return unique;
+    }
+
+    public void setUnique(String unique) {
+        this.unique = unique;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Integer getWriters() {
+        return writers;
+    }
+
+    public void setWriters(Integer writers) {
+        this.writers = writers;
+    }
+
+    public String getTablePrefix() {
+        return tablePrefix;
+    }
+
+    public void setTablePrefix(String tablePrefix) {
+        this.tablePrefix = tablePrefix;
+    }
+
+    public Boolean getRecreateTables() {
+        return recreateTables;
+    }
+
+    public void setRecreateTables(Boolean recreateTables) {
+        this.recreateTables = recreateTables;
+    }
+}
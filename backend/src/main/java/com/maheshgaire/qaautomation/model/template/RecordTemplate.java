@@ -0,0 +1,80 @@
+package com.maheshgaire.qaautomation.model.template;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "User-defined test data template")
+public class RecordTemplate {
+
+    @Schema(description = "Template identifier, used as the type in /generate/{type}")
+    private String id;
+
+    @Schema(description = "Template version, assigned by the server and bumped when the definition changes",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer version;
+
+    @Schema(description = "What the template represents")
+    private String description;
+
+    @Schema(description = "Fields of each generated record, in output order")
+    private List<TemplateField> fields;
+
+    @Schema(description = "When this version was registered", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime registeredAt;
+
+    /**
+     * Whether two templates define the same record shape, ignoring server-assigned metadata
+     */
+    public boolean sameDefinition(RecordTemplate other) {
+        return other != null
+                && Objects.equals(id, other.id)
+                && Objects.equals(description, other.description)
+                && Objects.equals(fields, other.fields);
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<TemplateField> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<TemplateField> fields) {
+        this.fields = fields;
+    }
+
+    public LocalDateTime getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public void setRegisteredAt(LocalDateTime registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+}
@@ -0,0 +1,164 @@
+package com.maheshgaire.qaautomation.model.template;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Field of a user-defined template")
+public class TemplateField {
+
+    @Schema(description = "Field name in the generated record")
+    private String name;
+
+    @Schema(description = "Generator kind: pick, constant, integer, decimal, boolean, prefixed, digits, "
+            + "firstName, lastName, email, city, street, object")
+    private String generator;
+
+    @Schema(description = "Candidate values (pick)")
+    private List<String> values;
+
+    @Schema(description = "Fixed value (constant)")
+    private String value;
+
+    @Schema(description = "Lower bound, inclusive (integer, decimal)")
+    private Double min;
+
+    @Schema(description = "Upper bound, inclusive for integer and exclusive for decimal; for prefixed the exclusive bound of the number")
+    private Double max;
+
+    @Schema(description = "Text placed before the generated number (prefixed, digits)")
+    private String prefix;
+
+    @Schema(description = "Number of zero-padded digits (digits)")
+    private Integer length;
+
+    @Schema(description = "Nested fields (object)")
+    private List<TemplateField> fields;
+
+    @Schema(description = "Popularity of the drawn values (pick, integer, prefixed): uniform, zipf[:exponent], "
+            + "hotspot[:hotKeys[:hotDraws]], pareto[:alpha] or latest[:exponent]; lower values are the popular ones",
+            example = "zipf:0.99")
+    private String distribution;
+
+    @Schema(description = "Never repeat a value within one generated stream (top-level text fields); "
+            + "repeats get a numeric suffix, placed before the '@' of emails")
+    private Boolean unique;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TemplateField other)) {
+            return false;
+        }
+        return Objects.equals(name, other.name)
+                && Objects.equals(generator, other.generator)
+                && Objects.equals(values, other.values)
+                && Objects.equals(value, other.value)
+                && Objects.equals(min, other.min)
+                && Objects.equals(max, other.max)
+                && Objects.equals(prefix, other.prefix)
+                && Objects.equals(length, other.length)
+                && Objects.equals(fields, other.fields)
+                && Objects.equals(distribution, other.distribution)
+                && Objects.equals(unique, other.unique);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, generator, values, value, min, max, prefix, length, fields, distribution, unique);
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getGenerator() {
+        return generator;
+    }
+
+    public void setGenerator(String generator) {
+        this.generator = generator;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public void setValues(List<String> values) {
+        this.values = values;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public void setMin(Double min) {
+        this.min = min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public Integer getLength() {
+        return length;
+    }
+
+    public void setLength(Integer length) {
+        this.length = length;
+    }
+
+    public List<TemplateField> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<TemplateField> fields) {
+        this.fields = fields;
+    }
+
+    public String getDistribution() {
+        return distribution;
+    }
+
+    public void setDistribution(String distribution) {
+        this.distribution = distribution;
+    }
+
+    public Boolean getUnique() {
+        return unique;
+    }
+
+    public void setUnique(Boolean unique) {
+        this.unique = unique;
+    }
+}
@@ -0,0 +1,157 @@
+package com.maheshgaire.qaautomation.seeding;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool of JDBC connections inserting row batches with multi-row INSERT statements.
+ * <p>
+ * Each batch is split into statements of at most {@link #MAX_PARAMETERS}
+ * bind parameters, run through {@code executeBatch} and committed as one
+ * transaction. Statements are prepared once per connection and row count and
+ * reused for every later batch of the same shape.
+ */
+public final class JdbcBatchWriter implements AutoCloseable {
+
+    /** Stays under the bind parameter limits of common drivers (PostgreSQL allows 65535). */
+    static final int MAX_PARAMETERS = 32_000;
+
+    private final String tablePrefix;
+    private final List<Writer> writers = new ArrayList<>();
+    private final BlockingQueue<Writer> idle;
+
+    public JdbcBatchWriter(String url, String username, String password, int connections, String tablePrefix)
+            throws SQLException {
+        this.tablePrefix = tablePrefix;
+        this.idle = new ArrayBlockingQueue<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = DriverManager.getConnection(url, username, password);
+                connection.setAutoCommit(false);
+                Writer writer = new Writer(connection);
+                writers.add(writer);
+                idle.add(writer);
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Create the tables if missing, dropping existing ones first when asked to
+     */
+    public void createTables(boolean recreate) throws SQLException {
+        Writer writer = writers.get(0);
+        try (Statement statement = writer.connection.createStatement()) {
+            for (SeedTable table : SeedTable.values()) {
+                if (recreate) {
+                    statement.execute("DROP TABLE IF EXISTS " + tableName(table));
+                }
+                statement.execute(table.createStatement(tableName(table)));
+            }
+        }
+        writer.connection.commit();
+    }
+
+    /**
+     * Insert and commit one batch on the next free connection, returning the time it took in nanoseconds
+     */
+    public long write(SeedTable table, List<Object[]> rows) throws SQLException, InterruptedException {
+        Writer writer = idle.take();
+        try {
+            long started = System.nanoTime();
+            writer.insert(table, rows);
+            return System.nanoTime() - started;
+        } finally {
+            idle.add(writer);
+        }
+    }
+
+    public String tableName(SeedTable table) {
+        return tablePrefix + table.getTableName();
+    }
+
+    @Override
+    public void close() {
+        for (Writer writer : writers) {
+            try {
+                writer.connection.close();
+            } catch (SQLException ignored) {
+                // Closing is best effort; the driver releases the session either way
+            }
+        }
+    }
+
+    private final class Writer {
+
+        private final Connection connection;
+        private final Map<SeedTable, Map<Integer, PreparedStatement>> statements = new EnumMap<>(SeedTable.class);
+
+        private Writer(Connection connection) {
+            this.connection = connection;
+        }
+
+        private void insert(SeedTable table, List<Object[]> rows) throws SQLException {
+            int rowsPerStatement = Math.max(1, MAX_PARAMETERS / table.columnCount());
+            try {
+                PreparedStatement batched = null;
+                int from = 0;
+                for (; rows.size() - from >= rowsPerStatement; from += rowsPerStatement) {
+                    batched = statement(table, rowsPerStatement);
+                    bind(batched, table, rows, from, rowsPerStatement);
+                    batched.addBatch();
+                }
+                if (batched != null) {
+                    batched.executeBatch();
+                }
+                if (from < rows.size()) {
+                    PreparedStatement rest = statement(table, rows.size() - from);
+                    bind(rest, table, rows, from, rows.size() - from);
+                    rest.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+
+        // Batches have a fixed size, so a table only ever needs a few statement shapes
+        private PreparedStatement statement(SeedTable table, int rows) throws SQLException {
+            Map<Integer, PreparedStatement> byRows = statements.computeIfAbsent(table, t -> new HashMap<>());
+            PreparedStatement statement = byRows.get(rows);
+            if (statement == null) {
+                statement = connection.prepareStatement(table.insertStatement(tableName(table), rows));
+                byRows.put(rows, statement);
+            }
+            return statement;
+        }
+
+        private void bind(PreparedStatement statement, SeedTable table, List<Object[]> rows, int from, int count)
+                throws SQLException {
+            int columns = table.columnCount();
+            int parameter = 1;
+            for (int r = from; r < from + count; r++) {
+                Object[] row = rows.get(r);
+                for (int c = 0; c < columns; c++, parameter++) {
+                    if (row[c] == null) {
+                        statement.setNull(parameter, table.column(c).sqlType());
+                    } else {
+                        statement.setObject(parameter, row[c]);
+                    }
+                }
+            }
+        }
+    }
+}
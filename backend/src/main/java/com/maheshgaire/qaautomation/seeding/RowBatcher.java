@@ -0,0 +1,86 @@
+package com.maheshgaire.qaautomation.seeding;
+
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.model.enhanced.OrderItem;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits generated entities into table rows and groups them into fixed-size
+ * batches per table. Not thread-safe: one batcher per generated stream.
+ */
+public final class RowBatcher {
+
+    /**
+     * Rows of one table, inserted and committed together
+     */
+    public record Batch(SeedTable table, List<Object[]> rows) {
+    }
+
+    private final int batchSize;
+    private final Map<SeedTable, List<Object[]>> pending = new EnumMap<>(SeedTable.class);
+    private List<Batch> full = new ArrayList<>();
+
+    public RowBatcher(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Add the rows of a user (with its orders) or an order (with its items); returns the batches it filled
+     */
+    public List<Batch> add(Object entity) {
+        if (entity instanceof EnhancedUser user) {
+            add(SeedTable.USERS, SeedTable.userRow(user));
+            if (user.getOrders() != null) {
+                user.getOrders().forEach(this::addOrder);
+            }
+        } else if (entity instanceof Order order) {
+            addOrder(order);
+        } else {
+            throw new IllegalArgumentException("Cannot seed " + entity.getClass().getSimpleName());
+        }
+        if (full.isEmpty()) {
+            return List.of();
+        }
+        List<Batch> filled = full;
+        full = new ArrayList<>();
+        return filled;
+    }
+
+    /**
+     * The partially filled batches left at the end of the stream
+     */
+    public List<Batch> drain() {
+        List<Batch> rest = new ArrayList<>();
+        pending.forEach((table, rows) -> {
+            if (!rows.isEmpty()) {
+                rest.add(new Batch(table, rows));
+            }
+        });
+        pending.clear();
+        return rest;
+    }
+
+    private void addOrder(Order order) {
+        add(SeedTable.ORDERS, SeedTable.orderRow(order));
+        List<OrderItem> items = order.getItems();
+        if (items != null) {
+            for (int i = 0; i < items.size(); i++) {
+                add(SeedTable.ORDER_ITEMS, SeedTable.itemRow(order, i + 1, items.get(i)));
+            }
+        }
+    }
+
+    private void add(SeedTable table, Object[] row) {
+        List<Object[]> rows = pending.computeIfAbsent(table, t -> new ArrayList<>(batchSize));
+        rows.add(row);
+        if (rows.size() == batchSize) {
+            full.add(new Batch(table, rows));
+            pending.remove(table);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.maheshgaire.qaautomation.seeding;
+
+import com.maheshgaire.qaautomation.model.Money;
+import com.maheshgaire.qaautomation.model.enhanced.Address;
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.model.enhanced.OrderItem;
+import com.maheshgaire.qaautomation.model.enhanced.PaymentInfo;
+import com.maheshgaire.qaautomation.model.enhanced.UserProfile;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Relational layout of the enhanced entities: users, their orders and the
+ * orders' line items, with nested addresses, profiles and payments flattened
+ * into columns. Foreign keys are not declared, so tables can be bulk loaded in
+ * any order; add constraints after seeding if the schema needs them.
+ */
+public enum SeedTable implements SqlTable {
+
+    USERS("users", List.of("user_id"),
+            column("user_id", "VARCHAR(64)", Types.VARCHAR),
+            column("first_name", "VARCHAR(100)", Types.VARCHAR),
+            column("last_name", "VARCHAR(100)", Types.VARCHAR),
+            column("email", "VARCHAR(255)", Types.VARCHAR),
+            column("phone_number", "VARCHAR(40)", Types.VARCHAR),
+            column("date_of_birth", "DATE", Types.DATE),
+            column("street", "VARCHAR(255)", Types.VARCHAR),
+            column("city", "VARCHAR(100)", Types.VARCHAR),
+            column("state", "VARCHAR(100)", Types.VARCHAR),
+            column("postal_code", "VARCHAR(20)", Types.VARCHAR),
+            column("country", "VARCHAR(100)", Types.VARCHAR),
+            column("company", "VARCHAR(255)", Types.VARCHAR),
+            column("job_title", "VARCHAR(255)", Types.VARCHAR),
+            column("bio", "VARCHAR(1000)", Types.VARCHAR),
+            column("website", "VARCHAR(255)", Types.VARCHAR),
+            column("language", "VARCHAR(100)", Types.VARCHAR),
+            column("timezone", "VARCHAR(20)", Types.VARCHAR),
+            column("avatar_url", "VARCHAR(255)", Types.VARCHAR),
+            column("created_at", "TIMESTAMP", Types.TIMESTAMP)),
+    ORDERS("orders", List.of("order_id"),
+            column("order_id", "VARCHAR(64)", Types.VARCHAR),
+            column("user_id", "VARCHAR(64)", Types.VARCHAR),
+            column("status", "VARCHAR(20)", Types.VARCHAR),
+            column("total_amount", "DECIMAL(14,2)", Types.DECIMAL),
+            column("currency", "VARCHAR(3)", Types.VARCHAR),
+            column("item_count", "INTEGER", Types.INTEGER),
+            column("shipping_street", "VARCHAR(255)", Types.VARCHAR),
+            column("shipping_city", "VARCHAR(100)", Types.VARCHAR),
+            column("shipping_state", "VARCHAR(100)", Types.VARCHAR),
+            column("shipping_postal_code", "VARCHAR(20)", Types.VARCHAR),
+            column("shipping_country", "VARCHAR(100)", Types.VARCHAR),
+            column("billing_street", "VARCHAR(255)", Types.VARCHAR),
+            column("billing_city", "VARCHAR(100)", Types.VARCHAR),
+            column("billing_state", "VARCHAR(100)", Types.VARCHAR),
+            column("billing_postal_code", "VARCHAR(20)", Types.VARCHAR),
+            column("billing_country", "VARCHAR(100)", Types.VARCHAR),
+            column("payment_method", "VARCHAR(40)", Types.VARCHAR),
+            column("masked_card_number", "VARCHAR(40)", Types.VARCHAR),
+            column("card_type", "VARCHAR(40)", Types.VARCHAR),
+            column("payment_status", "VARCHAR(20)", Types.VARCHAR),
+            column("transaction_id", "VARCHAR(64)", Types.VARCHAR),
+            column("processor", "VARCHAR(40)", Types.VARCHAR),
+            column("created_at", "TIMESTAMP", Types.TIMESTAMP),
+            column("updated_at", "TIMESTAMP", Types.TIMESTAMP)),
+    ORDER_ITEMS("order_items", List.of("order_id", "line_number"),
+            column("order_id", "VARCHAR(64)", Types.VARCHAR),
+            column("line_number", "INTEGER", Types.INTEGER),
+            column("product_id", "VARCHAR(40)", Types.VARCHAR),
+            column("product_name", "VARCHAR(255)", Types.VARCHAR),
+            column("sku", "VARCHAR(40)", Types.VARCHAR),
+            column("quantity", "INTEGER", Types.INTEGER),
+            column("unit_price", "DECIMAL(14,2)", Types.DECIMAL),
+            column("total_price", "DECIMAL(14,2)", Types.DECIMAL),
+            column("category", "VARCHAR(40)", Types.VARCHAR));
+
+    /**
+     * Column name, DDL type and the JDBC type used to bind nulls
+     */
+    public record Column(String name, String ddlType, int sqlType) {
+    }
+
+    private final String tableName;
+    private final List<String> primaryKey;
+    private final Column[] columns;
+
+    SeedTable(String tableName, List<String> primaryKey, Column... columns) {
+        this.tableName = tableName;
+        this.primaryKey = primaryKey;
+        this.columns = columns;
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public int columnCount() {
+        return columns.length;
+    }
+
+    public Column column(int index) {
+        return columns[index];
+    }
+
+    @Override
+    public String columnName(int index) {
+        return columns[index].name();
+    }
+
+    @Override
+    public String columnType(int index) {
+        return columns[index].ddlType();
+    }
+
+    @Override
+    public List<String> primaryKey() {
+        return primaryKey;
+    }
+
+    /**
+     * Multi-row insert with one parameter group per row
+     */
+    String insertStatement(String table, int rows) {
+        String group = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (")
+                .append(List.of(columns).stream().map(Column::name).collect(Collectors.joining(", ")))
+                .append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append(group);
+        }
+        return sql.toString();
+    }
+
+    public static Object[] userRow(EnhancedUser user) {
+        Address address = user.getAddress() != null ? user.getAddress() : new Address();
+        UserProfile profile = user.getProfile() != null ? user.getProfile() : new UserProfile();
+        return new Object[] {
+                user.getUserId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getPhoneNumber(),
+                user.getDateOfBirth() != null ? LocalDate.parse(user.getDateOfBirth()) : null,
+                address.getStreet(), address.getCity(), address.getState(), address.getPostalCode(),
+                address.getCountry(), profile.getCompany(), profile.getJobTitle(), profile.getBio(),
+                profile.getWebsite(), profile.getLanguage(), profile.getTimezone(), profile.getAvatarUrl(),
+                user.getCreatedAt()
+        };
+    }
+
+    public static Object[] orderRow(Order order) {
+        Address shipping = order.getShippingAddress() != null ? order.getShippingAddress() : new Address();
+        Address billing = order.getBillingAddress() != null ? order.getBillingAddress() : new Address();
+        PaymentInfo payment = order.getPaymentInfo() != null ? order.getPaymentInfo() : new PaymentInfo();
+        return new Object[] {
+                order.getOrderId(), order.getUserId(), order.getStatus(), decimal(order.getTotalAmountMoney()),
+                order.getCurrency(), order.getItems() != null ? order.getItems().size() : null,
+                shipping.getStreet(), shipping.getCity(), shipping.getState(), shipping.getPostalCode(),
+                shipping.getCountry(), billing.getStreet(), billing.getCity(), billing.getState(),
+                billing.getPostalCode(), billing.getCountry(), payment.getPaymentMethod(),
+                payment.getMaskedCardNumber(), payment.getCardType(), payment.getPaymentStatus(),
+                payment.getTransactionId(), payment.getProcessor(), order.getCreatedAt(), order.getUpdatedAt()
+        };
+    }
+
+    public static Object[] itemRow(Order order, int lineNumber, OrderItem item) {
+        return new Object[] {
+                order.getOrderId(), lineNumber, item.getProductId(), item.getProductName(), item.getSku(),
+                item.getQuantity(), decimal(item.getUnitPriceMoney()), decimal(item.getTotalPriceMoney()),
+                item.getCategory()
+        };
+    }
+
+    private static BigDecimal decimal(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    private static Column column(String name, String ddlType, int sqlType) {
+        return new Column(name, ddlType, sqlType);
+    }
+}
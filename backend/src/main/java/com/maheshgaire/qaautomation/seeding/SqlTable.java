@@ -0,0 +1,31 @@
+package com.maheshgaire.qaautomation.seeding;
+
+import java.util.List;
+
+/**
+ * A generated table as seen by SQL writers: its name, column names and DDL
+ * types in row order, and its primary key.
+ */
+public interface SqlTable {
+
+    String getTableName();
+
+    int columnCount();
+
+    String columnName(int index);
+
+    String columnType(int index);
+
+    List<String> primaryKey();
+
+    /**
+     * CREATE TABLE IF NOT EXISTS under the given name, without foreign keys so tables load in any order
+     */
+    default String createStatement(String table) {
+        StringBuilder sql = new StringBuilder("CREATE TABLE IF NOT EXISTS ").append(table).append(" (");
+        for (int i = 0; i < columnCount(); i++) {
+            sql.append(columnName(i)).append(' ').append(columnType(i)).append(", ");
+        }
+        return sql.append("PRIMARY KEY (").append(String.join(", ", primaryKey())).append("))").toString();
+    }
+}
@@ -0,0 +1,343 @@
+package com.maheshgaire.qaautomation.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.maheshgaire.qaautomation.model.Money;
+import com.maheshgaire.qaautomation.model.enhanced.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Streaming serializers for the enhanced model graph (users, orders, items,
+ * addresses, payments, profiles).
+ * <p>
+ * Each serializer writes its fields straight to the generator with pre-encoded
+ * names and calls the nested serializers directly, instead of going through
+ * reflective bean property access and per-property serializer lookups. Output
+ * matches the bean serializers: declaration order, null fields omitted.
+ * Timestamps are written by the mapper's own LocalDateTime serializer, resolved
+ * once per mapper, so its date configuration still applies.
+ */
+public class EnhancedModelModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializedString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString PROFILE = new SerializedString("profile");
+    private static final SerializedString ORDERS = new SerializedString("orders");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+    private static final SerializedString ORDER_ID = new SerializedString("orderId");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString SHIPPING_ADDRESS = new SerializedString("shippingAddress");
+    private static final SerializedString BILLING_ADDRESS = new SerializedString("billingAddress");
+    private static final SerializedString PAYMENT_INFO = new SerializedString("paymentInfo");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializedString PRODUCT_ID = new SerializedString("productId");
+    private static final SerializedString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializedString SKU = new SerializedString("sku");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString UNIT_PRICE = new SerializedString("unitPrice");
+    private static final SerializedString TOTAL_PRICE = new SerializedString("totalPrice");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+
+    private static final SerializedString STREET = new SerializedString("street");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString STATE = new SerializedString("state");
+    private static final SerializedString POSTAL_CODE = new SerializedString("postalCode");
+    private static final SerializedString COUNTRY = new SerializedString("country");
+    private static final SerializedString TYPE = new SerializedString("type");
+
+    private static final SerializedString PAYMENT_METHOD = new SerializedString("paymentMethod");
+    private static final SerializedString MASKED_CARD_NUMBER = new SerializedString("maskedCardNumber");
+    private static final SerializedString CARD_TYPE = new SerializedString("cardType");
+    private static final SerializedString PAYMENT_STATUS = new SerializedString("paymentStatus");
+    private static final SerializedString TRANSACTION_ID = new SerializedString("transactionId");
+    private static final SerializedString PROCESSOR = new SerializedString("processor");
+
+    private static final SerializedString COMPANY = new SerializedString("company");
+    private static final SerializedString JOB_TITLE = new SerializedString("jobTitle");
+    private static final SerializedString BIO = new SerializedString("bio");
+    private static final SerializedString WEBSITE = new SerializedString("website");
+    private static final SerializedString LANGUAGE = new SerializedString("language");
+    private static final SerializedString TIMEZONE = new SerializedString("timezone");
+    private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+
+    public EnhancedModelModule() {
+        super("EnhancedModelModule");
+        addSerializer(EnhancedUser.class, new EnhancedUserSerializer(null));
+        addSerializer(Order.class, new OrderSerializer(null));
+        addSerializer(OrderItem.class, new OrderItemSerializer());
+        addSerializer(Address.class, new AddressSerializer());
+        addSerializer(PaymentInfo.class, new PaymentInfoSerializer());
+        addSerializer(UserProfile.class, new UserProfileSerializer());
+    }
+
+    /**
+     * Serializer of a type with timestamps; the mapper contextualizes it into an
+     * instance bound to the mapper's timestamp serializer
+     */
+    abstract static class TimestampedSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        final JsonSerializer<Object> timestamps;
+
+        TimestampedSerializer(Class<T> type, JsonSerializer<Object> timestamps) {
+            super(type);
+            this.timestamps = timestamps;
+        }
+
+        abstract TimestampedSerializer<T> withTimestamps(JsonSerializer<Object> timestamps);
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            return timestamps != null ? this : withTimestamps(provider.findValueSerializer(LocalDateTime.class));
+        }
+    }
+
+    static final class EnhancedUserSerializer extends TimestampedSerializer<EnhancedUser> {
+
+        private static final long serialVersionUID = 1L;
+
+        EnhancedUserSerializer(JsonSerializer<Object> timestamps) {
+            super(EnhancedUser.class, timestamps);
+        }
+
+        @Override
+        EnhancedUserSerializer withTimestamps(JsonSerializer<Object> timestamps) {
+            return new EnhancedUserSerializer(timestamps);
+        }
+
+        @Override
+        public void serialize(EnhancedUser user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeString(gen, USER_ID, user.getUserId());
+            writeString(gen, FIRST_NAME, user.getFirstName());
+            writeString(gen, LAST_NAME, user.getLastName());
+            writeString(gen, EMAIL, user.getEmail());
+            writeString(gen, PHONE_NUMBER, user.getPhoneNumber());
+            writeString(gen, DATE_OF_BIRTH, user.getDateOfBirth());
+            if (user.getAddress() != null) {
+                gen.writeFieldName(ADDRESS);
+                writeAddress(gen, user.getAddress());
+            }
+            if (user.getProfile() != null) {
+                gen.writeFieldName(PROFILE);
+                writeProfile(gen, user.getProfile());
+            }
+            List<Order> orders = user.getOrders();
+            if (orders != null) {
+                gen.writeFieldName(ORDERS);
+                gen.writeStartArray();
+                for (Order order : orders) {
+                    writeOrder(gen, order, timestamps, provider);
+                }
+                gen.writeEndArray();
+            }
+            writeTimestamp(gen, CREATED_AT, user.getCreatedAt(), timestamps, provider);
+            gen.writeEndObject();
+        }
+    }
+
+    static final class OrderSerializer extends TimestampedSerializer<Order> {
+
+        private static final long serialVersionUID = 1L;
+
+        OrderSerializer(JsonSerializer<Object> timestamps) {
+            super(Order.class, timestamps);
+        }
+
+        @Override
+        OrderSerializer withTimestamps(JsonSerializer<Object> timestamps) {
+            return new OrderSerializer(timestamps);
+        }
+
+        @Override
+        public void serialize(Order order, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeOrder(gen, order, timestamps, provider);
+        }
+    }
+
+    static final class OrderItemSerializer extends StdSerializer<OrderItem> {
+
+        private static final long serialVersionUID = 1L;
+
+        OrderItemSerializer() {
+            super(OrderItem.class);
+        }
+
+        @Override
+        public void serialize(OrderItem item, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeItem(gen, item);
+        }
+    }
+
+    static final class AddressSerializer extends StdSerializer<Address> {
+
+        private static final long serialVersionUID = 1L;
+
+        AddressSerializer() {
+            super(Address.class);
+        }
+
+        @Override
+        public void serialize(Address address, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeAddress(gen, address);
+        }
+    }
+
+    static final class PaymentInfoSerializer extends StdSerializer<PaymentInfo> {
+
+        private static final long serialVersionUID = 1L;
+
+        PaymentInfoSerializer() {
+            super(PaymentInfo.class);
+        }
+
+        @Override
+        public void serialize(PaymentInfo payment, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writePayment(gen, payment);
+        }
+    }
+
+    static final class UserProfileSerializer extends StdSerializer<UserProfile> {
+
+        private static final long serialVersionUID = 1L;
+
+        UserProfileSerializer() {
+            super(UserProfile.class);
+        }
+
+        @Override
+        public void serialize(UserProfile profile, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeProfile(gen, profile);
+        }
+    }
+
+    private static void writeOrder(JsonGenerator gen, Order order, JsonSerializer<Object> timestamps,
+                                   SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ORDER_ID, order.getOrderId());
+        writeString(gen, USER_ID, order.getUserId());
+        writeString(gen, STATUS, order.getStatus());
+        writeMoney(gen, TOTAL_AMOUNT, order.getTotalAmountMoney());
+        writeString(gen, CURRENCY, order.getCurrency());
+        List<OrderItem> items = order.getItems();
+        if (items != null) {
+            gen.writeFieldName(ITEMS);
+            gen.writeStartArray();
+            for (OrderItem item : items) {
+                writeItem(gen, item);
+            }
+            gen.writeEndArray();
+        }
+        if (order.getShippingAddress() != null) {
+            gen.writeFieldName(SHIPPING_ADDRESS);
+            writeAddress(gen, order.getShippingAddress());
+        }
+        if (order.getBillingAddress() != null) {
+            gen.writeFieldName(BILLING_ADDRESS);
+            writeAddress(gen, order.getBillingAddress());
+        }
+        if (order.getPaymentInfo() != null) {
+            gen.writeFieldName(PAYMENT_INFO);
+            writePayment(gen, order.getPaymentInfo());
+        }
+        writeTimestamp(gen, CREATED_AT, order.getCreatedAt(), timestamps, provider);
+        writeTimestamp(gen, UPDATED_AT, order.getUpdatedAt(), timestamps, provider);
+        gen.writeEndObject();
+    }
+
+    private static void writeItem(JsonGenerator gen, OrderItem item) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, PRODUCT_ID, item.getProductId());
+        writeString(gen, PRODUCT_NAME, item.getProductName());
+        writeString(gen, SKU, item.getSku());
+        if (item.getQuantity() != null) {
+            gen.writeFieldName(QUANTITY);
+            gen.writeNumber(item.getQuantity());
+        }
+        writeMoney(gen, UNIT_PRICE, item.getUnitPriceMoney());
+        writeMoney(gen, TOTAL_PRICE, item.getTotalPriceMoney());
+        writeString(gen, CATEGORY, item.getCategory());
+        gen.writeEndObject();
+    }
+
+    private static void writeAddress(JsonGenerator gen, Address address) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, STREET, address.getStreet());
+        writeString(gen, CITY, address.getCity());
+        writeString(gen, STATE, address.getState());
+        writeString(gen, POSTAL_CODE, address.getPostalCode());
+        writeString(gen, COUNTRY, address.getCountry());
+        writeString(gen, TYPE, address.getType());
+        gen.writeEndObject();
+    }
+
+    private static void writePayment(JsonGenerator gen, PaymentInfo payment) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, PAYMENT_METHOD, payment.getPaymentMethod());
+        writeString(gen, MASKED_CARD_NUMBER, payment.getMaskedCardNumber());
+        writeString(gen, CARD_TYPE, payment.getCardType());
+        writeString(gen, PAYMENT_STATUS, payment.getPaymentStatus());
+        writeString(gen, TRANSACTION_ID, payment.getTransactionId());
+        writeString(gen, PROCESSOR, payment.getProcessor());
+        gen.writeEndObject();
+    }
+
+    private static void writeProfile(JsonGenerator gen, UserProfile profile) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, COMPANY, profile.getCompany());
+        writeString(gen, JOB_TITLE, profile.getJobTitle());
+        writeString(gen, BIO, profile.getBio());
+        writeString(gen, WEBSITE, profile.getWebsite());
+        writeString(gen, LANGUAGE, profile.getLanguage());
+        writeString(gen, TIMEZONE, profile.getTimezone());
+        writeString(gen, AVATAR_URL, profile.getAvatarUrl());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeMoney(JsonGenerator gen, SerializableString name, Money value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            value.writeTo(gen);
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializableString name, LocalDateTime value,
+                                       JsonSerializer<Object> timestamps, SerializerProvider provider) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            timestamps.serialize(value, gen, provider);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.maheshgaire.qaautomation.serialization;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.maheshgaire.qaautomation.model.Money;
+import com.maheshgaire.qaautomation.model.enhanced.Address;
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.model.enhanced.OrderItem;
+import com.maheshgaire.qaautomation.model.enhanced.PaymentInfo;
+import com.maheshgaire.qaautomation.model.enhanced.UserProfile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Writes enhanced users and orders in the protobuf wire format of
+ * {@code static/proto/testdata.proto}, straight from the model objects.
+ * <p>
+ * Like generated message classes, each message type has a size method and a
+ * write method with the same field order; sizes of nested messages are needed
+ * for their length prefixes. Null fields are omitted, as they are from JSON.
+ */
+public final class EnhancedProtobufWriter {
+
+    private EnhancedProtobufWriter() {
+    }
+
+    /**
+     * Write a user or order prefixed with its length, as {@code writeDelimitedTo} does
+     */
+    public static void writeDelimited(CodedOutputStream out, Object record) throws IOException {
+        if (record instanceof EnhancedUser user) {
+            out.writeUInt32NoTag(userSize(user));
+            writeUser(out, user);
+        } else if (record instanceof Order order) {
+            out.writeUInt32NoTag(orderSize(order));
+            writeOrder(out, order);
+        } else {
+            throw new IllegalArgumentException("No protobuf schema for " + record.getClass().getSimpleName()
+                    + " (users and orders only)");
+        }
+    }
+
+    private static int userSize(EnhancedUser user) {
+        int size = stringSize(1, user.getUserId())
+                + stringSize(2, user.getFirstName())
+                + stringSize(3, user.getLastName())
+                + stringSize(4, user.getEmail())
+                + stringSize(5, user.getPhoneNumber())
+                + stringSize(6, user.getDateOfBirth());
+        if (user.getAddress() != null) {
+            size += messageSize(7, addressSize(user.getAddress()));
+        }
+        if (user.getProfile() != null) {
+            size += messageSize(8, profileSize(user.getProfile()));
+        }
+        if (user.getOrders() != null) {
+            for (Order order : user.getOrders()) {
+                size += messageSize(9, orderSize(order));
+            }
+        }
+        return size + timestampSize(10, user.getCreatedAt());
+    }
+
+    private static void writeUser(CodedOutputStream out, EnhancedUser user) throws IOException {
+        writeString(out, 1, user.getUserId());
+        writeString(out, 2, user.getFirstName());
+        writeString(out, 3, user.getLastName());
+        writeString(out, 4, user.getEmail());
+        writeString(out, 5, user.getPhoneNumber());
+        writeString(out, 6, user.getDateOfBirth());
+        if (user.getAddress() != null) {
+            writeMessageHeader(out, 7, addressSize(user.getAddress()));
+            writeAddress(out, user.getAddress());
+        }
+        if (user.getProfile() != null) {
+            writeMessageHeader(out, 8, profileSize(user.getProfile()));
+            writeProfile(out, user.getProfile());
+        }
+        if (user.getOrders() != null) {
+            for (Order order : user.getOrders()) {
+                writeMessageHeader(out, 9, orderSize(order));
+                writeOrder(out, order);
+            }
+        }
+        writeTimestamp(out, 10, user.getCreatedAt());
+    }
+
+    private static int orderSize(Order order) {
+        int size = stringSize(1, order.getOrderId())
+                + stringSize(2, order.getUserId())
+                + stringSize(3, order.getStatus())
+                + moneySize(4, order.getTotalAmountMoney())
+                + stringSize(5, order.getCurrency());
+        List<OrderItem> items = order.getItems();
+        if (items != null) {
+            for (OrderItem item : items) {
+                size += messageSize(6, itemSize(item));
+            }
+        }
+        if (order.getShippingAddress() != null) {
+            size += messageSize(7, addressSize(order.getShippingAddress()));
+        }
+        if (order.getBillingAddress() != null) {
+            size += messageSize(8, addressSize(order.getBillingAddress()));
+        }
+        if (order.getPaymentInfo() != null) {
+            size += messageSize(9, paymentSize(order.getPaymentInfo()));
+        }
+        return size + timestampSize(10, order.getCreatedAt()) + timestampSize(11, order.getUpdatedAt());
+    }
+
+    private static void writeOrder(CodedOutputStream out, Order order) throws IOException {
+        writeString(out, 1, order.getOrderId());
+        writeString(out, 2, order.getUserId());
+        writeString(out, 3, order.getStatus());
+        writeMoney(out, 4, order.getTotalAmountMoney());
+        writeString(out, 5, order.getCurrency());
+        if (order.getItems() != null) {
+            for (OrderItem item : order.getItems()) {
+                writeMessageHeader(out, 6, itemSize(item));
+                writeItem(out, item);
+            }
+        }
+        if (order.getShippingAddress() != null) {
+            writeMessageHeader(out, 7, addressSize(order.getShippingAddress()));
+            writeAddress(out, order.getShippingAddress());
+        }
+        if (order.getBillingAddress() != null) {
+            writeMessageHeader(out, 8, addressSize(order.getBillingAddress()));
+            writeAddress(out, order.getBillingAddress());
+        }
+        if (order.getPaymentInfo() != null) {
+            writeMessageHeader(out, 9, paymentSize(order.getPaymentInfo()));
+            writePayment(out, order.getPaymentInfo());
+        }
+        writeTimestamp(out, 10, order.getCreatedAt());
+        writeTimestamp(out, 11, order.getUpdatedAt());
+    }
+
+    private static int itemSize(OrderItem item) {
+        return stringSize(1, item.getProductId())
+                + stringSize(2, item.getProductName())
+                + stringSize(3, item.getSku())
+                + (item.getQuantity() != null ? CodedOutputStream.computeUInt32Size(4, item.getQuantity()) : 0)
+                + moneySize(5, item.getUnitPriceMoney())
+                + moneySize(6, item.getTotalPriceMoney())
+                + stringSize(7, item.getCategory());
+    }
+
+    private static void writeItem(CodedOutputStream out, OrderItem item) throws IOException {
+        writeString(out, 1, item.getProductId());
+        writeString(out, 2, item.getProductName());
+        writeString(out, 3, item.getSku());
+        if (item.getQuantity() != null) {
+            out.writeUInt32(4, item.getQuantity());
+        }
+        writeMoney(out, 5, item.getUnitPriceMoney());
+        writeMoney(out, 6, item.getTotalPriceMoney());
+        writeString(out, 7, item.getCategory());
+    }
+
+    private static int addressSize(Address address) {
+        return stringSize(1, address.getStreet())
+                + stringSize(2, address.getCity())
+                + stringSize(3, address.getState())
+                + stringSize(4, address.getPostalCode())
+                + stringSize(5, address.getCountry())
+                + stringSize(6, address.getType());
+    }
+
+    private static void writeAddress(CodedOutputStream out, Address address) throws IOException {
+        writeString(out, 1, address.getStreet());
+        writeString(out, 2, address.getCity());
+        writeString(out, 3, address.getState());
+        writeString(out, 4, address.getPostalCode());
+        writeString(out, 5, address.getCountry());
+        writeString(out, 6, address.getType());
+    }
+
+    private static int profileSize(UserProfile profile) {
+        return stringSize(1, profile.getCompany())
+                + stringSize(2, profile.getJobTitle())
+                + stringSize(3, profile.getBio())
+                + stringSize(4, profile.getWebsite())
+                + stringSize(5, profile.getLanguage())
+                + stringSize(6, profile.getTimezone())
+                + stringSize(7, profile.getAvatarUrl());
+    }
+
+    private static void writeProfile(CodedOutputStream out, UserProfile profile) throws IOException {
+        writeString(out, 1, profile.getCompany());
+        writeString(out, 2, profile.getJobTitle());
+        writeString(out, 3, profile.getBio());
+        writeString(out, 4, profile.getWebsite());
+        writeString(out, 5, profile.getLanguage());
+        writeString(out, 6, profile.getTimezone());
+        writeString(out, 7, profile.getAvatarUrl());
+    }
+
+    private static int paymentSize(PaymentInfo payment) {
+        return stringSize(1, payment.getPaymentMethod())
+                + stringSize(2, payment.getMaskedCardNumber())
+                + stringSize(3, payment.getCardType())
+                + stringSize(4, payment.getPaymentStatus())
+                + stringSize(5, payment.getTransactionId())
+                + stringSize(6, payment.getProcessor());
+    }
+
+    private static void writePayment(CodedOutputStream out, PaymentInfo payment) throws IOException {
+        writeString(out, 1, payment.getPaymentMethod());
+        writeString(out, 2, payment.getMaskedCardNumber());
+        writeString(out, 3, payment.getCardType());
+        writeString(out, 4, payment.getPaymentStatus());
+        writeString(out, 5, payment.getTransactionId());
+        writeString(out, 6, payment.getProcessor());
+    }
+
+    // Money {sint64 units = 1; uint32 scale = 2}
+    private static int moneySize(int field, Money money) {
+        if (money == null) {
+            return 0;
+        }
+        return messageSize(field, CodedOutputStream.computeSInt64Size(1, money.getMinorUnits())
+                + CodedOutputStream.computeUInt32Size(2, money.getScale()));
+    }
+
+    private static void writeMoney(CodedOutputStream out, int field, Money money) throws IOException {
+        if (money != null) {
+            writeMessageHeader(out, field, CodedOutputStream.computeSInt64Size(1, money.getMinorUnits())
+                    + CodedOutputStream.computeUInt32Size(2, money.getScale()));
+            out.writeSInt64(1, money.getMinorUnits());
+            out.writeUInt32(2, money.getScale());
+        }
+    }
+
+    // google.protobuf.Timestamp {int64 seconds = 1; int32 nanos = 2}, local time read as UTC
+    private static int timestampSize(int field, LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return messageSize(field, CodedOutputStream.computeInt64Size(1, time.toEpochSecond(ZoneOffset.UTC))
+                + CodedOutputStream.computeInt32Size(2, time.getNano()));
+    }
+
+    private static void writeTimestamp(CodedOutputStream out, int field, LocalDateTime time) throws IOException {
+        if (time != null) {
+            long seconds = time.toEpochSecond(ZoneOffset.UTC);
+            writeMessageHeader(out, field, CodedOutputStream.computeInt64Size(1, seconds)
+                    + CodedOutputStream.computeInt32Size(2, time.getNano()));
+            out.writeInt64(1, seconds);
+            out.writeInt32(2, time.getNano());
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static void writeMessageHeader(CodedOutputStream out, int field, int size) throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+    }
+}
@@ -0,0 +1,186 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
+import com.maheshgaire.qaautomation.model.seeding.SeedReport;
+import com.maheshgaire.qaautomation.model.seeding.SeedRequest;
+import com.maheshgaire.qaautomation.seeding.JdbcBatchWriter;
+import com.maheshgaire.qaautomation.seeding.RowBatcher;
+import com.maheshgaire.qaautomation.seeding.SeedTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Loads generated enhanced entities into the configured JDBC database.
+ * <p>
+ * Entities are streamed from {@link EnhancedTestDataService} (generated in
+ * parallel), split into users, orders and order_items rows, grouped into
+ * batches per table and written by a pool of connections, each batch as
+ * multi-row INSERTs committed in one transaction. Generation pauses when all
+ * writers are busy, so memory stays bounded by the batches in flight. The
+ * target comes from configuration only; requests cannot point the server at
+ * arbitrary JDBC URLs.
+ */
+@Service
+public class DatabaseSeedingService {
+
+    private static final Pattern TABLE_PREFIX = Pattern.compile("[A-Za-z0-9_]{0,32}");
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private EnhancedTestDataService enhancedTestDataService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${testdata.seed.url:jdbc:h2:mem:qa-hub-seed;DB_CLOSE_DELAY=-1}")
+    private String url;
+
+    @Value("${testdata.seed.username:sa}")
+    private String username;
+
+    @Value("${testdata.seed.password:}")
+    private String password;
+
+    @Value("${testdata.seed.max-writers:16}")
+    private int maxWriters;
+
+    /**
+     * Generate and insert a dataset, completing with the run's row counts and batch commit metrics
+     */
+    public Mono<SeedReport> seed(SeedRequest request) {
+        SeedRequest normalized = normalize(request);
+        return Mono.using(
+                        () -> new JdbcBatchWriter(url, username, password, normalized.getWriters(),
+                                normalized.getTablePrefix()),
+                        writer -> run(writer, normalized),
+                        JdbcBatchWriter::close)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<SeedReport> run(JdbcBatchWriter writer, SeedRequest request) {
+        Scheduler writers = Schedulers.newBoundedElastic(request.getWriters(), Integer.MAX_VALUE, "seed-writer");
+        Map<String, SeedReport.TableMetrics> tables = new LinkedHashMap<>();
+        for (SeedTable table : SeedTable.values()) {
+            tables.put(writer.tableName(table), new SeedReport.TableMetrics());
+        }
+        long started = System.nanoTime();
+        return Mono.fromCallable(() -> {
+                    writer.createTables(Boolean.TRUE.equals(request.getRecreateTables()));
+                    return new RowBatcher(request.getBatchSize());
+                })
+                .flatMapMany(batcher -> entities(request)
+                        .concatMapIterable(batcher::add)
+                        .concatWith(Flux.defer(() -> Flux.fromIterable(batcher.drain()))))
+                .flatMap(batch -> Mono.fromCallable(() -> {
+                    long nanos = writer.write(batch.table(), batch.rows());
+                    record(writer.tableName(batch.table()), batch.rows().size(), nanos);
+                    return new BatchResult(writer.tableName(batch.table()), batch.rows().size(), nanos);
+                }).subscribeOn(writers), request.getWriters(), 1)
+                .doOnNext(result -> tables.get(result.table()).record(result.rows(), result.nanos()))
+                .then(Mono.fromCallable(() -> report(request, tables, System.nanoTime() - started)))
+                .doFinally(signal -> writers.dispose());
+    }
+
+    private Flux<?> entities(SeedRequest request) {
+        FieldDistributions distributions = FieldDistributions.parse(request.getDistribution());
+        UniqueFields unique = UniqueFields.parse(request.getUnique());
+        return switch (request.getDataset()) {
+            case "users" -> enhancedTestDataService.streamEnhancedUsers(0, request.getCount(),
+                    request.getIncludeOrders(), request.getSeed(), distributions, unique);
+            case "users-with-orders" -> enhancedTestDataService.streamUsersWithOrders(0, request.getCount(),
+                    request.getMinOrders(), request.getMaxOrders(), request.getSeed(), distributions, unique);
+            default -> enhancedTestDataService.streamEnhancedOrders(0, request.getCount(),
+                    request.getIncludeItems(), request.getSeed(), distributions, unique);
+        };
+    }
+
+    private void record(String table, int rows, long nanos) {
+        Timer.builder("testdata.seed.batch")
+                .description("Time to insert and commit one seeding batch")
+                .tag("table", table)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("testdata.seed.rows", "table", table).increment(rows);
+    }
+
+    private static SeedReport report(SeedRequest request, Map<String, SeedReport.TableMetrics> tables, long nanos) {
+        SeedReport report = new SeedReport();
+        report.setRequest(request);
+        report.setTables(tables);
+        long rows = tables.values().stream().mapToLong(SeedReport.TableMetrics::getRows).sum();
+        report.setTotalRows(rows);
+        report.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(nanos));
+        report.setRowsPerSecond(Math.round(rows / (nanos / 1e9) * 10) / 10.0);
+        return report;
+    }
+
+    private SeedRequest normalize(SeedRequest request) {
+        if (request.getCount() == null || request.getCount() < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        SeedRequest normalized = new SeedRequest();
+        String dataset = request.getDataset() != null
+                ? request.getDataset().toLowerCase(Locale.ROOT).replace('_', '-') : "users-with-orders";
+        switch (dataset) {
+            case "users" -> normalized.setIncludeOrders(Boolean.TRUE.equals(request.getIncludeOrders()));
+            case "orders" -> normalized.setIncludeItems(!Boolean.FALSE.equals(request.getIncludeItems()));
+            case "users-with-orders" -> {
+                int minOrders = request.getMinOrders() != null ? request.getMinOrders() : 1;
+                int maxOrders = request.getMaxOrders() != null ? request.getMaxOrders() : 5;
+                if (minOrders < 0 || maxOrders < minOrders) {
+                    throw new IllegalArgumentException("Need 0 <= minOrders <= maxOrders");
+                }
+                normalized.setMinOrders(minOrders);
+                normalized.setMaxOrders(maxOrders);
+            }
+            default -> throw new IllegalArgumentException("Unknown seeding dataset: " + request.getDataset());
+        }
+        normalized.setDataset(dataset);
+        normalized.setCount(request.getCount());
+        normalized.setSeed(request.getSeed() != null ? request.getSeed() : RandomStreams.of(null).seed());
+
+        int batchSize = request.getBatchSize() != null ? request.getBatchSize() : 1000;
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batchSize must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        normalized.setBatchSize(batchSize);
+        int writers = request.getWriters() != null ? request.getWriters() : 4;
+        if (writers < 1 || writers > maxWriters) {
+            throw new IllegalArgumentException("writers must be between 1 and " + maxWriters);
+        }
+        normalized.setWriters(writers);
+        String prefix = request.getTablePrefix() != null ? request.getTablePrefix() : "";
+        if (!TABLE_PREFIX.matcher(prefix).matches()) {
+            throw new IllegalArgumentException("tablePrefix may only contain up to 32 letters, digits and underscores");
+        }
+        normalized.setTablePrefix(prefix);
+        normalized.setRecreateTables(Boolean.TRUE.equals(request.getRecreateTables()));
+        FieldDistributions distributions = FieldDistributions.parse(request.getDistribution());
+        if (!distributions.isUniform()) {
+            normalized.setDistribution(distributions.toString());
+        }
+        UniqueFields unique = UniqueFields.parse(request.getUnique()).requireUnskewed(distributions);
+        if (!unique.isEmpty()) {
+            normalized.setUnique(unique.toString());
+        }
+        return normalized;
+    }
+
+    private record BatchResult(String table, int rows, long nanos) {
+    }
+}
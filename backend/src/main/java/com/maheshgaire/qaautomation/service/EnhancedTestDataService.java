@@ -1,22 +1,81 @@
 package com.maheshgaire.qaautomation.service;
 
+import com.maheshgaire.qaautomation.generation.DictionarySnapshot;
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.ParallelGenerator;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.SeededFaker;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.StringInterner;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.distribution.IndexSampler;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
+import com.maheshgaire.qaautomation.generation.unique.UniqueValues;
+import com.maheshgaire.qaautomation.model.Money;
 import com.maheshgaire.qaautomation.model.enhanced.*;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
 import java.util.stream.IntStream;
 
 @Service
 public class EnhancedTestDataService {
 
-    private final Faker faker;
-    private final Random random;
-    
+    // Child streams of a user record
+    private static final long USER_IDENTITY = 1;
+    private static final long USER_CONTACT = 2;
+    private static final long USER_BIRTH = 3;
+    private static final long USER_ADDRESS = 4;
+    private static final long USER_PROFILE = 5;
+    private static final long USER_ORDERS = 6;
+    private static final long USER_ORDER_COUNT = 7;
+
+    // Child streams of an order record
+    private static final long ORDER_HEADER = 11;
+    private static final long ORDER_ITEMS = 12;
+    private static final long ORDER_SHIPPING = 13;
+    private static final long ORDER_BILLING = 14;
+    private static final long ORDER_PAYMENT = 15;
+    private static final long ORDER_USER = 16;
+
+    // Child streams of an order item
+    private static final long ITEM_PRODUCT = 21;
+    private static final long ITEM_CATEGORY = 22;
+
+    /** Product ids are "prod_" plus six digits, so a skewed product_id draws from this many keys */
+    private static final long PRODUCT_KEYS = 1_000_000;
+
+    /** Fields of a user that a projection can select; orders.* paths project the orders */
+    public static final List<String> USER_FIELDS = List.of("userId", "firstName", "lastName", "email",
+            "phoneNumber", "dateOfBirth", "address", "profile", "orders", "createdAt");
+
+    /** Fields of an order that a projection can select; nested objects are selected whole */
+    public static final List<String> ORDER_FIELDS = List.of("orderId", "userId", "status", "totalAmount",
+            "currency", "items", "shippingAddress", "billingAddress", "paymentInfo", "createdAt", "updatedAt");
+
+    private static final String ORDERS_FIELD = "orders";
+    private static final String ITEMS_FIELD = "items";
+    private static final String TOTAL_AMOUNT_FIELD = "totalAmount";
+
+    /** Seed of the fixed preview samples (sample formats, MCP resources) */
+    public static final long SAMPLE_SEED = 20240101L;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final IdGenerator idGenerator;
+    private final ParallelGenerator parallelGenerator;
+    private final DictionarySnapshot dictionary;
+
+    // Canonical instances for generated values that repeat across records
+
     // Predefined data for consistency
     private final List<String> orderStatuses = Arrays.asList(
         "pending", "confirmed", "processing", "shipped", "delivered", "cancelled"
@@ -38,196 +97,620 @@ public class EnhancedTestDataService {
         "Electronics", "Clothing", "Books", "Home & Garden", "Sports", "Toys", "Beauty", "Food"
     );
 
-    public EnhancedTestDataService() {
-        this.faker = new Faker();
-        this.random = new Random();
+    public EnhancedTestDataService(IdGenerator idGenerator, ParallelGenerator parallelGenerator,
+                                   DictionarySnapshot dictionary) {
+        this.idGenerator = idGenerator;
+        this.parallelGenerator = parallelGenerator;
+        this.dictionary = dictionary;
     }
 
     /**
      * Generate enhanced users with complete profile information
      */
     public List<EnhancedUser> generateEnhancedUsers(int count, boolean includeOrders) {
-        return IntStream.range(0, count)
-                .mapToObj(i -> generateSingleUser(includeOrders))
-                .toList();
+        return generateEnhancedUsers(count, includeOrders, null);
+    }
+
+    /**
+     * Generate enhanced users; the same seed always yields the same users
+     */
+    public List<EnhancedUser> generateEnhancedUsers(int count, boolean includeOrders, Long seed) {
+        return parallelGenerator.generate(count, users(RandomStreams.of(seed), includeOrders, Skew.NONE,
+                FieldProjection.ALL, StringInterner.forRecords(count)));
+    }
+
+    /**
+     * Lazily stream enhanced users; only the chunks in flight are held in memory
+     */
+    public Flux<EnhancedUser> streamEnhancedUsers(long count, boolean includeOrders, Long seed) {
+        return streamEnhancedUsers(0, count, includeOrders, seed, FieldDistributions.UNIFORM, UniqueFields.NONE);
+    }
+
+    /**
+     * Lazily stream the enhanced users at positions [offset, offset + count) of the seeded sequence,
+     * with order counts, products and categories drawn from the given distributions and the unique
+     * fields never repeated
+     */
+    public Flux<EnhancedUser> streamEnhancedUsers(long offset, long count, boolean includeOrders, Long seed,
+                                                  FieldDistributions distributions, UniqueFields unique) {
+        return streamEnhancedUsers(offset, count, includeOrders, seed, distributions, unique, FieldProjection.ALL);
+    }
+
+    /**
+     * Lazily stream the projected fields of the enhanced users at positions [offset, offset + count);
+     * fields that are not selected are never computed
+     */
+    public Flux<EnhancedUser> streamEnhancedUsers(long offset, long count, boolean includeOrders, Long seed,
+                                                  FieldDistributions distributions, UniqueFields unique,
+                                                  FieldProjection fields) {
+        return claimed(offset, offset + count, distributions, unique,
+                from -> Flux.defer(() -> parallelGenerator.stream(from, offset + count,
+                        users(RandomStreams.of(seed), includeOrders, skew(distributions, offset + count, 6),
+                                fields, StringInterner.none()))),
+                UniqueClaims::user);
+    }
+
+    /**
+     * Lazily stream the projected fields of one shard of the seeded sequence of {@code count} users
+     */
+    public Flux<EnhancedUser> streamEnhancedUsers(Shard shard, long count, boolean includeOrders, Long seed,
+                                                  FieldDistributions distributions, UniqueFields unique,
+                                                  FieldProjection fields) {
+        return streamEnhancedUsers(shard.from(count), shard.size(count), includeOrders, seed, distributions, unique,
+                fields);
     }
 
     /**
      * Generate users with their orders (relational data)
      */
     public List<EnhancedUser> generateUsersWithOrders(int userCount, int minOrders, int maxOrders) {
-        return IntStream.range(0, userCount)
-                .mapToObj(i -> {
-                    EnhancedUser user = generateSingleUser(false);
-                    int orderCount = faker.number().numberBetween(minOrders, maxOrders + 1);
-                    user.setOrders(generateOrdersForUser(user.getUserId(), orderCount));
-                    return user;
-                })
-                .toList();
+        return generateUsersWithOrders(userCount, minOrders, maxOrders, null);
+    }
+
+    /**
+     * Generate users with their orders; the same seed always yields the same data
+     */
+    public List<EnhancedUser> generateUsersWithOrders(int userCount, int minOrders, int maxOrders, Long seed) {
+        return parallelGenerator.generate(userCount,
+                usersWithOrders(RandomStreams.of(seed), minOrders, maxOrders, Skew.NONE, FieldProjection.ALL,
+                        StringInterner.forRecords(userCount)));
+    }
+
+    /**
+     * Lazily stream users with their orders; only the chunks in flight are held in memory
+     */
+    public Flux<EnhancedUser> streamUsersWithOrders(long userCount, int minOrders, int maxOrders, Long seed) {
+        return streamUsersWithOrders(0, userCount, minOrders, maxOrders, seed, FieldDistributions.UNIFORM,
+                UniqueFields.NONE);
+    }
+
+    /**
+     * Lazily stream the users with orders at positions [offset, offset + userCount) of the seeded sequence,
+     * with order counts, products and categories drawn from the given distributions and the unique
+     * fields never repeated
+     */
+    public Flux<EnhancedUser> streamUsersWithOrders(long offset, long userCount, int minOrders, int maxOrders,
+                                                    Long seed, FieldDistributions distributions,
+                                                    UniqueFields unique) {
+        return streamUsersWithOrders(offset, userCount, minOrders, maxOrders, seed, distributions, unique,
+                FieldProjection.ALL);
+    }
+
+    /**
+     * Lazily stream the projected fields of the users with orders at positions [offset, offset + userCount);
+     * {@code orders.*} paths project the orders
+     */
+    public Flux<EnhancedUser> streamUsersWithOrders(long offset, long userCount, int minOrders, int maxOrders,
+                                                    Long seed, FieldDistributions distributions,
+                                                    UniqueFields unique, FieldProjection fields) {
+        return claimed(offset, offset + userCount, distributions, unique,
+                from -> Flux.defer(() -> parallelGenerator.stream(from, offset + userCount,
+                        usersWithOrders(RandomStreams.of(seed), minOrders, maxOrders,
+                                skew(distributions, offset + userCount, maxOrders - minOrders + 1), fields,
+                                StringInterner.none()))),
+                UniqueClaims::user);
+    }
+
+    /**
+     * Lazily stream the projected fields of one shard of the seeded sequence of {@code userCount} users
+     * with orders
+     */
+    public Flux<EnhancedUser> streamUsersWithOrders(Shard shard, long userCount, int minOrders, int maxOrders,
+                                                    Long seed, FieldDistributions distributions,
+                                                    UniqueFields unique, FieldProjection fields) {
+        return streamUsersWithOrders(shard.from(userCount), shard.size(userCount), minOrders, maxOrders, seed,
+                distributions, unique, fields);
     }
 
     /**
      * Generate orders with realistic items and pricing
      */
     public List<Order> generateEnhancedOrders(int count, boolean includeItems) {
-        return IntStream.range(0, count)
-                .mapToObj(i -> generateSingleOrder(null, includeItems))
-                .toList();
+        return generateEnhancedOrders(count, includeItems, null);
+    }
+
+    /**
+     * Generate orders; the same seed always yields the same orders
+     */
+    public List<Order> generateEnhancedOrders(int count, boolean includeItems, Long seed) {
+        return parallelGenerator.generate(count, orders(RandomStreams.of(seed), includeItems, Skew.NONE,
+                FieldProjection.ALL, StringInterner.forRecords(count)));
+    }
+
+    /**
+     * Lazily stream orders; only the chunks in flight are held in memory
+     */
+    public Flux<Order> streamEnhancedOrders(long count, boolean includeItems, Long seed) {
+        return streamEnhancedOrders(0, count, includeItems, seed, FieldDistributions.UNIFORM, UniqueFields.NONE);
+    }
+
+    /**
+     * Lazily stream the orders at positions [offset, offset + count) of the seeded sequence. With a
+     * user_id distribution, orders reference the users [0, offset + count) of the same seed instead
+     * of one user each.
+     */
+    public Flux<Order> streamEnhancedOrders(long offset, long count, boolean includeItems, Long seed,
+                                            FieldDistributions distributions, UniqueFields unique) {
+        return streamOrders(offset, offset + count, offset + count, includeItems, seed, distributions, unique,
+                FieldProjection.ALL);
+    }
+
+    /**
+     * Lazily stream the projected fields of one shard of the seeded sequence of {@code count} orders.
+     * Skewed user_id keys are drawn from [0, count) as on a single node, so every shard references
+     * the same users.
+     */
+    public Flux<Order> streamEnhancedOrders(Shard shard, long count, boolean includeItems, Long seed,
+                                            FieldDistributions distributions, UniqueFields unique,
+                                            FieldProjection fields) {
+        return streamOrders(shard.from(count), shard.to(count), count, includeItems, seed, distributions, unique,
+                fields);
+    }
+
+    private Flux<Order> streamOrders(long from, long to, long userKeys, boolean includeItems, Long seed,
+                                     FieldDistributions distributions, UniqueFields unique,
+                                     FieldProjection fields) {
+        return claimed(from, to, distributions, unique,
+                start -> Flux.defer(() -> parallelGenerator.stream(start, to,
+                        orders(RandomStreams.of(seed), includeItems, skew(distributions, userKeys, 1), fields,
+                                StringInterner.none()))),
+                UniqueClaims::order);
+    }
+
+    /**
+     * The user at {@code index} of the seeded sequence, generated on its own in constant time
+     */
+    public EnhancedUser enhancedUserAt(long index, boolean includeOrders, long seed,
+                                       FieldDistributions distributions) {
+        return parallelGenerator.generateAt(index,
+                users(RandomStreams.of(seed), includeOrders, skew(distributions, index + 1, 6), FieldProjection.ALL,
+                        StringInterner.none()));
+    }
+
+    /**
+     * The order at {@code index} of a virtual dataset of {@code total} seeded orders, generated on its
+     * own in constant time; skewed user_id keys are drawn from the dataset's [0, total) users
+     */
+    public Order enhancedOrderAt(long index, long total, boolean includeItems, long seed,
+                                 FieldDistributions distributions) {
+        return parallelGenerator.generateAt(index,
+                orders(RandomStreams.of(seed), includeItems, skew(distributions, total, 1), FieldProjection.ALL,
+                        StringInterner.none()));
+    }
+
+    /**
+     * Up to {@code limit} users from {@code offset} of a virtual dataset of {@code total} seeded users;
+     * only the page itself is generated
+     */
+    public Mono<DatasetPage<EnhancedUser>> enhancedUserPage(long offset, int limit, long total,
+                                                            boolean includeOrders, long seed,
+                                                            FieldDistributions distributions) {
+        long count = Math.max(0, Math.min(limit, total - offset));
+        return streamEnhancedUsers(offset, count, includeOrders, seed, distributions, UniqueFields.NONE)
+                .collectList()
+                .map(users -> new DatasetPage<>(users, offset, limit, total, seed));
+    }
+
+    /**
+     * Up to {@code limit} orders from {@code offset} of a virtual dataset of {@code total} seeded orders
+     */
+    public Mono<DatasetPage<Order>> enhancedOrderPage(long offset, int limit, long total, boolean includeItems,
+                                                      long seed, FieldDistributions distributions) {
+        long to = Math.min(offset + limit, total);
+        return streamOrders(offset, Math.max(offset, to), total, includeItems, seed, distributions, UniqueFields.NONE,
+                FieldProjection.ALL)
+                .collectList()
+                .map(orders -> new DatasetPage<>(orders, offset, limit, total, seed));
+    }
+
+    /**
+     * Check a projection of users; {@code orders.*} paths are checked against the order fields
+     */
+    public static FieldProjection checkUserFields(FieldProjection fields) {
+        fields.check(USER_FIELDS, List.of(ORDERS_FIELD)).nested(ORDERS_FIELD).check(ORDER_FIELDS, List.of());
+        return fields;
+    }
+
+    public static FieldProjection checkOrderFields(FieldProjection fields) {
+        return fields.check(ORDER_FIELDS, List.of());
     }
 
-    private EnhancedUser generateSingleUser(boolean includeOrders) {
+    /**
+     * Order statuses in lifecycle order, followed by "cancelled"
+     */
+    public List<String> getOrderStatuses() {
+        return Collections.unmodifiableList(orderStatuses);
+    }
+
+    /**
+     * A fresh address drawn from the given seed, generated like the addresses of users and orders
+     */
+    public Address addressAt(long addressSeed, String type) {
+        return parallelGenerator.generateAt(0, (faker, i) -> generateAddress(faker.at(addressSeed, 0), type,
+                StringInterner.none()));
+    }
+
+    /**
+     * Unique values are claimed in record order, so each subscription gets its own sets and a stream
+     * starting past zero replays the records before its offset to claim their values first
+     */
+    private static <T> Flux<T> claimed(long offset, long end, FieldDistributions distributions, UniqueFields unique,
+                                       LongFunction<Flux<T>> records, BiConsumer<UniqueClaims, T> claim) {
+        if (unique.isEmpty()) {
+            return records.apply(offset);
+        }
+        unique.requireUnskewed(distributions);
+        return Flux.defer(() -> {
+            UniqueClaims claims = new UniqueClaims(unique, end);
+            return records.apply(0)
+                    .doOnNext(record -> claim.accept(claims, record))
+                    .skip(offset);
+        });
+    }
+
+    /**
+     * Per-subscription sets of the values handed out for each unique field
+     */
+    private static final class UniqueClaims {
+
+        private final UniqueValues emails;
+        private final UniqueValues skus;
+        private final UniqueValues productIds;
+
+        private UniqueClaims(UniqueFields unique, long expectedRecords) {
+            this.emails = unique.contains(UniqueFields.EMAIL)
+                    ? new UniqueValues(UniqueValues.Style.EMAIL, expectedRecords) : null;
+            this.skus = unique.contains(UniqueFields.SKU)
+                    ? new UniqueValues(UniqueValues.Style.SUFFIX, expectedRecords) : null;
+            this.productIds = unique.contains(UniqueFields.PRODUCT_ID)
+                    ? new UniqueValues(UniqueValues.Style.SUFFIX, expectedRecords) : null;
+        }
+
+        private void user(EnhancedUser user) {
+            if (emails != null && user.getEmail() != null) {
+                user.setEmail(emails.claim(user.getEmail()));
+            }
+            if (user.getOrders() != null) {
+                user.getOrders().forEach(this::order);
+            }
+        }
+
+        private void order(Order order) {
+            if (order.getItems() == null) {
+                return;
+            }
+            for (OrderItem item : order.getItems()) {
+                if (productIds != null) {
+                    item.setProductId(productIds.claim(item.getProductId()));
+                }
+                if (skus != null) {
+                    item.setSku(skus.claim(item.getSku()));
+                }
+            }
+        }
+    }
+
+    private ParallelGenerator.RecordFactory<EnhancedUser> users(RandomStreams streams, boolean includeOrders,
+                                                               Skew skew, FieldProjection fields,
+                                                               StringInterner interner) {
+        return (faker, i) -> generateSingleUser(faker, streams, i, includeOrders, skew, fields, interner);
+    }
+
+    private ParallelGenerator.RecordFactory<EnhancedUser> usersWithOrders(RandomStreams streams,
+                                                                         int minOrders, int maxOrders, Skew skew,
+                                                                         FieldProjection fields,
+                                                                         StringInterner interner) {
+        return (faker, i) -> {
+            EnhancedUser user = generateSingleUser(faker, streams, i, false, skew, fields, interner);
+            if (fields.includes(ORDERS_FIELD)) {
+                long userSeed = streams.recordSeed(i);
+                int orderCount = skew.orderCounts() != null
+                        ? minOrders + (int) skew.orderCounts().at(RandomStreams.child(userSeed, USER_ORDER_COUNT))
+                        : faker.at(userSeed, USER_ORDERS).number().numberBetween(minOrders, maxOrders + 1);
+                String userId = user.getUserId() != null ? user.getUserId() : idGenerator.next("user_", streams, i, 0);
+                user.setOrders(generateOrdersForUser(faker, streams, i, userId, orderCount, skew,
+                        fields.nested(ORDERS_FIELD), interner));
+            }
+            return user;
+        };
+    }
+
+    private ParallelGenerator.RecordFactory<Order> orders(RandomStreams streams, boolean includeItems, Skew skew,
+                                                          FieldProjection fields, StringInterner interner) {
+        return (faker, i) -> {
+            long orderSeed = streams.recordSeed(i);
+            String userId = skew.users() != null && fields.includes("userId") ? idGenerator.next("user_", streams,
+                    skew.users().at(RandomStreams.child(orderSeed, ORDER_USER)), 0) : null;
+            return generateSingleOrder(faker, streams, orderSeed, i, 0, userId, includeItems, skew, fields,
+                    interner);
+        };
+    }
+
+    /**
+     * Samplers for the skewed fields of one request; a null sampler keeps the field's uniform draw
+     */
+    private record Skew(IndexSampler users, IndexSampler products, IndexSampler categories,
+                        IndexSampler orderCounts) {
+        static final Skew NONE = new Skew(null, null, null, null);
+    }
+
+    private Skew skew(FieldDistributions distributions, long userKeys, int orderCounts) {
+        return new Skew(distributions.sampler(FieldDistributions.USER_ID, userKeys),
+                distributions.sampler(FieldDistributions.PRODUCT_ID, PRODUCT_KEYS),
+                distributions.sampler(FieldDistributions.CATEGORY, productCategories.size()),
+                distributions.sampler(FieldDistributions.ORDERS_PER_USER, orderCounts));
+    }
+
+    /**
+     * Generate the projected fields of one user. Each group of fields draws from its own child
+     * stream, so skipping a group leaves the others unchanged.
+     */
+    private EnhancedUser generateSingleUser(SeededFaker faker, RandomStreams streams, long record,
+                                            boolean includeOrders, Skew skew, FieldProjection fields,
+                                            StringInterner interner) {
+        long userSeed = streams.recordSeed(record);
         EnhancedUser user = new EnhancedUser();
+        user.setCreatedAt(fields.includes("createdAt") ? streams.now() : null);
         
-        // Basic information
-        user.setUserId(generateUserId());
-        user.setFirstName(faker.name().firstName());
-        user.setLastName(faker.name().lastName());
-        user.setEmail(generateEmail(user.getFirstName(), user.getLastName()));
-        user.setPhoneNumber(faker.phoneNumber().phoneNumber());
-        user.setDateOfBirth(generateDateOfBirth());
+        // Basic information; the email is derived from the names
+        boolean withOrders = includeOrders && fields.includes(ORDERS_FIELD);
+        String userId = fields.includes("userId") || withOrders ? idGenerator.next("user_", streams, record, 0) : null;
+        if (fields.includes("userId")) {
+            user.setUserId(userId);
+        }
+        if (fields.includes("firstName") || fields.includes("lastName") || fields.includes("email")) {
+            Faker identity = faker.at(userSeed, USER_IDENTITY);
+            String firstName = dictionary.firstNames().pick(identity);
+            String lastName = dictionary.lastNames().pick(identity);
+            if (fields.includes("firstName")) {
+                user.setFirstName(firstName);
+            }
+            if (fields.includes("lastName")) {
+                user.setLastName(lastName);
+            }
+            if (fields.includes("email")) {
+                user.setEmail(generateEmail(identity, firstName, lastName));
+            }
+        }
+        if (fields.includes("phoneNumber")) {
+            user.setPhoneNumber(faker.at(userSeed, USER_CONTACT).phoneNumber().phoneNumber());
+        }
+        if (fields.includes("dateOfBirth")) {
+            user.setDateOfBirth(generateDateOfBirth(faker.at(userSeed, USER_BIRTH), streams, interner));
+        }
         
         // Address
-        user.setAddress(generateAddress("home"));
+        if (fields.includes("address")) {
+            user.setAddress(generateAddress(faker.at(userSeed, USER_ADDRESS), "home", interner));
+        }
         
         // Profile
-        user.setProfile(generateUserProfile());
+        if (fields.includes("profile")) {
+            user.setProfile(generateUserProfile(faker.at(userSeed, USER_PROFILE)));
+        }
         
         // Orders (if requested)
-        if (includeOrders) {
-            int orderCount = faker.number().numberBetween(0, 6);
-            user.setOrders(generateOrdersForUser(user.getUserId(), orderCount));
+        if (withOrders) {
+            int orderCount = skew.orderCounts() != null
+                    ? (int) skew.orderCounts().at(RandomStreams.child(userSeed, USER_ORDER_COUNT))
+                    : faker.at(userSeed, USER_ORDERS).number().numberBetween(0, 6);
+            user.setOrders(generateOrdersForUser(faker, streams, record, userId, orderCount, skew,
+                    fields.nested(ORDERS_FIELD), interner));
         }
         
         return user;
     }
 
-    private Address generateAddress(String type) {
+    private Address generateAddress(Faker faker, String type, StringInterner interner) {
         Address address = new Address();
-        address.setStreet(faker.address().streetAddress());
-        address.setCity(faker.address().city());
-        address.setState(faker.address().state());
-        address.setPostalCode(faker.address().zipCode());
-        address.setCountry(faker.address().country());
+        address.setStreet(faker.number().numberBetween(1, 10000) + " " + dictionary.streetNames().pick(faker));
+        address.setCity(dictionary.cities().pick(faker));
+        address.setState(dictionary.states().pick(faker));
+        address.setPostalCode(interner.intern(faker.number().digits(5)));
+        address.setCountry(dictionary.countries().pick(faker));
         address.setType(type);
         return address;
     }
 
-    private UserProfile generateUserProfile() {
+    private UserProfile generateUserProfile(Faker faker) {
         UserProfile profile = new UserProfile();
-        profile.setCompany(faker.company().name());
-        profile.setJobTitle(faker.job().title());
+        profile.setCompany(dictionary.companies().pick(faker));
+        profile.setJobTitle(dictionary.jobTitles().pick(faker));
         profile.setBio(faker.lorem().sentence(10, 20));
         profile.setWebsite(faker.internet().url());
-        profile.setLanguage(faker.nation().language());
+        profile.setLanguage(dictionary.languages().pick(faker));
         profile.setTimezone(faker.options().option("UTC", "EST", "PST", "GMT", "CET"));
-        profile.setAvatarUrl("https://i.pravatar.cc/150?u=" + faker.internet().uuid().substring(0, 8));
+        profile.setAvatarUrl("https://i.pravatar.cc/150?u=" + randomHex(faker, 8));
         return profile;
     }
 
-    private List<Order> generateOrdersForUser(String userId, int count) {
+    private List<Order> generateOrdersForUser(SeededFaker faker, RandomStreams streams, long userRecord,
+                                              String userId, int count, Skew skew, FieldProjection fields,
+                                              StringInterner interner) {
+        long ordersSeed = RandomStreams.child(streams.recordSeed(userRecord), USER_ORDERS);
         return IntStream.range(0, count)
-                .mapToObj(i -> generateSingleOrder(userId, true))
+                .mapToObj(i -> generateSingleOrder(faker, streams, RandomStreams.child(ordersSeed, i),
+                        userRecord, i + 1, userId, true, skew, fields, interner))
                 .toList();
     }
 
-    private Order generateSingleOrder(String userId, boolean includeItems) {
+    /**
+     * Generate one order; (record, slot) identify it within the dataset for ID generation
+     */
+    private Order generateSingleOrder(SeededFaker faker, RandomStreams streams, long orderSeed,
+                                      long record, int slot, String userId, boolean includeItems, Skew skew,
+                                      FieldProjection fields, StringInterner interner) {
         Order order = new Order();
+        order.setCreatedAt(fields.includes("createdAt") ? streams.now() : null);
+        order.setUpdatedAt(fields.includes("updatedAt") ? streams.now() : null);
         
-        order.setOrderId(generateOrderId());
-        order.setUserId(userId != null ? userId : generateUserId());
-        order.setStatus(faker.options().option(orderStatuses.toArray(new String[0])));
-        order.setCurrency(faker.options().option(currencies.toArray(new String[0])));
+        if (fields.includes("orderId")) {
+            order.setOrderId(idGenerator.next("order_", streams, record, slot));
+        }
+        if (fields.includes("userId")) {
+            order.setUserId(userId != null ? userId : idGenerator.next("user_", streams, record, 0));
+        }
         
-        // Generate order items
-        if (includeItems) {
-            int itemCount = faker.number().numberBetween(1, 6);
-            List<OrderItem> items = generateOrderItems(itemCount);
-            order.setItems(items);
+        // Status, currency and the total share the header stream; items are only built for the total or themselves
+        boolean withItems = includeItems && (fields.includes(ITEMS_FIELD) || fields.includes(TOTAL_AMOUNT_FIELD));
+        if (fields.includes("status") || fields.includes("currency") || fields.includes(TOTAL_AMOUNT_FIELD)
+                || withItems) {
+            Faker header = faker.at(orderSeed, ORDER_HEADER);
+            String status = header.options().option(orderStatuses.toArray(new String[0]));
+            String currency = header.options().option(currencies.toArray(new String[0]));
+            if (fields.includes("status")) {
+                order.setStatus(status);
+            }
+            if (fields.includes("currency")) {
+                order.setCurrency(currency);
+            }
             
-            // Calculate total from items
-            BigDecimal total = items.stream()
-                    .map(OrderItem::getTotalPrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            order.setTotalAmount(total);
-        } else {
-            order.setTotalAmount(generateRandomAmount());
+            // Generate order items
+            if (withItems) {
+                long itemsSeed = RandomStreams.child(orderSeed, ORDER_ITEMS);
+                int itemCount = faker.at(itemsSeed, 0).number().numberBetween(1, 6);
+                List<OrderItem> items = generateOrderItems(faker, itemsSeed, itemCount, currency, skew,
+                        interner);
+                if (fields.includes(ITEMS_FIELD)) {
+                    order.setItems(items);
+                }
+                
+                // Calculate total from items
+                long total = 0;
+                for (OrderItem item : items) {
+                    total = Math.addExact(total, item.getTotalPriceMoney().getMinorUnits());
+                }
+                if (fields.includes(TOTAL_AMOUNT_FIELD)) {
+                    order.setTotalAmountMoney(Money.ofMinor(total, currency));
+                }
+            } else if (!includeItems && fields.includes(TOTAL_AMOUNT_FIELD)) {
+                order.setTotalAmountMoney(generateRandomAmount(header, currency));
+            }
         }
         
         // Addresses
-        order.setShippingAddress(generateAddress("shipping"));
-        order.setBillingAddress(generateAddress("billing"));
+        if (fields.includes("shippingAddress")) {
+            order.setShippingAddress(generateAddress(faker.at(orderSeed, ORDER_SHIPPING), "shipping",
+                    interner));
+        }
+        if (fields.includes("billingAddress")) {
+            order.setBillingAddress(generateAddress(faker.at(orderSeed, ORDER_BILLING), "billing",
+                    interner));
+        }
         
         // Payment info
-        order.setPaymentInfo(generatePaymentInfo());
+        if (fields.includes("paymentInfo")) {
+            order.setPaymentInfo(generatePaymentInfo(faker.at(orderSeed, ORDER_PAYMENT),
+                    idGenerator.next("txn_", streams, record, slot), interner));
+        }
         
         return order;
     }
 
-    private List<OrderItem> generateOrderItems(int count) {
+    private List<OrderItem> generateOrderItems(SeededFaker seededFaker, long itemsSeed, int count, String currency,
+                                               Skew skew, StringInterner interner) {
         return IntStream.range(0, count)
                 .mapToObj(i -> {
+                    Faker faker = seededFaker.at(itemsSeed, i + 1);
+                    long itemSeed = RandomStreams.child(itemsSeed, i + 1);
                     OrderItem item = new OrderItem();
-                    item.setProductId(generateProductId());
-                    item.setProductName(generateProductName());
-                    item.setSku(generateSKU());
+                    // Skewed products repeat; uniform ones are nearly all distinct and are not interned
+                    item.setProductId(skew.products() != null
+                            ? interner.intern(productId(
+                                    skew.products().at(RandomStreams.child(itemSeed, ITEM_PRODUCT))))
+                            : generateProductId(faker));
+                    item.setProductName(generateProductName(faker));
+                    item.setSku(generateSKU(faker, item.getProductName()));
                     item.setQuantity(faker.number().numberBetween(1, 5));
-                    item.setUnitPrice(generateRandomAmount());
-                    item.setTotalPrice(item.getUnitPrice().multiply(new BigDecimal(item.getQuantity())));
-                    item.setCategory(faker.options().option(productCategories.toArray(new String[0])));
+                    item.setUnitPriceMoney(generateRandomAmount(faker, currency));
+                    item.setTotalPriceMoney(item.getUnitPriceMoney().times(item.getQuantity()));
+                    item.setCategory(skew.categories() != null
+                            ? productCategories.get(
+                                    (int) skew.categories().at(RandomStreams.child(itemSeed, ITEM_CATEGORY)))
+                            : faker.options().option(productCategories.toArray(new String[0])));
                     return item;
                 })
                 .toList();
     }
 
-    private PaymentInfo generatePaymentInfo() {
+    private PaymentInfo generatePaymentInfo(Faker faker, String transactionId, StringInterner interner) {
         PaymentInfo payment = new PaymentInfo();
         payment.setPaymentMethod(faker.options().option(paymentMethods.toArray(new String[0])));
         payment.setCardType(faker.options().option(cardTypes.toArray(new String[0])));
-        payment.setMaskedCardNumber("****-****-****-" + faker.number().digits(4));
+        payment.setMaskedCardNumber(interner.intern("****-****-****-" + faker.number().digits(4)));
         payment.setPaymentStatus(faker.options().option("pending", "completed", "failed", "refunded"));
-        payment.setTransactionId(generateTransactionId());
+        payment.setTransactionId(transactionId);
         payment.setProcessor(faker.options().option("Stripe", "PayPal", "Square", "Braintree"));
         return payment;
     }
 
     // Helper methods for generating IDs and specific formats
-    private String generateUserId() {
-        return "user_" + faker.internet().uuid().substring(0, 8);
-    }
-
-    private String generateOrderId() {
-        return "order_" + faker.number().digits(8);
-    }
-
-    private String generateProductId() {
+    private String generateProductId(Faker faker) {
         return "prod_" + faker.number().digits(6);
     }
 
-    private String generateTransactionId() {
-        return "txn_" + faker.internet().uuid().substring(0, 12);
+    // Product key in [0, PRODUCT_KEYS) in the same "prod_" plus six digits form
+    private static String productId(long key) {
+        char[] chars = "prod_000000".toCharArray();
+        for (int i = chars.length - 1; key > 0; i--) {
+            chars[i] = (char) ('0' + key % 10);
+            key /= 10;
+        }
+        return new String(chars);
     }
 
-    private String generateSKU() {
-        return faker.commerce().productName().replaceAll("[^A-Za-z0-9]", "").substring(0, 6).toUpperCase() 
+    private String generateSKU(Faker faker, String productName) {
+        return productName.replaceAll("[^A-Za-z0-9]", "").substring(0, 6).toUpperCase()
                + "-" + faker.number().digits(4);
     }
 
-    private String generateProductName() {
-        return faker.commerce().productName();
+    private String generateProductName(Faker faker) {
+        return dictionary.productNames().pick(faker);
     }
 
-    private String generateEmail(String firstName, String lastName) {
+    private String generateEmail(Faker faker, String firstName, String lastName) {
         String baseEmail = (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z.]", "");
-        return baseEmail + "@" + faker.internet().domainName();
+        return baseEmail + "@" + dictionary.domains().pick(faker);
+    }
+
+    private String generateDateOfBirth(Faker faker, RandomStreams streams, StringInterner interner) {
+        LocalDate birthDate = streams.now().toLocalDate().minusYears(faker.number().numberBetween(18, 80));
+        return interner.intern(birthDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
     }
 
-    private String generateDateOfBirth() {
-        LocalDate birthDate = LocalDate.now().minusYears(faker.number().numberBetween(18, 80));
-        return birthDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
+    // 5.00 to 1000.00 in the currency's minor units
+    private Money generateRandomAmount(Faker faker, String currency) {
+        return Money.ofMinor(faker.number().numberBetween(500L, 100001L), currency);
     }
 
-    private BigDecimal generateRandomAmount() {
-        double amount = faker.number().randomDouble(2, 5, 1000);
-        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    // Lower-case hex digits drawn from the faker's current stream
+    private static String randomHex(Faker faker, int digits) {
+        long bits = faker.random().nextLong();
+        char[] chars = new char[digits];
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[i] = HEX_DIGITS[(int) (bits & 0xf)];
+            bits >>>= 4;
+        }
+        return new String(chars);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,383 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maheshgaire.qaautomation.export.ExportDataset;
+import com.maheshgaire.qaautomation.export.ExportFileWriter;
+import com.maheshgaire.qaautomation.export.ExportFormat;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.model.export.ExportJob;
+import com.maheshgaire.qaautomation.model.export.ExportRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Bulk exports of generated datasets to local files, run in the background.
+ * <p>
+ * Every job has a fixed seed, so record i of its dataset is the same on every
+ * run. The writer checkpoints every {@code checkpoint-records} records: it
+ * forces the file to disk and saves the record count and file length next to it
+ * in {@code <jobId>.job.json}. A job interrupted by a crash or restart is picked
+ * up again on startup, and a cancelled or failed one can be resumed; both cut
+ * the file back to the checkpoint and continue generating from that record.
+ */
+@Service
+public class ExportJobService {
+
+    private static final String JOB_SUFFIX = ".job.json";
+    private static final int PROGRESS_INTERVAL = 4096;
+    private static final int PREFETCH = 1024;
+
+    @Autowired
+    private TestDataService testDataService;
+
+    @Autowired
+    private EnhancedTestDataService enhancedTestDataService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Value("${testdata.export.directory:${java.io.tmpdir}/qa-hub-exports}")
+    private Path directory;
+
+    @Value("${testdata.export.concurrency:2}")
+    private int concurrency;
+
+    @Value("${testdata.export.checkpoint-records:100000}")
+    private long checkpointRecords;
+
+    @Value("${testdata.export.buffer-bytes:4194304}")
+    private int bufferBytes;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Set<String> cancelRequests = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, concurrency), task -> {
+            Thread thread = new Thread(task, "export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        recover();
+    }
+
+    /**
+     * Stop running jobs at their next progress update; they stay RUNNING on disk and resume on the next startup
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Validate a request, fill in defaults (including a seed) and queue the job
+     */
+    public ExportJob submit(ExportRequest request) {
+        ExportRequest normalized = normalize(request);
+        ExportJob job = new ExportJob();
+        job.setJobId(idGenerator.nextId("export_"));
+        job.setState(ExportJob.State.QUEUED);
+        job.setRequest(normalized);
+        job.setFileName(job.getJobId() + "." + ExportFormat.fromName(normalized.getFormat()).getExtension());
+        job.setCreatedAt(LocalDateTime.now());
+        jobs.put(job.getJobId(), job);
+        persist(job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    public Optional<ExportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * All known jobs, oldest first
+     */
+    public List<ExportJob> getJobs() {
+        return jobs.values().stream().sorted(Comparator.comparing(ExportJob::getJobId)).toList();
+    }
+
+    /**
+     * Cancel a job; a running job stops at its next progress update and keeps its last checkpoint
+     */
+    public ExportJob cancel(ExportJob job) {
+        synchronized (job) {
+            if (job.getState() == ExportJob.State.QUEUED) {
+                finish(job, ExportJob.State.CANCELLED, null);
+            } else if (job.getState() == ExportJob.State.RUNNING) {
+                cancelRequests.add(job.getJobId());
+            } else {
+                throw new IllegalStateException("Job " + job.getJobId() + " is already " + job.getState());
+            }
+        }
+        return job;
+    }
+
+    /**
+     * Queue a cancelled or failed job again, continuing from its last checkpoint
+     */
+    public ExportJob resume(ExportJob job) {
+        synchronized (job) {
+            if (job.getState() != ExportJob.State.CANCELLED && job.getState() != ExportJob.State.FAILED) {
+                throw new IllegalStateException("Only cancelled or failed jobs can be resumed; job "
+                        + job.getJobId() + " is " + job.getState());
+            }
+            requeue(job, true);
+        }
+        persist(job);
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Remove a finished job together with its file
+     */
+    public void delete(ExportJob job) {
+        synchronized (job) {
+            if (!job.isFinished()) {
+                throw new IllegalStateException("Cancel job " + job.getJobId() + " before deleting it");
+            }
+            jobs.remove(job.getJobId());
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(job.getFileName()));
+            Files.deleteIfExists(jobFile(job.getJobId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete files of job " + job.getJobId(), e);
+        }
+    }
+
+    /**
+     * Output file of a completed job
+     */
+    public Path file(ExportJob job) {
+        if (job.getState() != ExportJob.State.COMPLETED) {
+            throw new IllegalStateException("Job " + job.getJobId() + " is " + job.getState() + ", not COMPLETED");
+        }
+        return directory.resolve(job.getFileName());
+    }
+
+    private void run(ExportJob job) {
+        synchronized (job) {
+            if (job.getState() != ExportJob.State.QUEUED || stopping) {
+                return;
+            }
+            job.setState(ExportJob.State.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            job.setRecordsWritten(job.getCheckpointRecords());
+            job.setBytesWritten(job.getCheckpointBytes());
+        }
+        persist(job);
+
+        ExportRequest request = job.getRequest();
+        long total = request.getCount();
+        long first = job.getCheckpointRecords();
+        long started = System.nanoTime();
+        try (ExportFileWriter file = ExportFileWriter.open(directory.resolve(job.getFileName()),
+                     ExportFormat.fromName(request.getFormat()), job.getCheckpointBytes(), job.getColumns(),
+                     objectMapper, bufferBytes);
+             Stream<?> records = source(request, first, total - first).toStream(PREFETCH)) {
+            long written = first;
+            Iterator<?> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                file.write(iterator.next());
+                written++;
+                if (written % checkpointRecords == 0 && written < total) {
+                    checkpoint(job, file, written);
+                }
+                if (written % PROGRESS_INTERVAL == 0) {
+                    progress(job, file, written, first, started);
+                    if (stopping) {
+                        return;
+                    }
+                    if (cancelRequests.contains(job.getJobId())) {
+                        finish(job, ExportJob.State.CANCELLED, null);
+                        return;
+                    }
+                }
+            }
+            checkpoint(job, file, written);
+            progress(job, file, written, first, started);
+            finish(job, ExportJob.State.COMPLETED, null);
+        } catch (Exception e) {
+            finish(job, ExportJob.State.FAILED, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
+    private Flux<?> source(ExportRequest request, long offset, long count) {
+        return switch (ExportDataset.fromName(request.getDataset())) {
+            case TEST_DATA -> testDataService.streamTestData(request.getType(), offset, count, request.getSeed());
+            case USERS -> enhancedTestDataService.streamEnhancedUsers(offset, count,
+                    request.getIncludeOrders(), request.getSeed(), distributions(request), unique(request));
+            case USERS_WITH_ORDERS -> enhancedTestDataService.streamUsersWithOrders(offset, count,
+                    request.getMinOrders(), request.getMaxOrders(), request.getSeed(), distributions(request),
+                    unique(request));
+            case ORDERS -> enhancedTestDataService.streamEnhancedOrders(offset, count,
+                    request.getIncludeItems(), request.getSeed(), distributions(request), unique(request));
+        };
+    }
+
+    private void checkpoint(ExportJob job, ExportFileWriter file, long written) throws IOException {
+        long bytes = file.checkpoint();
+        synchronized (job) {
+            job.setColumns(file.columns());
+            job.setCheckpointRecords(written);
+            job.setCheckpointBytes(bytes);
+        }
+        persist(job);
+    }
+
+    private static void progress(ExportJob job, ExportFileWriter file, long written, long first, long startedNanos) {
+        job.setRecordsWritten(written);
+        job.setBytesWritten(file.bytesWritten());
+        double seconds = (System.nanoTime() - startedNanos) / 1e9;
+        if (seconds > 0) {
+            job.setRecordsPerSecond(Math.round((written - first) / seconds * 10) / 10.0);
+        }
+    }
+
+    private void finish(ExportJob job, ExportJob.State state, String error) {
+        synchronized (job) {
+            job.setState(state);
+            job.setError(error);
+            job.setFinishedAt(LocalDateTime.now());
+        }
+        cancelRequests.remove(job.getJobId());
+        persist(job);
+    }
+
+    private static void requeue(ExportJob job, boolean resumed) {
+        if (resumed) {
+            job.setResumeCount(job.getResumeCount() + 1);
+        }
+        job.setState(ExportJob.State.QUEUED);
+        job.setRecordsWritten(job.getCheckpointRecords());
+        job.setBytesWritten(job.getCheckpointBytes());
+        job.setError(null);
+        job.setFinishedAt(null);
+    }
+
+    private ExportRequest normalize(ExportRequest request) {
+        if (request.getCount() == null || request.getCount() < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+        ExportRequest normalized = new ExportRequest();
+        normalized.setDataset(ExportDataset.fromName(
+                request.getDataset() != null ? request.getDataset() : "users").getDatasetName());
+        normalized.setFormat(ExportFormat.fromName(
+                request.getFormat() != null ? request.getFormat() : "ndjson").getFormatName());
+        normalized.setCount(request.getCount());
+        normalized.setSeed(request.getSeed() != null ? request.getSeed() : RandomStreams.of(null).seed());
+        switch (ExportDataset.fromName(normalized.getDataset())) {
+            case TEST_DATA -> normalized.setType(request.getType() != null ? request.getType() : "user");
+            case USERS -> normalized.setIncludeOrders(Boolean.TRUE.equals(request.getIncludeOrders()));
+            case ORDERS -> normalized.setIncludeItems(!Boolean.FALSE.equals(request.getIncludeItems()));
+            case USERS_WITH_ORDERS -> {
+                int minOrders = request.getMinOrders() != null ? request.getMinOrders() : 1;
+                int maxOrders = request.getMaxOrders() != null ? request.getMaxOrders() : 5;
+                if (minOrders < 0 || maxOrders < minOrders) {
+                    throw new IllegalArgumentException("Need 0 <= minOrders <= maxOrders");
+                }
+                normalized.setMinOrders(minOrders);
+                normalized.setMaxOrders(maxOrders);
+            }
+        }
+        FieldDistributions distributions = FieldDistributions.parse(request.getDistribution());
+        if (!distributions.isUniform()) {
+            normalized.setDistribution(distributions.toString());
+        }
+        UniqueFields unique = UniqueFields.parse(request.getUnique()).requireUnskewed(distributions);
+        if (!unique.isEmpty()) {
+            normalized.setUnique(unique.toString());
+        }
+        return normalized;
+    }
+
+    private static FieldDistributions distributions(ExportRequest request) {
+        return FieldDistributions.parse(request.getDistribution());
+    }
+
+    private static UniqueFields unique(ExportRequest request) {
+        return UniqueFields.parse(request.getUnique());
+    }
+
+    // Reload saved jobs; those interrupted while queued or running continue from their checkpoint
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    String name = path.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        Files.deleteIfExists(path);
+                    } else if (name.endsWith(JOB_SUFFIX)) {
+                        ExportJob job = objectMapper.readValue(path.toFile(), ExportJob.class);
+                        jobs.put(job.getJobId(), job);
+                        if (!job.isFinished()) {
+                            requeue(job, job.getState() == ExportJob.State.RUNNING);
+                            executor.execute(() -> run(job));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load export jobs from " + directory, e);
+        }
+    }
+
+    private void persist(ExportJob job) {
+        Path target = jobFile(job.getJobId());
+        try {
+            byte[] json;
+            synchronized (job) {
+                if (jobs.get(job.getJobId()) != job) {
+                    return;
+                }
+                json = objectMapper.writeValueAsBytes(job);
+            }
+            Path temp = Files.createTempFile(directory, job.getJobId(), ".tmp");
+            Files.write(temp, json);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save export job " + job.getJobId(), e);
+        }
+    }
+
+    private Path jobFile(String jobId) {
+        return directory.resolve(jobId + JOB_SUFFIX);
+    }
+}
@@ -0,0 +1,279 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.SplitMix64;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.distribution.IndexSampler;
+import com.maheshgaire.qaautomation.generation.distribution.KeyDistribution;
+import com.maheshgaire.qaautomation.generation.mutation.MutationMix;
+import com.maheshgaire.qaautomation.generation.mutation.MutationType;
+import com.maheshgaire.qaautomation.model.enhanced.Address;
+import com.maheshgaire.qaautomation.model.enhanced.ChangeEvent;
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Change-data-capture traffic over a seeded base dataset of users or orders.
+ * <p>
+ * The base dataset is never materialized: each event draws the entity it changes
+ * from the dataset's key space and regenerates it by index, then applies the
+ * changes made so far. Only those changes are kept, so memory grows with the
+ * number of distinct entities touched rather than with the dataset. Every draw comes
+ * from streams keyed by (seed, sequence), so the same request replays the same events.
+ */
+@Service
+public class MutationStreamService {
+
+    public static final String USERS = "users";
+    public static final String ORDERS = "orders";
+
+    /** Interval at which a paced stream catches up with its target rate */
+    static final Duration TICK = Duration.ofMillis(10);
+
+    /** Key draws before an update that only finds deleted or finished entities becomes an insert */
+    private static final int MAX_REDRAWS = 8;
+
+    /** Chance that an order not yet shipped is cancelled instead of advancing */
+    private static final double CANCEL_PROBABILITY = 0.1;
+
+    // Child streams of an event
+    private static final long EVENTS = -1;
+    private static final long EVENT_TYPE = 1;
+    private static final long EVENT_KEY = 2;
+    private static final long EVENT_STATUS = 3;
+    private static final long EVENT_ADDRESS = 4;
+
+    private static final String CANCELLED = "cancelled";
+    private static final String SHIPPED = "shipped";
+
+    @Autowired
+    private EnhancedTestDataService enhancedTestDataService;
+
+    /**
+     * Stream up to {@code count} mutations of the seeded dataset of {@code baseCount} entities,
+     * at about {@code rate} events per second (unthrottled when zero)
+     *
+     * @param distributions key distributions the base dataset was generated with
+     * @param keys          popularity of the entities that get changed
+     */
+    public Flux<ChangeEvent<Object>> mutations(String entity, long baseCount, long seed,
+                                               FieldDistributions distributions, MutationMix mix,
+                                               KeyDistribution keys, double rate, long count) {
+        if (!USERS.equals(entity) && !ORDERS.equals(entity)) {
+            throw new IllegalArgumentException("Unknown dataset '" + entity + "' (expected users or orders)");
+        }
+        if (USERS.equals(entity) && mix.contains(MutationType.STATUS)) {
+            throw new IllegalArgumentException("Status changes apply to orders only");
+        }
+        if (baseCount < 1) {
+            throw new IllegalArgumentException("baseCount must be positive");
+        }
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("rate must not be negative");
+        }
+        IndexSampler sampler = keys.sampler(baseCount);
+        return paced(() -> new Cursor(ORDERS.equals(entity), baseCount, seed, distributions, mix, sampler,
+                rate > 0 ? Math.round(1e9 / rate) : 1_000_000), rate, count);
+    }
+
+    /**
+     * Emit the cursor's events unthrottled, or on every tick as many as are due at the target rate
+     */
+    private static Flux<ChangeEvent<Object>> paced(Supplier<Cursor> cursors, double rate, long count) {
+        if (rate <= 0) {
+            return Flux.<ChangeEvent<Object>, Cursor>generate(cursors::get, (cursor, sink) -> {
+                sink.next(cursor.next());
+                return cursor;
+            }).take(count);
+        }
+        // A stream that fell behind catches up by at most one second's worth of events per tick
+        long maxBurst = Math.max(1, (long) Math.ceil(rate));
+        return Flux.defer(() -> {
+            Cursor cursor = cursors.get();
+            long start = System.nanoTime();
+            return Flux.interval(TICK)
+                    .onBackpressureDrop()
+                    .concatMapIterable(tick -> {
+                        long due = Math.min(count, (long) ((System.nanoTime() - start) / 1e9 * rate));
+                        long batch = Math.min(due - cursor.sequence, maxBurst);
+                        List<ChangeEvent<Object>> events = new ArrayList<>((int) Math.max(0, batch));
+                        for (long i = 0; i < batch; i++) {
+                            events.add(cursor.next());
+                        }
+                        return events;
+                    }, 1)
+                    .take(count);
+        });
+    }
+
+    /**
+     * Per-subscription position in the event sequence and the changes applied so far
+     */
+    private final class Cursor {
+
+        private final boolean orders;
+        private final long baseCount;
+        private final long seed;
+        private final FieldDistributions distributions;
+        private final MutationMix mix;
+        private final IndexSampler keys;
+        private final long eventNanos;
+        private final long eventsSeed;
+        private final SplitMix64 random = new SplitMix64();
+        private final Map<Long, Overlay> overlays = new HashMap<>();
+
+        private long sequence;
+        private long inserts;
+
+        private Cursor(boolean orders, long baseCount, long seed, FieldDistributions distributions,
+                       MutationMix mix, IndexSampler keys, long eventNanos) {
+            this.orders = orders;
+            this.baseCount = baseCount;
+            this.seed = seed;
+            this.distributions = distributions;
+            this.mix = mix;
+            this.keys = keys;
+            this.eventNanos = eventNanos;
+            this.eventsSeed = RandomStreams.child(seed, EVENTS);
+        }
+
+        private ChangeEvent<Object> next() {
+            long eventSeed = RandomStreams.child(eventsSeed, sequence);
+            // Seeded clock: base records are stamped at the reference time, events follow at the target rate
+            LocalDateTime time = RandomStreams.SEEDED_REFERENCE_TIME.plusNanos((sequence + 1) * eventNanos);
+            MutationType type = mix.pick(random.reseed(RandomStreams.child(eventSeed, EVENT_TYPE)).nextDouble());
+            ChangeEvent<Object> event = type == MutationType.INSERT ? null : update(type, eventSeed, time);
+            if (event == null) {
+                event = insert(time);
+            }
+            event.setSequence(sequence++);
+            return event;
+        }
+
+        private ChangeEvent<Object> update(MutationType type, long eventSeed, LocalDateTime time) {
+            long keySeed = RandomStreams.child(eventSeed, EVENT_KEY);
+            for (int attempt = 0; attempt < MAX_REDRAWS; attempt++) {
+                long index = keys.at(RandomStreams.child(keySeed, attempt));
+                Overlay overlay = overlays.get(index);
+                if (overlay != null && overlay.deleted()) {
+                    continue;
+                }
+                Object before = image(index, overlay);
+                if (type == MutationType.STATUS && nextStatus(((Order) before).getStatus(), 0) == null) {
+                    continue;
+                }
+                Overlay changed = change(type, before, overlay, eventSeed, time);
+                overlays.put(index, changed);
+                ChangeEvent<Object> event = event("u", type, index, changed.version(), time, before,
+                        image(index, changed));
+                if (changed.deleted()) {
+                    event.setDeleted(true);
+                }
+                return event;
+            }
+            return null;
+        }
+
+        // Inserted entities take the positions after the base dataset; later events change base entities only
+        private ChangeEvent<Object> insert(LocalDateTime time) {
+            long index = baseCount + inserts++;
+            Overlay created = new Overlay(orders ? enhancedTestDataService.getOrderStatuses().get(0) : null, null,
+                    1, time, false);
+            return event("c", MutationType.INSERT, index, 1, time, null, image(index, created));
+        }
+
+        private Overlay change(MutationType type, Object before, Overlay overlay, long eventSeed,
+                               LocalDateTime time) {
+            String status = overlay != null ? overlay.status() : null;
+            Address address = overlay != null ? overlay.address() : null;
+            boolean deleted = false;
+            switch (type) {
+                case STATUS -> status = nextStatus(((Order) before).getStatus(),
+                        random.reseed(RandomStreams.child(eventSeed, EVENT_STATUS)).nextDouble());
+                case ADDRESS -> address = enhancedTestDataService.addressAt(
+                        RandomStreams.child(eventSeed, EVENT_ADDRESS), orders ? "shipping" : "home");
+                case DELETE -> deleted = true;
+                default -> throw new IllegalStateException("Not an update: " + type);
+            }
+            return new Overlay(status, address, (overlay != null ? overlay.version() : 1) + 1, time, deleted);
+        }
+
+        // Base entity regenerated by index with the changes made so far applied
+        private Object image(long index, Overlay overlay) {
+            if (orders) {
+                Order order = enhancedTestDataService.enhancedOrderAt(index, baseCount, true, seed, distributions);
+                if (overlay != null) {
+                    if (overlay.status() != null) {
+                        order.setStatus(overlay.status());
+                    }
+                    if (overlay.address() != null) {
+                        order.setShippingAddress(overlay.address());
+                    }
+                    if (index >= baseCount) {
+                        order.setCreatedAt(overlay.updatedAt());
+                    }
+                    order.setUpdatedAt(overlay.updatedAt());
+                }
+                return order;
+            }
+            EnhancedUser user = enhancedTestDataService.enhancedUserAt(index, false, seed, distributions);
+            if (overlay != null) {
+                if (overlay.address() != null) {
+                    user.setAddress(overlay.address());
+                }
+                if (index >= baseCount) {
+                    user.setCreatedAt(overlay.updatedAt());
+                }
+            }
+            return user;
+        }
+
+        private ChangeEvent<Object> event(String op, MutationType type, long index, long version,
+                                          LocalDateTime time, Object before, Object after) {
+            ChangeEvent<Object> event = new ChangeEvent<>();
+            event.setOp(op);
+            event.setType(type.getName());
+            event.setEntity(orders ? ORDERS : USERS);
+            event.setKey(after instanceof Order order ? order.getOrderId() : ((EnhancedUser) after).getUserId());
+            event.setIndex(index);
+            event.setVersion(version);
+            event.setTimestamp(time);
+            event.setBefore(before);
+            event.setAfter(after);
+            return event;
+        }
+    }
+
+    /**
+     * Status after {@code status} for a uniform draw, or null once the order is delivered or cancelled.
+     * Orders advance one step along the lifecycle and may be cancelled until they ship.
+     */
+    private String nextStatus(String status, double draw) {
+        List<String> statuses = enhancedTestDataService.getOrderStatuses();
+        List<String> lifecycle = statuses.subList(0, statuses.indexOf(CANCELLED));
+        int position = lifecycle.indexOf(status);
+        if (position < 0 || position == lifecycle.size() - 1) {
+            return null;
+        }
+        return position < lifecycle.indexOf(SHIPPED) && draw < CANCEL_PROBABILITY
+                ? CANCELLED : lifecycle.get(position + 1);
+    }
+
+    /**
+     * Changes made to one entity; null fields keep the generated value
+     */
+    private record Overlay(String status, Address address, long version, LocalDateTime updatedAt,
+                           boolean deleted) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.maheshgaire.qaautomation.generation.DictionarySnapshot;
+import com.maheshgaire.qaautomation.generation.ParallelGenerator;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.relational.RelationalDataset;
+import com.maheshgaire.qaautomation.generation.relational.RelationalTable;
+import com.maheshgaire.qaautomation.generation.relational.TableRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+@Service
+public class RelationalDataService {
+
+    private static final Map<String, String> FOREIGN_KEYS = Map.of(
+            "orders.user_id", "users.user_id",
+            "order_items.order_id", "orders.order_id",
+            "order_items.product_id", "products.product_id",
+            "payments.order_id", "orders.order_id"
+    );
+
+    @Autowired
+    private ParallelGenerator parallelGenerator;
+
+    @Autowired
+    private DictionarySnapshot dictionary;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    /**
+     * Describe a dataset; a random seed is chosen when none is given so the
+     * tables of one dataset can still be fetched separately with the returned seed
+     */
+    public RelationalDataset dataset(Long seed, long users, long products, long orders, int maxItemsPerOrder) {
+        return dataset(seed, users, products, orders, maxItemsPerOrder, FieldDistributions.UNIFORM);
+    }
+
+    /**
+     * Describe a dataset whose foreign keys and categories follow the given distributions
+     */
+    public RelationalDataset dataset(Long seed, long users, long products, long orders, int maxItemsPerOrder,
+                                     FieldDistributions distributions) {
+        long root = seed != null ? seed : RandomStreams.of(null).seed();
+        return new RelationalDataset(root, users, products, orders, maxItemsPerOrder, distributions,
+                dictionary, idGenerator);
+    }
+
+    /**
+     * Stream one table of the dataset, generated in parallel over disjoint index ranges
+     */
+    public Flux<TableRow> streamTable(RelationalDataset dataset, RelationalTable table) {
+        return streamTable(dataset, table, Shard.ALL);
+    }
+
+    /**
+     * Stream one shard of a table; order items are sharded by their order, so an order's items stay together
+     */
+    public Flux<TableRow> streamTable(RelationalDataset dataset, RelationalTable table, Shard shard) {
+        long count = dataset.indexCount(table);
+        long from = shard.from(count);
+        long to = shard.to(count);
+        return switch (table) {
+            case USERS -> parallelGenerator.stream(from, to, dataset::user);
+            case PRODUCTS -> parallelGenerator.stream(from, to, dataset::product);
+            case ORDERS -> parallelGenerator.stream(from, to, dataset::order);
+            case ORDER_ITEMS -> parallelGenerator.stream(from, to, dataset::orderItems)
+                    .flatMapIterable(Function.identity());
+            case PAYMENTS -> parallelGenerator.stream(from, to, dataset::payment);
+        };
+    }
+
+    /**
+     * Tables, columns and foreign keys of the dataset
+     */
+    public Map<String, Object> describe(RelationalDataset dataset) {
+        Map<String, Object> tables = new LinkedHashMap<>();
+        for (RelationalTable table : RelationalTable.values()) {
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("columns", table.getColumns());
+            description.put("primaryKey", table.column(0));
+            if (table == RelationalTable.ORDER_ITEMS) {
+                description.put("maxRows", dataset.getOrders() * dataset.getMaxItemsPerOrder());
+            } else {
+                description.put("rows", dataset.indexCount(table));
+            }
+            description.put("endpoint", "/api/v2/testdata/relational/" + table.getTableName());
+            tables.put(table.getTableName(), description);
+        }
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("seed", dataset.getSeed());
+        if (!dataset.getDistributions().isUniform()) {
+            schema.put("distributions", dataset.getDistributions().toString());
+        }
+        schema.put("tables", tables);
+        schema.put("foreignKeys", new TreeMap<>(FOREIGN_KEYS));
+        schema.put("loadOrder", List.of("users", "products", "orders", "order_items", "payments"));
+        return schema;
+    }
+}
@@ -1,79 +1,251 @@
 package com.maheshgaire.qaautomation.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.SplitMix64;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.plan.RecordPlan;
+import com.maheshgaire.qaautomation.generation.plan.RecordPlanRegistry;
+import com.maheshgaire.qaautomation.generation.plan.RecordSlots;
+import com.maheshgaire.qaautomation.generation.plan.RecordValues;
+import com.maheshgaire.qaautomation.generation.unique.UniqueValues;
 import com.maheshgaire.qaautomation.model.TestData;
+import com.maheshgaire.qaautomation.model.template.RecordTemplate;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
-import java.util.UUID;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
 
 @Service
 public class TestDataService {
 
-    private final Random random = new Random();
-    private final String[] firstNames = {"John", "Jane", "Mike", "Sarah", "David", "Emma", "Chris", "Lisa"};
-    private final String[] lastNames = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis"};
-    private final String[] products = {"Laptop", "Phone", "Tablet", "Monitor", "Keyboard", "Mouse", "Headphones", "Camera"};
-    private final String[] cities = {"New York", "Los Angeles", "Chicago", "Houston", "Phoenix", "Philadelphia", "San Antonio", "San Diego"};
+    private static final SerializedString ID_FIELD = new SerializedString("id");
+    private static final SerializedString TYPE_FIELD = new SerializedString("type");
+    private static final SerializedString DATA_FIELD = new SerializedString("data");
+    private static final SerializedString CREATED_AT_FIELD = new SerializedString("createdAt");
+    private static final int ESTIMATED_RECORD_BYTES = 256;
+
+    private final RecordPlanRegistry planRegistry;
+    private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+
+    public TestDataService(RecordPlanRegistry planRegistry, ObjectMapper objectMapper, IdGenerator idGenerator) {
+        this.planRegistry = planRegistry;
+        this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+    }
 
     public Flux<TestData> generateTestData(String type, int count) {
-        return Flux.range(1, count)
-                .delayElements(Duration.ofMillis(100)) // Simulate async processing
-                .map(i -> createTestDataByType(type));
+        return generateTestData(type, count, Duration.ZERO, null);
     }
 
-    private TestData createTestDataByType(String type) {
-        String id = UUID.randomUUID().toString();
-        Map<String, Object> data = new HashMap<>();
-
-        switch (type.toLowerCase()) {
-            case "user":
-                data.put("firstName", firstNames[random.nextInt(firstNames.length)]);
-                data.put("lastName", lastNames[random.nextInt(lastNames.length)]);
-                data.put("email", generateEmail());
-                data.put("age", random.nextInt(60) + 18);
-                data.put("city", cities[random.nextInt(cities.length)]);
-                break;
-            case "product":
-                data.put("name", products[random.nextInt(products.length)]);
-                data.put("price", Math.round((random.nextDouble() * 1000 + 50) * 100.0) / 100.0);
-                data.put("category", "Electronics");
-                data.put("inStock", random.nextBoolean());
-                data.put("sku", "SKU-" + random.nextInt(10000));
-                break;
-            case "order":
-                data.put("orderId", "ORD-" + random.nextInt(100000));
-                data.put("customerId", "CUST-" + random.nextInt(10000));
-                data.put("total", Math.round((random.nextDouble() * 500 + 10) * 100.0) / 100.0);
-                data.put("status", random.nextBoolean() ? "COMPLETED" : "PENDING");
-                data.put("items", random.nextInt(5) + 1);
-                break;
-            case "address":
-                data.put("street", (random.nextInt(9999) + 1) + " " + lastNames[random.nextInt(lastNames.length)] + " St");
-                data.put("city", cities[random.nextInt(cities.length)]);
-                data.put("zipCode", String.format("%05d", random.nextInt(100000)));
-                data.put("country", "USA");
-                break;
-            case "payment":
-                data.put("cardNumber", "**** **** **** " + String.format("%04d", random.nextInt(10000)));
-                data.put("cardType", random.nextBoolean() ? "VISA" : "MASTERCARD");
-                data.put("amount", Math.round((random.nextDouble() * 1000 + 10) * 100.0) / 100.0);
-                data.put("currency", "USD");
-                break;
-            default:
-                data.put("message", "Unknown type: " + type);
-        }
+    /**
+     * Generate test data, optionally pacing each record to simulate slow async processing.
+     * The same seed always yields the same records.
+     */
+    public Flux<TestData> generateTestData(String type, int count, Duration pace, Long seed) {
+        return generateTestData(type, Shard.ALL, count, pace, seed, FieldProjection.ALL);
+    }
+
+    /**
+     * Generate one shard of a seeded dataset of {@code count} records with only the projected
+     * data fields, optionally paced
+     */
+    public Flux<TestData> generateTestData(String type, Shard shard, long count, Duration pace, Long seed,
+                                           FieldProjection fields) {
+        Flux<TestData> records = streamTestData(type, shard.from(count), shard.size(count), seed, fields);
+        return pace.isZero() ? records : records.delayElements(pace);
+    }
+
+    /**
+     * Lazily generate the records at positions [offset, offset + count) of the seeded sequence.
+     * Templates with unique fields replay the records before the offset to claim their values.
+     */
+    public Flux<TestData> streamTestData(String type, long offset, long count, Long seed) {
+        return streamTestData(type, offset, count, seed, FieldProjection.ALL);
+    }
 
-        return new TestData(id, type, data);
+    /**
+     * Lazily generate the projected data fields of the records at positions [offset, offset + count);
+     * fields that are not selected are not generated. Each record keeps its values in slots of its own
+     * and is serialized from them, as the NDJSON batches are.
+     */
+    public Flux<TestData> streamTestData(String type, long offset, long count, Long seed, FieldProjection fields) {
+        RecordPlan plan = planRegistry.plan(type).project(fields);
+        return Flux.defer(() -> {
+            RecordCursor cursor = RecordCursor.at(plan, RandomStreams.of(seed), idGenerator, offset, offset + count);
+            return Flux.<TestData>generate(sink -> {
+                if (cursor.index >= offset + count) {
+                    sink.complete();
+                    return;
+                }
+                RecordSlots slots = plan.newSlots();
+                String id = cursor.next(slots);
+                TestData testData = new TestData(id, type, new RecordValues(plan, slots));
+                testData.setCreatedAt(cursor.streams.now());
+                sink.next(testData);
+            });
+        });
     }
 
-    private String generateEmail() {
-        String firstName = firstNames[random.nextInt(firstNames.length)].toLowerCase();
-        String lastName = lastNames[random.nextInt(lastNames.length)].toLowerCase();
-        String[] domains = {"gmail.com", "yahoo.com", "outlook.com", "company.com"};
-        return firstName + "." + lastName + "@" + domains[random.nextInt(domains.length)];
+    /**
+     * Stream test data as NDJSON batches, generating only as fast as the client reads.
+     * Records are encoded straight from the compiled plan's slots.
+     */
+    public Flux<DataBuffer> streamTestData(String type, int count, Long seed, int batchSize,
+                                           DataBufferFactory bufferFactory) {
+        return streamTestData(type, Shard.ALL, count, seed, FieldProjection.ALL, batchSize, bufferFactory);
+    }
+
+    /**
+     * Stream the projected data fields of one shard of a seeded dataset of {@code count} records
+     * as NDJSON batches
+     */
+    public Flux<DataBuffer> streamTestData(String type, Shard shard, long count, Long seed, FieldProjection fields,
+                                           int batchSize, DataBufferFactory bufferFactory) {
+        RecordPlan plan = planRegistry.plan(type).project(fields);
+        int size = Math.max(1, batchSize);
+        long from = shard.from(count);
+        long records = shard.size(count);
+        long batches = (records + size - 1) / size;
+        return Flux.defer(() -> {
+            RecordCursor cursor = RecordCursor.at(plan, RandomStreams.of(seed), idGenerator, from, from + records);
+            return Flux.fromStream(LongStream.range(0, batches).boxed())
+                    .map(batch -> encodeBatch(cursor, type, (int) Math.min(size, records - batch * size),
+                            bufferFactory));
+        });
+    }
+
+    /**
+     * Names of all templates that can be generated: built-ins first, then user-defined ones
+     */
+    public List<String> getTemplateNames() {
+        return planRegistry.names();
+    }
+
+    /**
+     * Register a user-defined template, compiling it once for all later generation
+     */
+    public RecordTemplate registerTemplate(RecordTemplate template) {
+        return planRegistry.register(template);
+    }
+
+    public Optional<RecordTemplate> getTemplate(String id) {
+        return planRegistry.template(id);
+    }
+
+    public List<RecordTemplate> getCustomTemplates() {
+        return planRegistry.templates();
+    }
+
+    public boolean deleteTemplate(String id) {
+        return planRegistry.unregister(id);
+    }
+
+    private DataBuffer encodeBatch(RecordCursor cursor, String type, int records, DataBufferFactory bufferFactory) {
+        JsonFactory jsonFactory = objectMapper.getFactory();
+        String createdAt = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(cursor.streams.now());
+        DataBuffer buffer = bufferFactory.allocateBuffer(records * ESTIMATED_RECORD_BYTES);
+        boolean encoded = false;
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer.asOutputStream())) {
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < records; i++) {
+                String id = cursor.next();
+                generator.writeStartObject();
+                generator.writeFieldName(ID_FIELD);
+                generator.writeString(id);
+                generator.writeFieldName(TYPE_FIELD);
+                generator.writeString(type);
+                generator.writeFieldName(DATA_FIELD);
+                generator.writeStartObject();
+                cursor.plan.writeFields(generator, cursor.slots);
+                generator.writeEndObject();
+                generator.writeFieldName(CREATED_AT_FIELD);
+                generator.writeString(createdAt);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+            encoded = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode test data batch", e);
+        } finally {
+            if (!encoded) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Per-subscriber generation state: one RNG and one set of slots reused for every record,
+     * plus the values already handed out for unique fields
+     */
+    private static final class RecordCursor {
+
+        private final RecordPlan plan;
+        private final RandomStreams streams;
+        private final IdGenerator idGenerator;
+        private final SplitMix64 random = new SplitMix64();
+        private final RecordSlots slots;
+        private final UniqueValues[] unique;
+        private long index;
+
+        private RecordCursor(RecordPlan plan, RandomStreams streams, IdGenerator idGenerator, long expectedRecords) {
+            this.plan = plan;
+            this.streams = streams;
+            this.idGenerator = idGenerator;
+            this.slots = plan.newSlots();
+            this.unique = plan.newUniqueValues(expectedRecords);
+        }
+
+        /**
+         * Cursor positioned at {@code offset}; with unique fields the records before it are replayed
+         * so their values are claimed first
+         */
+        private static RecordCursor at(RecordPlan plan, RandomStreams streams, IdGenerator idGenerator,
+                                       long offset, long expectedRecords) {
+            RecordCursor cursor = new RecordCursor(plan, streams, idGenerator, expectedRecords);
+            if (cursor.unique != null) {
+                while (cursor.index < offset) {
+                    cursor.next();
+                }
+            }
+            cursor.index = offset;
+            return cursor;
+        }
+
+        /**
+         * Generate the next record into the shared slots and return its id
+         */
+        private String next() {
+            return next(slots);
+        }
+
+        /**
+         * Generate the next record into the given slots of this plan and return its id
+         */
+        private String next(RecordSlots into) {
+            long record = index++;
+            random.reseed(streams.recordSeed(record));
+            plan.fill(random, into);
+            if (unique != null) {
+                plan.claimUnique(into, unique);
+            }
+            return idGenerator.next("", streams, record, 0);
+        }
     }
-}
\ No newline at end of file
+}
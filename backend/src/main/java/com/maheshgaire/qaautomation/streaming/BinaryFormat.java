@@ -0,0 +1,73 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compact binary encodings produced by {@link BinaryRecordEncoder}.
+ */
+public enum BinaryFormat {
+
+    /** Jackson Smile: binary JSON with back-references to repeated field names and short values */
+    SMILE("smile", BinaryFormat.SMILE_VALUE),
+    /** CBOR (RFC 8949) */
+    CBOR("cbor", BinaryFormat.CBOR_VALUE),
+    /** Length-delimited protobuf messages of the schema in /proto/testdata.proto (users and orders only) */
+    PROTOBUF("protobuf", BinaryFormat.PROTOBUF_VALUE);
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final String CBOR_VALUE = "application/cbor";
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+
+    private final String name;
+    private final MediaType mediaType;
+
+    BinaryFormat(String name, String mediaType) {
+        this.name = name;
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    /**
+     * Format for a request parameter value, or null when the name is not a binary format
+     */
+    public static BinaryFormat fromName(String name) {
+        String normalized = name != null ? name.toLowerCase(Locale.ROOT) : "";
+        for (BinaryFormat format : values()) {
+            if (format.name.equals(normalized)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Supported binary format the client prefers over JSON in its Accept header, or null to answer with JSON
+     */
+    public static BinaryFormat negotiate(List<MediaType> accept, BinaryFormat... supported) {
+        List<MediaType> sorted = new ArrayList<>(accept);
+        MimeTypeUtils.sortBySpecificity(sorted);
+        for (MediaType acceptable : sorted) {
+            if (acceptable.isWildcardType() || acceptable.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            for (BinaryFormat format : supported) {
+                if (acceptable.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,191 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedOutputStream;
+import com.maheshgaire.qaautomation.serialization.EnhancedProtobufWriter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Encodes a stream of records in a {@link BinaryFormat}, one DataBuffer per
+ * batch of records, with upstream demand following the client's reads like
+ * {@link NdjsonBatchEncoder}.
+ * <p>
+ * Smile and CBOR responses are a single array written by one generator per
+ * subscription, so Smile's back-references to repeated field names and values
+ * span the whole response rather than one batch. Protobuf responses are a
+ * sequence of length-delimited messages.
+ */
+@Component
+public class BinaryRecordEncoder {
+
+    private static final int ESTIMATED_RECORD_BYTES = 160;
+    private static final int PROTOBUF_CHUNK_BYTES = 8192;
+
+    private final ObjectWriter smileWriter;
+    private final ObjectWriter cborWriter;
+
+    public BinaryRecordEncoder(ObjectMapper objectMapper) {
+        this.smileWriter = binaryWriter(objectMapper.copyWith(new SmileFactory()));
+        this.cborWriter = binaryWriter(objectMapper.copyWith(new CBORFactory()));
+    }
+
+    private static ObjectWriter binaryWriter(ObjectMapper mapper) {
+        return mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> Flux<DataBuffer> encode(Flux<T> records, BinaryFormat format, DataBufferFactory bufferFactory,
+                                       int batchSize) {
+        int size = Math.max(1, batchSize);
+        if (format == BinaryFormat.PROTOBUF) {
+            return records.buffer(size).map(batch -> encodeProtobuf(batch, bufferFactory));
+        }
+        ObjectWriter writer = format == BinaryFormat.SMILE ? smileWriter : cborWriter;
+        return Flux.defer(() -> {
+            ArrayStream stream = new ArrayStream(writer);
+            return records.buffer(size)
+                    .map(batch -> stream.write(batch, bufferFactory))
+                    .concatWith(Mono.fromSupplier(() -> stream.end(bufferFactory)));
+        });
+    }
+
+    /**
+     * Encode a single value, such as a response envelope, as one Smile or CBOR document
+     */
+    public Mono<DataBuffer> encodeValue(Mono<?> value, BinaryFormat format, DataBufferFactory bufferFactory) {
+        if (format == BinaryFormat.PROTOBUF) {
+            return Mono.error(new IllegalArgumentException("Protobuf covers users and orders only"));
+        }
+        ObjectWriter writer = format == BinaryFormat.SMILE ? smileWriter : cborWriter;
+        return value.map(single -> {
+            DataBuffer buffer = bufferFactory.allocateBuffer(ESTIMATED_RECORD_BYTES);
+            boolean encoded = false;
+            try {
+                writer.writeValue(buffer.asOutputStream(), single);
+                encoded = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to encode binary value", e);
+            } finally {
+                if (!encoded) {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+            return buffer;
+        });
+    }
+
+    private static DataBuffer encodeProtobuf(List<?> batch, DataBufferFactory bufferFactory) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(batch.size() * ESTIMATED_RECORD_BYTES);
+        boolean encoded = false;
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(buffer.asOutputStream(), PROTOBUF_CHUNK_BYTES);
+            for (Object record : batch) {
+                EnhancedProtobufWriter.writeDelimited(out, record);
+            }
+            out.flush();
+            encoded = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode protobuf batch", e);
+        } finally {
+            if (!encoded) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Per-subscription generator writing one array into the buffer of the current batch
+     */
+    private static final class ArrayStream {
+
+        private final ObjectWriter writer;
+        private final BufferTarget target = new BufferTarget();
+        private JsonGenerator generator;
+
+        ArrayStream(ObjectWriter writer) {
+            this.writer = writer;
+        }
+
+        DataBuffer write(List<?> batch, DataBufferFactory bufferFactory) {
+            return encode(batch.size(), bufferFactory, () -> {
+                for (Object record : batch) {
+                    writer.writeValue(generator, record);
+                }
+            });
+        }
+
+        DataBuffer end(DataBufferFactory bufferFactory) {
+            return encode(0, bufferFactory, () -> {
+                generator.writeEndArray();
+                generator.close();
+            });
+        }
+
+        private DataBuffer encode(int records, DataBufferFactory bufferFactory, Step step) {
+            DataBuffer buffer = bufferFactory.allocateBuffer(Math.max(16, records * ESTIMATED_RECORD_BYTES));
+            target.buffer = buffer;
+            boolean encoded = false;
+            try {
+                if (generator == null) {
+                    generator = writer.createGenerator(target);
+                    generator.writeStartArray();
+                }
+                step.run();
+                generator.flush();
+                encoded = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to encode binary batch", e);
+            } finally {
+                target.buffer = null;
+                if (!encoded) {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+            return buffer;
+        }
+    }
+
+    private interface Step {
+        void run() throws IOException;
+    }
+
+    /**
+     * Stream the generator flushes into; points at the buffer of the batch being encoded
+     */
+    private static final class BufferTarget extends OutputStream {
+
+        private DataBuffer buffer;
+
+        @Override
+        public void write(int b) {
+            buffer.ensureWritable(1);
+            buffer.write((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.ensureWritable(length);
+            buffer.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() {
+            // The buffers belong to the response
+        }
+    }
+}
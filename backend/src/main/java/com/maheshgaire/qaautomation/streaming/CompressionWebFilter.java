@@ -0,0 +1,293 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compresses responses of the generation and MCP endpoints with gzip or zstd,
+ * as negotiated from the client's Accept-Encoding header.
+ * <p>
+ * Compression is incremental: every chunk the handler writes is compressed and
+ * flushed on its own, so streamed responses stay streamed and the body is never
+ * held in memory. Only the first chunks are held back until the response
+ * reaches the minimum size; smaller responses go out uncompressed. Responses
+ * written with a flush per element (NDJSON, server-sent events) are compressed
+ * from the first element on.
+ * <p>
+ * Each compressed response records its ratio ({@code testdata.compression.ratio}),
+ * the CPU time spent compressing it ({@code testdata.compression.cpu}) and its
+ * bytes before and after ({@code testdata.compression.bytes}), tagged with the
+ * handler's path pattern and the encoding.
+ */
+@Component
+public class CompressionWebFilter implements WebFilter {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final boolean enabled;
+    private final List<PathPattern> paths;
+    private final int minBytes;
+    private final int gzipLevel;
+    private final int zstdLevel;
+    private final MeterRegistry meterRegistry;
+
+    public CompressionWebFilter(@Value("${testdata.compression.enabled:true}") boolean enabled,
+                                @Value("${testdata.compression.paths:/api/v1/testdata/**,/api/v2/testdata/**,"
+                                        + "/api/v1/mcp/**}") List<String> paths,
+                                @Value("${testdata.compression.min-bytes:2048}") int minBytes,
+                                @Value("${testdata.compression.gzip-level:6}") int gzipLevel,
+                                @Value("${testdata.compression.zstd-level:3}") int zstdLevel,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.paths = paths.stream().map(String::trim).map(PathPatternParser.defaultInstance::parse).toList();
+        this.minBytes = minBytes;
+        this.gzipLevel = gzipLevel;
+        this.zstdLevel = zstdLevel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || request.getMethod() == HttpMethod.HEAD || !matches(request)) {
+            return chain.filter(exchange);
+        }
+        exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        List<String> acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
+        ContentEncoding encoding = acceptEncoding != null
+                ? ContentEncoding.negotiate(String.join(",", acceptEncoding)) : null;
+        if (encoding == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new CompressingResponse(exchange, encoding)).build());
+    }
+
+    private boolean matches(ServerHttpRequest request) {
+        for (PathPattern path : paths) {
+            if (path.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int level(ContentEncoding encoding) {
+        return encoding == ContentEncoding.ZSTD ? zstdLevel : gzipLevel;
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private final class CompressingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final ContentEncoding encoding;
+
+        private CompressingResponse(ServerWebExchange exchange, ContentEncoding encoding) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(compressed(Flux.from(body), minBytes));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(compressed(Flux.from(body).concatMap(Flux::from), 0).map(Flux::just));
+        }
+
+        private Flux<DataBuffer> compressed(Flux<? extends DataBuffer> body, int threshold) {
+            HttpHeaders headers = getHeaders();
+            long declaredLength = headers.getContentLength();
+            if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                    || declaredLength >= 0 && declaredLength < threshold) {
+                return body.cast(DataBuffer.class);
+            }
+            return Flux.defer(() -> {
+                long[] seen = {0};
+                return body.cast(DataBuffer.class)
+                        .bufferUntil(buffer -> (seen[0] += buffer.readableByteCount()) >= threshold)
+                        .switchOnFirst((first, chunks) -> {
+                            if (!first.hasValue() || seen[0] < threshold) {
+                                // Empty, failed or complete below the threshold
+                                return chunks.concatMapIterable(Function.identity());
+                            }
+                            headers.set(HttpHeaders.CONTENT_ENCODING, encoding.getName());
+                            headers.remove(HttpHeaders.CONTENT_LENGTH);
+                            Compressor compressor = new Compressor(bufferFactory());
+                            return chunks.map(compressor::compress)
+                                    .concatWith(Mono.fromSupplier(compressor::finish))
+                                    .doFinally(signal -> compressor.close());
+                        });
+            }).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        }
+
+        /**
+         * Compression state of one response
+         */
+        private final class Compressor {
+
+            private final DataBufferFactory bufferFactory;
+            private final BufferTarget target = new BufferTarget();
+            private OutputStream stream;
+            private final byte[] copyBuffer = new byte[COPY_BUFFER_BYTES];
+            private long bytesIn;
+            private long bytesOut;
+            private long cpuNanos;
+            private boolean closed;
+
+            private Compressor(DataBufferFactory bufferFactory) {
+                this.bufferFactory = bufferFactory;
+            }
+
+            private DataBuffer compress(List<DataBuffer> chunks) {
+                int size = 0;
+                for (DataBuffer chunk : chunks) {
+                    size += chunk.readableByteCount();
+                }
+                return write(size / 2, () -> {
+                    if (stream == null) {
+                        // Opened into the first buffer, which takes the header
+                        stream = encoding.open(target, level(encoding));
+                    }
+                    for (DataBuffer chunk : chunks) {
+                        bytesIn += chunk.readableByteCount();
+                        while (chunk.readableByteCount() > 0) {
+                            int length = Math.min(copyBuffer.length, chunk.readableByteCount());
+                            chunk.read(copyBuffer, 0, length);
+                            stream.write(copyBuffer, 0, length);
+                        }
+                    }
+                    stream.flush();
+                }, chunks);
+            }
+
+            private DataBuffer finish() {
+                return write(64, () -> {
+                    closed = true;
+                    stream.close();
+                }, List.of());
+            }
+
+            private DataBuffer write(int estimatedBytes, Step step, List<DataBuffer> chunks) {
+                DataBuffer buffer = bufferFactory.allocateBuffer(Math.max(64, estimatedBytes));
+                target.buffer = buffer;
+                boolean written = false;
+                long start = cpuTime();
+                try {
+                    step.run();
+                    written = true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to compress response", e);
+                } finally {
+                    cpuNanos += cpuTime() - start;
+                    target.buffer = null;
+                    chunks.forEach(DataBufferUtils::release);
+                    if (!written) {
+                        DataBufferUtils.release(buffer);
+                    }
+                }
+                bytesOut += buffer.readableByteCount();
+                return buffer;
+            }
+
+            // Release the native compressor of an abandoned response and record what was compressed
+            private void close() {
+                if (!closed && stream != null) {
+                    closed = true;
+                    try {
+                        stream.close();
+                    } catch (IOException e) {
+                        // Nothing more is sent
+                    }
+                }
+                if (bytesOut == 0) {
+                    return;
+                }
+                Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String endpoint = pattern != null ? pattern.toString() : "unmapped";
+                DistributionSummary.builder("testdata.compression.ratio")
+                        .description("Uncompressed to compressed size of a response")
+                        .tags("endpoint", endpoint, "encoding", encoding.getName())
+                        .register(meterRegistry)
+                        .record((double) bytesIn / bytesOut);
+                Timer.builder("testdata.compression.cpu")
+                        .description("CPU time spent compressing a response")
+                        .tags("endpoint", endpoint, "encoding", encoding.getName())
+                        .register(meterRegistry)
+                        .record(cpuNanos, TimeUnit.NANOSECONDS);
+                meterRegistry.counter("testdata.compression.bytes", "endpoint", endpoint,
+                        "encoding", encoding.getName(), "stage", "uncompressed").increment(bytesIn);
+                meterRegistry.counter("testdata.compression.bytes", "endpoint", endpoint,
+                        "encoding", encoding.getName(), "stage", "compressed").increment(bytesOut);
+            }
+        }
+    }
+
+    private interface Step {
+        void run() throws IOException;
+    }
+
+    /**
+     * Stream the compressor writes into; points at the buffer of the chunk being compressed,
+     * and drops output while it points at none
+     */
+    private static final class BufferTarget extends OutputStream {
+
+        private DataBuffer buffer;
+
+        @Override
+        public void write(int b) {
+            if (buffer != null) {
+                buffer.ensureWritable(1);
+                buffer.write((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (buffer != null) {
+                buffer.ensureWritable(length);
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void close() {
+            // The buffers belong to the response
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response compressions applied by {@link CompressionWebFilter}. Each opens a
+ * stream whose {@code flush()} emits everything written so far as complete
+ * compressed output, so responses can be compressed chunk by chunk.
+ */
+public enum ContentEncoding {
+
+    /** Zstandard (RFC 8878); preferred when the client accepts both equally */
+    ZSTD("zstd"),
+    /** gzip (RFC 1952), sync-flushed at every chunk */
+    GZIP("gzip");
+
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final String name;
+
+    ContentEncoding(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Encoding the client prefers in its Accept-Encoding header, or null for an uncompressed response
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        ContentEncoding preferred = null;
+        double preferredQuality = 0;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            ContentEncoding encoding = fromName(parts[0].trim());
+            double quality = quality(parts);
+            // Ties go to the encoding listed first in the enum
+            if (encoding != null && (quality > preferredQuality
+                    || quality == preferredQuality && preferred != null && encoding.ordinal() < preferred.ordinal())) {
+                preferred = encoding;
+                preferredQuality = quality;
+            }
+        }
+        return preferred;
+    }
+
+    private static ContentEncoding fromName(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        if (normalized.equals("x-gzip")) {
+            return GZIP;
+        }
+        for (ContentEncoding encoding : values()) {
+            if (encoding.name.equals(normalized)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Compressing stream writing into the target at the given level
+     */
+    OutputStream open(OutputStream target, int level) throws IOException {
+        return switch (this) {
+            case ZSTD -> new ZstdOutputStream(target, level);
+            case GZIP -> new GZIPOutputStream(target, GZIP_BUFFER_BYTES, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,278 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of encoded responses for reproducible (seeded) requests.
+ * <p>
+ * The first request for a key is streamed to the client and, as it goes, to a
+ * file; once complete the file is memory-mapped and later requests are answered
+ * with slices of the mapping wrapped as DataBuffers, without regenerating or
+ * copying. Entries are evicted least recently used first once the total size
+ * exceeds the byte budget; responses larger than the per-entry limit are
+ * streamed but not kept. The directory is cleared on startup, since snapshots
+ * are only valid for the build that produced them.
+ */
+@Component
+public class SnapshotCache {
+
+    private static final int SLICE_BYTES = 1 << 20;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final ObjectMapper objectMapper;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SnapshotCache(@Value("${testdata.snapshot.enabled:true}") boolean enabled,
+                         @Value("${testdata.snapshot.directory:${java.io.tmpdir}/qa-hub-snapshots}") Path directory,
+                         @Value("${testdata.snapshot.max-bytes:268435456}") long maxBytes,
+                         @Value("${testdata.snapshot.max-entry-bytes:67108864}") long maxEntryBytes,
+                         ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(Math.min(maxEntryBytes, maxBytes), Integer.MAX_VALUE);
+        this.objectMapper = objectMapper;
+        if (enabled) {
+            clearDirectory();
+        }
+    }
+
+    /**
+     * Serve the encoded response for a key from its snapshot, recording one from the source on a miss
+     */
+    public Flux<DataBuffer> stream(String key, Supplier<Flux<DataBuffer>> source, DataBufferFactory bufferFactory) {
+        if (!enabled) {
+            return source.get();
+        }
+        return Flux.defer(() -> {
+            Entry entry = lookup(key);
+            if (entry != null) {
+                return slices(entry.mapped, bufferFactory);
+            }
+            Recording recording = new Recording(key);
+            return source.get()
+                    .doOnNext(recording::write)
+                    .doOnComplete(recording::commit)
+                    .doFinally(signal -> recording.discard());
+        });
+    }
+
+    /**
+     * JSON tree for a key, serialized from the source once and read back from the snapshot afterwards
+     */
+    public JsonNode json(String key, Supplier<?> source) {
+        if (!enabled) {
+            return objectMapper.valueToTree(source.get());
+        }
+        try {
+            Entry entry = lookup(key);
+            if (entry == null) {
+                entry = store(key, objectMapper.writeValueAsBytes(source.get()));
+            }
+            return objectMapper.readTree(new ByteBufferBackedInputStream(entry.mapped.duplicate()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read snapshot " + key, e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        synchronized (entries) {
+            return Map.of(
+                    "entries", entries.size(),
+                    "bytes", totalBytes,
+                    "maxBytes", maxBytes,
+                    "hits", hits.get(),
+                    "misses", misses.get());
+        }
+    }
+
+    private Entry lookup(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        (entry != null ? hits : misses).incrementAndGet();
+        return entry;
+    }
+
+    private Entry store(String key, byte[] bytes) throws IOException {
+        Path temp = tempFile(key);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        return publish(key, temp, bytes.length);
+    }
+
+    // Move a completed file into place, map it and register it, evicting older entries over budget
+    private Entry publish(String key, Path temp, long size) throws IOException {
+        Path file = directory.resolve(fileName(key));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        Entry entry = new Entry(file, mapped);
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+            }
+            totalBytes += entry.size();
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next().getValue();
+                if (evicted == entry) {
+                    continue;
+                }
+                eldest.remove();
+                totalBytes -= evicted.size();
+                Files.deleteIfExists(evicted.file);
+            }
+        }
+        return entry;
+    }
+
+    private static Flux<DataBuffer> slices(MappedByteBuffer mapped, DataBufferFactory bufferFactory) {
+        int size = mapped.capacity();
+        int slices = (size + SLICE_BYTES - 1) / SLICE_BYTES;
+        return Flux.range(0, slices).map(i -> {
+            int offset = i * SLICE_BYTES;
+            return bufferFactory.wrap(mapped.slice(offset, Math.min(SLICE_BYTES, size - offset)));
+        });
+    }
+
+    private Path tempFile(String key) {
+        return directory.resolve(fileName(key) + "." + UUID.randomUUID() + ".tmp");
+    }
+
+    private static String fileName(String key) {
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".snapshot";
+    }
+
+    private void clearDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare snapshot directory " + directory, e);
+        }
+    }
+
+    private record Entry(Path file, MappedByteBuffer mapped) {
+        long size() {
+            return mapped.capacity();
+        }
+    }
+
+    /**
+     * Copy of a response being streamed for the first time; abandoned on error,
+     * cancellation or once it outgrows the per-entry limit
+     */
+    private final class Recording {
+
+        private final String key;
+        private Path temp;
+        private FileChannel channel;
+        private long written;
+
+        private Recording(String key) {
+            this.key = key;
+            try {
+                this.temp = tempFile(key);
+                this.channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                discard();
+            }
+        }
+
+        private void write(DataBuffer buffer) {
+            if (channel == null) {
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator readable = buffer.readableByteBuffers()) {
+                while (readable.hasNext()) {
+                    ByteBuffer bytes = readable.next();
+                    written += bytes.remaining();
+                    if (written > maxEntryBytes) {
+                        discard();
+                        return;
+                    }
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                }
+            } catch (IOException e) {
+                discard();
+            }
+        }
+
+        private void commit() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+                channel = null;
+                publish(key, temp, written);
+                temp = null;
+            } catch (IOException e) {
+                discard();
+            }
+        }
+
+        private void discard() {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException ignored) {
+                // Best effort: a leftover temp file is removed on the next startup
+            } finally {
+                channel = null;
+                temp = null;
+            }
+        }
+    }
+}
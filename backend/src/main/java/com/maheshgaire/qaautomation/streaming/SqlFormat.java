@@ -0,0 +1,41 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * SQL script flavours produced by {@link SqlScriptEncoder}.
+ */
+public enum SqlFormat {
+
+    /** Multi-row INSERT statements, one per batch, with standard SQL string literals */
+    INSERT("sql"),
+    /** PostgreSQL COPY ... FROM stdin blocks in text format, loadable with psql */
+    COPY("copy");
+
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "sql", StandardCharsets.UTF_8);
+
+    private final String name;
+
+    SqlFormat(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Format for a request parameter value; "insert" is accepted for "sql"
+     */
+    public static SqlFormat fromName(String name) {
+        String normalized = name != null ? name.toLowerCase(Locale.ROOT) : "";
+        return switch (normalized) {
+            case "sql", "insert" -> INSERT;
+            case "copy" -> COPY;
+            default -> throw new IllegalArgumentException("Unknown SQL format: " + name + " (expected sql or copy)");
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+}
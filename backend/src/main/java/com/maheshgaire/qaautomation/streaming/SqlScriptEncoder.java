@@ -0,0 +1,301 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.maheshgaire.qaautomation.model.Money;
+import com.maheshgaire.qaautomation.seeding.RowBatcher;
+import com.maheshgaire.qaautomation.seeding.SqlTable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Encodes generated rows as a ready-to-load SQL script, one DataBuffer per
+ * batch of rows. Each table is introduced by a CREATE TABLE IF NOT EXISTS
+ * the first time it appears. {@link SqlFormat#INSERT} writes one multi-row
+ * INSERT per batch; {@link SqlFormat#COPY} keeps a COPY block open while
+ * consecutive batches target the same table. Values are escaped and UTF-8
+ * encoded by hand into a small staging chunk that is copied into the
+ * response buffer, so no intermediate strings are built per row.
+ */
+@Component
+public class SqlScriptEncoder {
+
+    private static final int ESTIMATED_ROW_BYTES = 256;
+    private static final int CHUNK_BYTES = 8192;
+
+    /**
+     * Encode generated users (with any orders) or orders (with any items) as
+     * rows of the users, orders and order_items tables
+     */
+    public Flux<DataBuffer> encodeEntities(Flux<?> entities, SqlFormat format, DataBufferFactory bufferFactory,
+                                           int batchSize) {
+        int size = Math.max(1, batchSize);
+        return Flux.defer(() -> {
+            RowBatcher batcher = new RowBatcher(size);
+            return encode(entities.concatMapIterable(batcher::add)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(batcher.drain())))
+                    .map(batch -> new Rows(batch.table(), batch.rows())), format, bufferFactory);
+        });
+    }
+
+    /**
+     * Encode rows of a single table, given as values in the table's column order
+     */
+    public Flux<DataBuffer> encodeRows(SqlTable table, Flux<Object[]> rows, SqlFormat format,
+                                       DataBufferFactory bufferFactory, int batchSize) {
+        return encode(rows.buffer(Math.max(1, batchSize)).map(batch -> new Rows(table, batch)), format, bufferFactory);
+    }
+
+    private Flux<DataBuffer> encode(Flux<Rows> batches, SqlFormat format, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            Script script = new Script(format);
+            return batches.map(batch -> script.encode(batch, bufferFactory))
+                    .concatWith(Mono.defer(() -> script.copyTable != null
+                            ? Mono.just(script.endCopy(bufferFactory)) : Mono.empty()));
+        });
+    }
+
+    private record Rows(SqlTable table, List<Object[]> rows) {
+    }
+
+    /**
+     * Per-subscription state: tables already created and the COPY block currently open
+     */
+    private static final class Script {
+
+        private final SqlFormat format;
+        private final Set<SqlTable> created = new HashSet<>();
+        private SqlTable copyTable;
+
+        Script(SqlFormat format) {
+            this.format = format;
+        }
+
+        DataBuffer encode(Rows batch, DataBufferFactory bufferFactory) {
+            SqlTable table = batch.table();
+            ScriptWriter out = new ScriptWriter(
+                    bufferFactory.allocateBuffer(batch.rows().size() * ESTIMATED_ROW_BYTES));
+            if (format == SqlFormat.COPY) {
+                if (table != copyTable) {
+                    if (copyTable != null) {
+                        out.ascii("\\.\n");
+                    }
+                    create(table, out);
+                    out.ascii("COPY ").ascii(table.getTableName()).ascii(" (");
+                    columns(table, out);
+                    out.ascii(") FROM stdin;\n");
+                    copyTable = table;
+                }
+                for (Object[] row : batch.rows()) {
+                    for (int c = 0; c < row.length; c++) {
+                        if (c > 0) {
+                            out.put('\t');
+                        }
+                        out.copyValue(row[c]);
+                    }
+                    out.put('\n');
+                }
+            } else {
+                create(table, out);
+                out.ascii("INSERT INTO ").ascii(table.getTableName()).ascii(" (");
+                columns(table, out);
+                out.ascii(") VALUES\n");
+                List<Object[]> rows = batch.rows();
+                for (int r = 0; r < rows.size(); r++) {
+                    Object[] row = rows.get(r);
+                    if (r > 0) {
+                        out.ascii(",\n");
+                    }
+                    out.put('(');
+                    for (int c = 0; c < row.length; c++) {
+                        if (c > 0) {
+                            out.ascii(", ");
+                        }
+                        out.literal(row[c]);
+                    }
+                    out.put(')');
+                }
+                out.ascii(";\n");
+            }
+            return out.finish();
+        }
+
+        DataBuffer endCopy(DataBufferFactory bufferFactory) {
+            copyTable = null;
+            return new ScriptWriter(bufferFactory.allocateBuffer(4)).ascii("\\.\n").finish();
+        }
+
+        private void create(SqlTable table, ScriptWriter out) {
+            if (created.add(table)) {
+                out.ascii(table.createStatement(table.getTableName())).ascii(";\n");
+            }
+        }
+
+        private static void columns(SqlTable table, ScriptWriter out) {
+            for (int c = 0; c < table.columnCount(); c++) {
+                if (c > 0) {
+                    out.ascii(", ");
+                }
+                out.ascii(table.columnName(c));
+            }
+        }
+    }
+
+    /**
+     * Writes script text into a DataBuffer through a byte staging chunk
+     */
+    static final class ScriptWriter {
+
+        private final DataBuffer buffer;
+        private final byte[] chunk = new byte[CHUNK_BYTES];
+        private int position;
+
+        ScriptWriter(DataBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Value as a SQL literal: NULL, a bare number or boolean, or a quoted string with quotes doubled
+         */
+        void literal(Object value) {
+            if (value == null) {
+                ascii("NULL");
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                number(((Number) value).longValue());
+            } else if (value instanceof Boolean bool) {
+                ascii(bool ? "TRUE" : "FALSE");
+            } else if (value instanceof BigDecimal decimal) {
+                ascii(decimal.toPlainString());
+            } else if (value instanceof Money money) {
+                ascii(money.toString());
+            } else {
+                put('\'');
+                text(text(value), false);
+                put('\'');
+            }
+        }
+
+        /**
+         * Value in COPY text format: \N for null, backslash escapes for backslash, tab, newline and carriage return
+         */
+        void copyValue(Object value) {
+            if (value == null) {
+                ascii("\\N");
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                number(((Number) value).longValue());
+            } else if (value instanceof Boolean bool) {
+                put(bool ? 't' : 'f');
+            } else if (value instanceof BigDecimal decimal) {
+                ascii(decimal.toPlainString());
+            } else if (value instanceof Money money) {
+                ascii(money.toString());
+            } else {
+                text(text(value), true);
+            }
+        }
+
+        ScriptWriter ascii(String value) {
+            for (int i = 0, length = value.length(); i < length; i++) {
+                put(value.charAt(i));
+            }
+            return this;
+        }
+
+        void put(char c) {
+            if (position == chunk.length) {
+                drain();
+            }
+            chunk[position++] = (byte) c;
+        }
+
+        DataBuffer finish() {
+            drain();
+            return buffer;
+        }
+
+        private void text(String value, boolean copy) {
+            for (int i = 0, length = value.length(); i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (copy) {
+                        switch (c) {
+                            case '\\' -> escape('\\');
+                            case '\t' -> escape('t');
+                            case '\n' -> escape('n');
+                            case '\r' -> escape('r');
+                            default -> put(c);
+                        }
+                    } else {
+                        if (c == '\'') {
+                            put('\'');
+                        }
+                        put(c);
+                    }
+                } else if (c < 0x800) {
+                    put((char) (0xC0 | c >> 6));
+                    put((char) (0x80 | c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    put((char) (0xF0 | codePoint >> 18));
+                    put((char) (0x80 | codePoint >> 12 & 0x3F));
+                    put((char) (0x80 | codePoint >> 6 & 0x3F));
+                    put((char) (0x80 | codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    put('?');
+                } else {
+                    put((char) (0xE0 | c >> 12));
+                    put((char) (0x80 | c >> 6 & 0x3F));
+                    put((char) (0x80 | c & 0x3F));
+                }
+            }
+        }
+
+        private void escape(char c) {
+            put('\\');
+            put(c);
+        }
+
+        private void number(long value) {
+            if (value == Long.MIN_VALUE) {
+                ascii(Long.toString(value));
+                return;
+            }
+            if (chunk.length - position < 20) {
+                drain();
+            }
+            if (value < 0) {
+                chunk[position++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (long rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            position += digits;
+            for (int i = position - 1; i >= position - digits; i--) {
+                chunk[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+
+        private void drain() {
+            buffer.ensureWritable(position);
+            buffer.write(chunk, 0, position);
+            position = 0;
+        }
+
+        // Timestamps use a space rather than 'T' so every database parses them as literals
+        private static String text(Object value) {
+            return value instanceof LocalDateTime dateTime
+                    ? dateTime.toString().replace('T', ' ') : value.toString();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.export.ColumnarRecordEncoder;
+import com.maheshgaire.qaautomation.serialization.EnhancedModelModule;
+import com.maheshgaire.qaautomation.service.TestServices;
+import com.maheshgaire.qaautomation.streaming.BinaryFormat;
+import com.maheshgaire.qaautomation.streaming.BinaryRecordEncoder;
+import com.maheshgaire.qaautomation.streaming.NdjsonBatchEncoder;
+import com.maheshgaire.qaautomation.streaming.SnapshotCache;
+import com.maheshgaire.qaautomation.streaming.SqlFormat;
+import com.maheshgaire.qaautomation.streaming.SqlScriptEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EnhancedTestDataControllerTest {
+
+    private static final String V2 = "/api/v2/testdata";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new EnhancedModelModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final WebTestClient client = WebTestClient.bindToController(new EnhancedTestDataController(
+                    TestServices.enhancedTestDataService(2), new NdjsonBatchEncoder(objectMapper),
+                    new SnapshotCache(false, Path.of("unused"), 0, 0, objectMapper), new SqlScriptEncoder(),
+                    new BinaryRecordEncoder(objectMapper), new ColumnarRecordEncoder(objectMapper)))
+            .build();
+
+    @Test
+    void acceptHeaderAndFormatParameterSelectTheSameEncodings() throws Exception {
+        for (String dataset : List.of("/users?count=20", "/users-with-orders?userCount=20", "/orders?count=20")) {
+            String uri = V2 + dataset + "&seed=5";
+            JsonNode array = objectMapper.readTree(get(uri, null, MediaType.APPLICATION_JSON));
+            assertEquals(20, array.size());
+            assertArrayEquals(get(uri, MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON),
+                    get(uri + "&format=json", MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+
+            byte[] ndjson = get(uri, MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_NDJSON);
+            assertArrayEquals(ndjson, get(uri + "&format=NDJSON", null, MediaType.APPLICATION_NDJSON));
+            List<JsonNode> lines = new ArrayList<>();
+            for (String line : new String(ndjson, StandardCharsets.UTF_8).split("\n")) {
+                lines.add(objectMapper.readTree(line));
+            }
+            Iterator<JsonNode> records = array.elements();
+            for (JsonNode line : lines) {
+                assertEquals(records.next(), line);
+            }
+            assertEquals(20, lines.size());
+
+            for (BinaryFormat format : BinaryFormat.values()) {
+                assertArrayEquals(get(uri, format.getMediaType(), format.getMediaType()),
+                        get(uri + "&format=" + format.getName(), null, format.getMediaType()), format.getName());
+            }
+        }
+    }
+
+    @Test
+    void sharedOptionsAreBoundForEveryDataset() throws Exception {
+        JsonNode users = objectMapper.readTree(get(V2 + "/users?count=5&seed=1&fields=userId,email", null,
+                MediaType.APPLICATION_JSON));
+        for (JsonNode user : users) {
+            assertEquals(Set.of("userId", "email"), fieldNames(user));
+        }
+
+        String script = new String(get(V2 + "/users-with-orders?userCount=5&minOrders=0&maxOrders=0&seed=1"
+                + "&format=sql&batchSize=2", null, SqlFormat.MEDIA_TYPE), StandardCharsets.UTF_8);
+        assertEquals(3, script.split("INSERT INTO users ", -1).length - 1, script);
+
+        String orders = V2 + "/orders?count=9&seed=3&format=ndjson";
+        String whole = new String(get(orders, null, MediaType.APPLICATION_NDJSON), StandardCharsets.UTF_8);
+        String shards = new String(get(orders + "&shardIndex=0&shardCount=2", null, MediaType.APPLICATION_NDJSON),
+                StandardCharsets.UTF_8)
+                + new String(get(orders + "&shardIndex=1&shardCount=2", null, MediaType.APPLICATION_NDJSON),
+                StandardCharsets.UTF_8);
+        assertEquals(whole, shards);
+    }
+
+    @Test
+    void invalidOptionsAreBadRequests() {
+        for (String query : List.of("dist=user_id:bogus", "unique=phone", "unique=product_id&dist=product_id:zipf",
+                "shardIndex=0&shardCount=2", "shardIndex=1", "fields=nope", "format=xml", "format=sql&fields=userId",
+                "batchSize=many", "seed=abc")) {
+            client.get().uri(V2 + "/users?count=3&" + query).exchange().expectStatus().isBadRequest();
+        }
+        client.get().uri(V2 + "/orders?fields=userId,orders.status").exchange().expectStatus().isBadRequest();
+        client.get().uri(V2 + "/orders").accept(MediaType.TEXT_HTML).exchange()
+                .expectStatus().isEqualTo(406);
+    }
+
+    private byte[] get(String uri, MediaType accept, MediaType expected) {
+        WebTestClient.RequestHeadersSpec<?> request = client.get().uri(uri);
+        if (accept != null) {
+            request = request.accept(accept);
+        }
+        return request.exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(expected)
+                .expectBody().returnResult().getResponseBody();
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,112 @@
+package com.maheshgaire.qaautomation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.service.TestServices;
+import com.maheshgaire.qaautomation.streaming.BinaryRecordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestDataControllerTest {
+
+    private static final String TEMPLATES = "/api/v1/testdata/templates";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final WebTestClient client = WebTestClient.bindToController(new TestDataController(
+            TestServices.testDataService(IdGenerators.ulid(), objectMapper), new BinaryRecordEncoder(objectMapper)))
+            .build();
+
+    @Test
+    void registeredTemplatesAreVersionedListedAndGenerated() throws Exception {
+        Map<String, Object> invoice = template("Invoice", List.of(
+                Map.of("name", "number", "generator", "prefixed", "prefix", "INV-", "max", 1000),
+                Map.of("name", "status", "generator", "pick", "values", List.of("open", "paid")),
+                Map.of("name", "customer", "generator", "object",
+                        "fields", List.of(Map.of("name", "email", "generator", "email")))));
+
+        register(invoice).expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo("invoice").jsonPath("$.version").isEqualTo(1);
+        // An identical definition keeps its version; a changed one gets the next
+        register(invoice).expectStatus().isOk().expectBody().jsonPath("$.version").isEqualTo(1);
+        register(template("invoice", List.of(Map.of("name", "status", "generator", "constant", "value", "open"))))
+                .expectStatus().isOk().expectBody().jsonPath("$.version").isEqualTo(2);
+        register(invoice).expectStatus().isOk().expectBody().jsonPath("$.version").isEqualTo(3);
+
+        client.get().uri(TEMPLATES + "/INVOICE").exchange()
+                .expectStatus().isOk().expectBody().jsonPath("$.fields.length()").isEqualTo(3);
+        client.get().uri(TEMPLATES).exchange()
+                .expectStatus().isOk().expectBody().jsonPath("$[-1:]").isEqualTo("invoice");
+        client.get().uri(TEMPLATES + "/custom").exchange()
+                .expectStatus().isOk().expectBody().jsonPath("$[0].id").isEqualTo("invoice");
+
+        String body = client.get().uri("/api/v1/testdata/generate/invoice?count=20&seed=3").exchange()
+                .expectStatus().isOk().expectBody(String.class).returnResult().getResponseBody();
+        JsonNode records = objectMapper.readTree(body);
+        assertEquals(20, records.size());
+        for (JsonNode record : records) {
+            assertEquals("invoice", record.get("type").asText());
+            JsonNode data = record.get("data");
+            assertTrue(data.get("number").asText().matches("INV-\\d{1,3}"), data.toString());
+            assertTrue(List.of("open", "paid").contains(data.get("status").asText()), data.toString());
+            assertTrue(data.get("customer").get("email").asText().contains("@"), data.toString());
+        }
+    }
+
+    @Test
+    void invalidTemplatesAreBadRequests() {
+        register(template("no-fields", List.of())).expectStatus().isBadRequest();
+        register(template("bad-generator", List.of(Map.of("name", "x", "generator", "lorem"))))
+                .expectStatus().isBadRequest();
+        register(template("empty-pick", List.of(Map.of("name", "x", "generator", "pick", "values", List.of()))))
+                .expectStatus().isBadRequest();
+        register(template("inverted", List.of(Map.of("name", "x", "generator", "integer", "min", 5, "max", 1))))
+                .expectStatus().isBadRequest();
+        register(template("Not an id!", List.of(Map.of("name", "x", "generator", "boolean"))))
+                .expectStatus().isBadRequest();
+        // Would be shadowed by GET /templates/custom
+        register(template("custom", List.of(Map.of("name", "x", "generator", "boolean"))))
+                .expectStatus().isBadRequest();
+
+        client.get().uri(TEMPLATES + "/custom").exchange().expectStatus().isOk().expectBody().json("[]");
+    }
+
+    @Test
+    void builtInIdsCannotBeRegisteredAgain() {
+        register(template("user", List.of(Map.of("name", "x", "generator", "boolean")))).expectStatus()
+                .isEqualTo(409);
+        register(template("Order", List.of(Map.of("name", "x", "generator", "boolean")))).expectStatus()
+                .isEqualTo(409);
+    }
+
+    @Test
+    void unknownTemplatesAreNotFound() {
+        client.get().uri(TEMPLATES + "/missing").exchange().expectStatus().isNotFound();
+        client.delete().uri(TEMPLATES + "/missing").exchange().expectStatus().isNotFound();
+
+        register(template("ticket", List.of(Map.of("name", "open", "generator", "boolean")))).expectStatus().isOk();
+        client.delete().uri(TEMPLATES + "/ticket").exchange().expectStatus().isNoContent();
+        client.get().uri(TEMPLATES + "/ticket").exchange().expectStatus().isNotFound();
+        client.delete().uri(TEMPLATES + "/ticket").exchange().expectStatus().isNotFound();
+    }
+
+    private WebTestClient.ResponseSpec register(Map<String, Object> template) {
+        return client.post().uri(TEMPLATES).contentType(MediaType.APPLICATION_JSON).bodyValue(template).exchange();
+    }
+
+    private static Map<String, Object> template(String id, List<Map<String, Object>> fields) {
+        return Map.of("id", id, "fields", fields);
+    }
+}
@@ -0,0 +1,176 @@
+package com.maheshgaire.qaautomation.export;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.serialization.EnhancedModelModule;
+import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import com.maheshgaire.qaautomation.service.TestServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarRecordEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new EnhancedModelModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // Decimals as written (569.30), as the writer keeps them
+    private final ObjectMapper exactReader = objectMapper.copy()
+            .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final ColumnarRecordEncoder encoder = new ColumnarRecordEncoder(objectMapper);
+
+    @Test
+    void rowGroupsHoldTheRecordValuesWithLowCardinalityColumnsAsDictionaries() throws Exception {
+        List<Order> orders = service().generateEnhancedOrders(2500, false, 11L);
+        Decoded file = decode(encode(Flux.fromIterable(orders), 1000));
+
+        assertEquals(List.of(1000, 1000, 500), file.groupRows);
+        for (String column : List.of("status", "currency", "paymentInfo.cardType", "paymentInfo.processor")) {
+            assertEquals(List.of(true, true, true), file.dictionaryChunks.get(column), column);
+        }
+        assertEquals(List.of(false, false, false), file.dictionaryChunks.get("orderId"));
+
+        for (int i = 0; i < orders.size(); i++) {
+            JsonNode record = exactReader.readTree(objectMapper.writeValueAsBytes(orders.get(i)));
+            for (int c = 0; c < file.columns.size(); c++) {
+                assertEquals(expected(record, file.columns.get(c)), file.values.get(c).get(i), file.columns.get(c));
+            }
+        }
+        long json = objectMapper.writeValueAsBytes(orders).length;
+        assertTrue(file.bytes < json / 2, file.bytes + " of " + json);
+    }
+
+    @Test
+    void emptyStreamsAreAFileWithoutColumns() throws Exception {
+        Decoded file = decode(encode(Flux.empty(), 1000));
+
+        assertEquals(List.of(), file.columns);
+        assertEquals(List.of(), file.groupRows);
+    }
+
+    private byte[] encode(Flux<?> records, int rowGroupRows) {
+        DataBuffer joined = DataBufferUtils.join(encoder.encode(records, DefaultDataBufferFactory.sharedInstance,
+                rowGroupRows)).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+
+    // Value of a dotted column as the decoder returns it
+    private static Object expected(JsonNode record, String column) {
+        JsonNode node = record;
+        for (String field : column.split("\\.")) {
+            node = node.path(field);
+        }
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isIntegralNumber()) {
+            return node.longValue();
+        }
+        if (node.isBigDecimal()) {
+            return node.decimalValue().toPlainString();
+        }
+        return node.isContainerNode() ? node.toString() : node.asText();
+    }
+
+    private static Decoded decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Decoded file = new Decoded();
+        file.bytes = bytes.length;
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+        assertArrayEquals(ColumnarExportWriter.MAGIC, magic);
+        assertEquals(ColumnarExportWriter.VERSION, in.readInt());
+        int columnCount = in.readInt();
+        for (int c = 0; c < columnCount; c++) {
+            String column = text(in);
+            file.columns.add(column);
+            file.values.add(new ArrayList<>());
+            file.dictionaryChunks.put(column, new ArrayList<>());
+        }
+        while (in.available() > 0) {
+            int rows = in.readInt();
+            file.groupRows.add(rows);
+            for (int c = 0; c < columnCount; c++) {
+                int chunkLength = in.readInt();
+                int before = in.available();
+                boolean dictionary = in.readByte() == ColumnarExportWriter.DICTIONARY;
+                file.dictionaryChunks.get(file.columns.get(c)).add(dictionary);
+                List<Object> values = file.values.get(c);
+                if (dictionary) {
+                    List<String> entries = new ArrayList<>();
+                    for (int e = in.readInt(); e > 0; e--) {
+                        entries.add(text(in));
+                    }
+                    for (int r = 0; r < rows; r++) {
+                        int index = in.readUnsignedByte();
+                        values.add(index == 0 ? null : entries.get(index - 1));
+                    }
+                } else {
+                    for (int r = 0; r < rows; r++) {
+                        values.add(value(in));
+                    }
+                }
+                assertEquals(chunkLength, before - in.available());
+            }
+        }
+        return file;
+    }
+
+    private static Object value(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case ColumnarExportWriter.NULL -> null;
+            case ColumnarExportWriter.FALSE -> "false";
+            case ColumnarExportWriter.TRUE -> "true";
+            case ColumnarExportWriter.INT64 -> in.readLong();
+            case ColumnarExportWriter.FLOAT64 -> String.valueOf(in.readDouble());
+            case ColumnarExportWriter.TEXT -> text(in);
+            default -> throw new IOException("Unknown value type " + type);
+        };
+    }
+
+    private static String text(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static EnhancedTestDataService service() {
+        return TestServices.enhancedTestDataService(2);
+    }
+
+    private static final class Decoded {
+        private final List<String> columns = new ArrayList<>();
+        private final List<List<Object>> values = new ArrayList<>();
+        private final Map<String, List<Boolean>> dictionaryChunks = new HashMap<>();
+        private final List<Integer> groupRows = new ArrayList<>();
+        private long bytes;
+    }
+}
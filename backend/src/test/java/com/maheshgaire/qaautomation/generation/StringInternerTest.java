@@ -0,0 +1,48 @@
+package com.maheshgaire.qaautomation.generation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringInternerTest {
+
+    @Test
+    void equalValuesShareTheFirstInstance() {
+        StringInterner interner = new StringInterner(1024);
+        String first = interner.intern(new String("****-****-****-4242"));
+
+        assertSame(first, interner.intern(new String("****-****-****-4242")));
+        assertEquals("****-****-****-4242", first);
+        assertNull(interner.intern(null));
+    }
+
+    @Test
+    void tableStaysAtItsCapacityWhateverPassesThrough() {
+        StringInterner interner = new StringInterner(1000);
+        assertEquals(1024, interner.capacity());
+
+        for (int i = 0; i < 100_000; i++) {
+            String value = "prod_" + i;
+            assertEquals(value, interner.intern(value));
+        }
+        String recent = interner.intern(new String("prod_99999"));
+        assertSame(recent, interner.intern(new String("prod_99999")));
+        assertThrows(IllegalArgumentException.class, () -> new StringInterner(0));
+    }
+
+    @Test
+    void requestTablesAreSizedToTheirRecordsAndNoneKeepsNothing() {
+        assertEquals(512, StringInterner.forRecords(100).capacity());
+        assertEquals(StringInterner.REQUEST_CAPACITY, StringInterner.forRecords(10_000_000).capacity());
+
+        StringInterner none = StringInterner.none();
+        String value = new String("12345");
+        assertSame(value, none.intern(value));
+        assertNotSame(value, none.intern(new String("12345")));
+        assertEquals(0, none.capacity());
+    }
+}
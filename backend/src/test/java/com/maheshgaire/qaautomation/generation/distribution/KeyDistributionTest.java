@@ -0,0 +1,82 @@
+package com.maheshgaire.qaautomation.generation.distribution;
+
+import com.maheshgaire.qaautomation.generation.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyDistributionTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void zipfMatchesItsProbabilitiesWithAndWithoutATable() {
+        for (long n : new long[] {50, 1_000_000}) {
+            double exponent = 0.99;
+            double normalizer = 0;
+            for (long k = 1; k <= n; k++) {
+                normalizer += Math.pow(k, -exponent);
+            }
+            long[] counts = draw(KeyDistribution.parse("zipf:" + exponent).sampler(n), n, 3);
+            for (int k = 0; k < 3; k++) {
+                double expected = Math.pow(k + 1, -exponent) / normalizer;
+                assertEquals(expected, counts[k] / (double) DRAWS, 0.01, "n=" + n + " k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void hotspotSendsMostDrawsToTheHotKeys() {
+        IndexSampler sampler = KeyDistribution.parse("hotspot:0.1:0.9").sampler(100_000);
+        SplitMix64 random = new SplitMix64().reseed(7);
+        int hot = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            long key = sampler.next(random);
+            assertTrue(key >= 0 && key < 100_000);
+            if (key < 10_000) {
+                hot++;
+            }
+        }
+        assertEquals(0.9, hot / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    void latestAndParetoFavourTheirEnds() {
+        long n = 10_000;
+        long[] latest = draw(KeyDistribution.parse("latest").sampler(n), n, (int) n);
+        assertTrue(latest[(int) n - 1] > latest[(int) n - 2] && latest[(int) n - 2] > latest[0]);
+
+        long[] pareto = draw(KeyDistribution.parse("pareto").sampler(n), n, (int) n);
+        long top = 0;
+        for (int k = 0; k < n / 5; k++) {
+            top += pareto[k];
+        }
+        assertTrue(top > DRAWS * 0.75, "top 20% of keys drew " + top);
+    }
+
+    @Test
+    void parsesPerFieldSpecs() {
+        FieldDistributions distributions = FieldDistributions.parse("zipf:1.2, product_id:hotspot, user_id:uniform");
+
+        assertEquals("category:zipf:1.2,orders_per_user:zipf:1.2,product_id:hotspot:0.2:0.8", distributions.toString());
+        assertTrue(distributions.get(FieldDistributions.USER_ID).isUniform());
+        assertEquals(FieldDistributions.UNIFORM, FieldDistributions.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> FieldDistributions.parse("user_id:zipf:0"));
+        assertThrows(IllegalArgumentException.class, () -> FieldDistributions.parse("zipf,pareto"));
+    }
+
+    private static long[] draw(IndexSampler sampler, long n, int tracked) {
+        SplitMix64 random = new SplitMix64().reseed(42);
+        long[] counts = new long[tracked];
+        for (int i = 0; i < DRAWS; i++) {
+            long key = sampler.next(random);
+            assertTrue(key >= 0 && key < n, "key " + key + " outside [0, " + n + ")");
+            if (key < tracked) {
+                counts[(int) key]++;
+            }
+        }
+        return counts;
+    }
+}
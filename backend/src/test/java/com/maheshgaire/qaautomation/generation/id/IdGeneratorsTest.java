@@ -0,0 +1,150 @@
+package com.maheshgaire.qaautomation.generation.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdGeneratorsTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    void liveIdsAreUniqueAcrossThreadsAndOrderedWithinEach() throws Exception {
+        for (String strategy : List.of("uuidv7", "ulid", "snowflake")) {
+            IdGenerator generator = IdGenerators.forStrategy(strategy);
+            Set<String> seen = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    results.add(executor.submit(() -> {
+                        String previous = null;
+                        boolean ordered = true;
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            String id = generator.nextId();
+                            ordered &= previous == null || compare(strategy, previous, id) < 0;
+                            seen.add(id);
+                            previous = id;
+                        }
+                        return ordered;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get(), strategy + " IDs must increase within a thread");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(THREADS * IDS_PER_THREAD, seen.size(), strategy + " IDs must not collide");
+        }
+    }
+
+    @Test
+    void seededIdsAreDeterministicAndDistinctPerRecordAndSlot() {
+        for (String strategy : List.of("uuidv7", "ulid", "snowflake")) {
+            IdGenerator generator = IdGenerators.forStrategy(strategy);
+            Set<String> seen = ConcurrentHashMap.newKeySet();
+            for (long record = 0; record < 2_000; record++) {
+                for (int slot = 0; slot < 4; slot++) {
+                    String id = generator.idFor("x_", 1_700_000_000_000L, record, slot);
+                    assertEquals(id, generator.idFor("x_", 1_700_000_000_000L, record, slot));
+                    seen.add(id);
+                }
+            }
+            assertEquals(8_000, seen.size(), strategy);
+        }
+    }
+
+    @Test
+    void snowflakeWorkersOfTerminatedThreadsAreReusedWithoutRepeats() throws Exception {
+        IdGenerator generator = IdGenerators.snowflake();
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        int waves = 30;
+        int threadsPerWave = 100;
+        int idsPerThread = 20;
+        // 3000 short-lived threads: more than there are worker numbers, several at a time
+        for (int wave = 0; wave < waves; wave++) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadsPerWave; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        seen.add(generator.nextId());
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+        assertEquals(waves * threadsPerWave * idsPerThread, seen.size());
+    }
+
+    @Test
+    void liveThreadsNeverShareASnowflakeWorker() throws Exception {
+        IdGenerator generator = IdGenerators.snowflake();
+        int threadCount = IdGenerators.SNOWFLAKE_WORKERS + 76;
+        Set<Long> workers = ConcurrentHashMap.newKeySet();
+        AtomicInteger leased = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch attempted = new CountDownLatch(threadCount);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        try {
+            for (int t = 0; t < threadCount; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        workers.add((Long.parseLong(generator.nextId()) >>> 12) & 0x3ff);
+                        leased.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        refused.incrementAndGet();
+                    }
+                    attempted.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            assertTrue(attempted.await(60, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        assertEquals(leased.get(), workers.size(), "live threads must hold distinct worker numbers");
+        assertTrue(leased.get() <= IdGenerators.SNOWFLAKE_WORKERS, leased + " leases");
+        assertTrue(refused.get() >= threadCount - IdGenerators.SNOWFLAKE_WORKERS, refused + " refusals");
+
+        // The numbers of the terminated threads are free again
+        Thread late = new Thread(generator::nextId);
+        AtomicInteger failures = new AtomicInteger();
+        late.setUncaughtExceptionHandler((thread, e) -> failures.incrementAndGet());
+        late.start();
+        late.join();
+        assertEquals(0, failures.get());
+    }
+
+    private static int compare(String strategy, String a, String b) {
+        return strategy.equals("snowflake") ? Long.compare(Long.parseLong(a), Long.parseLong(b)) : a.compareTo(b);
+    }
+}
@@ -0,0 +1,70 @@
+package com.maheshgaire.qaautomation.generation.relational;
+
+import com.maheshgaire.qaautomation.generation.DictionarySnapshot;
+import com.maheshgaire.qaautomation.generation.SeededFaker;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.model.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelationalDatasetTest {
+
+    private final RelationalDataset dataset =
+            new RelationalDataset(42L, 50, 20, 300, 4, new DictionarySnapshot(), IdGenerators.uuidV7());
+
+    @Test
+    void foreignKeysReferenceExistingRowsAndTotalsAddUp() {
+        SeededFaker faker = new SeededFaker();
+        Set<Long> itemIds = new HashSet<>();
+        Map<Long, Money> itemTotals = new HashMap<>();
+
+        for (long o = 0; o < dataset.getOrders(); o++) {
+            for (TableRow item : dataset.orderItems(faker, o)) {
+                assertTrue(itemIds.add(item.key()), "duplicate order_item_id " + item.key());
+                assertEquals(o + 1, item.get(1));
+                assertTrue((Long) item.get(2) >= 1 && (Long) item.get(2) <= dataset.getProducts());
+                assertEquals(dataset.product(faker, (Long) item.get(2) - 1).get(4), item.get(4));
+                itemTotals.merge(o + 1, (Money) item.get(5), Money::plus);
+            }
+
+            TableRow order = dataset.order(faker, o);
+            long userId = (Long) order.get(1);
+            assertTrue(userId >= 1 && userId <= dataset.getUsers());
+            assertEquals(itemTotals.get(o + 1), order.get(4));
+            assertTrue(((String) order.get(5)).compareTo((String) dataset.user(faker, userId - 1).get(8)) >= 0,
+                    "order placed before its user was created");
+
+            TableRow payment = dataset.payment(faker, o);
+            assertEquals(o + 1, payment.get(1));
+            assertEquals(order.get(4), payment.get(5));
+        }
+    }
+
+    @Test
+    void rowsArePureFunctionsOfTheirIndex() {
+        SeededFaker first = new SeededFaker();
+        SeededFaker second = new SeededFaker();
+        List<Long> indexes = List.of(7L, 0L, 299L, 7L);
+
+        for (long index : indexes) {
+            assertEquals(render(dataset.order(first, index)), render(dataset.order(second, index)));
+            assertEquals(render(dataset.user(first, index % 50)), render(dataset.user(second, index % 50)));
+        }
+    }
+
+    private static String render(TableRow row) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < row.getTable().columnCount(); i++) {
+            text.append(row.get(i)).append('|');
+        }
+        return text.toString();
+    }
+}
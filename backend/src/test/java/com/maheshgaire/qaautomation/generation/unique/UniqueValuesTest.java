@@ -0,0 +1,61 @@
+package com.maheshgaire.qaautomation.generation.unique;
+
+import com.maheshgaire.qaautomation.generation.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UniqueValuesTest {
+
+    @Test
+    void fingerprintSetGrowsWithoutLosingKeys() {
+        FingerprintSet set = new FingerprintSet(0);
+        int keys = 300_000;
+        for (long i = 1; i <= keys; i++) {
+            assertTrue(set.add(RandomStreams.mix64(i)));
+        }
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        for (long i = 1; i <= keys; i++) {
+            assertFalse(set.add(RandomStreams.mix64(i)));
+            assertTrue(set.contains(RandomStreams.mix64(i)));
+        }
+        assertFalse(set.contains(RandomStreams.mix64(keys + 1)));
+        assertEquals(keys + 1, set.size());
+        assertTrue(set.memoryBytes() <= 24L * keys, "bytes: " + set.memoryBytes());
+    }
+
+    @Test
+    void repeatedValuesGetStableSuffixedVariants() {
+        List<String> first = claimAll(new UniqueValues(UniqueValues.Style.EMAIL, 10));
+        List<String> second = claimAll(new UniqueValues(UniqueValues.Style.EMAIL, 10));
+
+        assertEquals(first, second);
+        assertEquals("jane.doe@example.com", first.get(0));
+        assertEquals(first.size(), new HashSet<>(first).size());
+        for (String email : first) {
+            assertTrue(email.matches("jane\\.doe[0-9]*@example\\.com") || email.matches("sam[0-9]*@example\\.com"),
+                    email);
+        }
+
+        UniqueValues skus = new UniqueValues(UniqueValues.Style.SUFFIX, 10);
+        assertEquals("WIRELE-1234", skus.claim("WIRELE-1234"));
+        assertTrue(skus.claim("WIRELE-1234").matches("WIRELE-1234-[0-9]+"));
+        assertEquals(1, skus.collisions());
+    }
+
+    private static List<String> claimAll(UniqueValues values) {
+        List<String> claimed = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            claimed.add(values.claim("jane.doe@example.com"));
+            claimed.add(values.claim("sam@example.com"));
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,49 @@
+package com.maheshgaire.qaautomation.mcp.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.service.TestServices;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class QAAutomationMCPServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final QAAutomationMCPServer server = new QAAutomationMCPServer();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(server, "testDataService", TestServices.enhancedTestDataService(2));
+        ReflectionTestUtils.setField(server, "idGenerator", IdGenerators.uuidV7());
+    }
+
+    @Test
+    void seededProductsAndMixedDataAreReproducible() throws Exception {
+        for (String type : new String[] {"products", "mixed"}) {
+            assertEquals(generated(type, 9L), generated(type, 9L), type);
+            // Without a seed the IDs are live
+            assertNotEquals(generated(type, null), generated(type, null), type);
+        }
+    }
+
+    private String generated(String type, Long seed) throws Exception {
+        Map<String, Object> arguments = new HashMap<>(Map.of("type", type, "count", 6));
+        if (seed != null) {
+            arguments.put("seed", seed);
+        }
+        Object result = server.callTool("generate_test_data", arguments).block();
+        return objectMapper.writeValueAsString(((Map<?, ?>) result).get("data"));
+    }
+}
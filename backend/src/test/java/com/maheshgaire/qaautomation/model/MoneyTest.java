@@ -0,0 +1,49 @@
+package com.maheshgaire.qaautomation.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoneyTest {
+
+    @Test
+    void formatsLikeBigDecimal() {
+        long[] amounts = {0, 5, -5, 50, 99, 100, 12345, -12345, 100000, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (int scale : new int[] {0, 2, 3}) {
+            for (long minor : amounts) {
+                assertEquals(BigDecimal.valueOf(minor, scale).toPlainString(),
+                        Money.ofMinor(minor, scale, null).toString());
+            }
+        }
+    }
+
+    @Test
+    void writesTheSameJsonNumberAsBigDecimal() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Money money = Money.ofMinor(-1050, "USD");
+        String json = mapper.writeValueAsString(mapper.createObjectNode().put("amount", money.toBigDecimal()));
+
+        StringWriter written = new StringWriter();
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(written)) {
+            gen.writeStartObject();
+            gen.writeFieldName("amount");
+            money.writeTo(gen);
+            gen.writeEndObject();
+        }
+
+        assertEquals("{\"amount\":-10.50}", json);
+        assertEquals(json, written.toString());
+    }
+
+    @Test
+    void convertsExactlyFromBigDecimal() {
+        assertEquals(Money.ofMinor(1999, 2, "EUR"), Money.of(new BigDecimal("19.99"), "EUR"));
+        assertEquals(Money.ofMinor(7500, 2, "USD").times(3), Money.ofMinor(22500, "USD"));
+        assertEquals(0, Money.ofMinor(500, "JPY").getScale());
+    }
+}
@@ -0,0 +1,49 @@
+package com.maheshgaire.qaautomation.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.model.enhanced.OrderItem;
+import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import com.maheshgaire.qaautomation.service.TestServices;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EnhancedModelModuleTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper streamingMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new EnhancedModelModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void matchesBeanSerializationForGeneratedGraphs() throws Exception {
+        EnhancedTestDataService service = TestServices.enhancedTestDataService(2);
+
+        List<EnhancedUser> users = service.generateUsersWithOrders(50, 0, 3, 3L);
+        List<Order> orders = service.generateEnhancedOrders(50, true, 4L);
+
+        assertEquals(beanMapper.writeValueAsString(users), streamingMapper.writeValueAsString(users));
+        assertEquals(beanMapper.writeValueAsString(orders), streamingMapper.writeValueAsString(orders));
+    }
+
+    @Test
+    void omitsNullFieldsLikeBeanSerialization() throws Exception {
+        Order order = new Order();
+        order.setOrderId("order_1");
+        order.setItems(List.of(new OrderItem()));
+        EnhancedUser user = new EnhancedUser();
+        user.setOrders(List.of(order));
+
+        assertEquals(beanMapper.writeValueAsString(user), streamingMapper.writeValueAsString(user));
+    }
+}
@@ -0,0 +1,66 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.maheshgaire.qaautomation.model.seeding.SeedReport;
+import com.maheshgaire.qaautomation.model.seeding.SeedRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DatabaseSeedingServiceTest {
+
+    private static final String URL = "jdbc:h2:mem:seeding-test;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void seedsUsersOrdersAndItemsIntoAnEmbeddedDatabase() throws Exception {
+        DatabaseSeedingService service = seedingService();
+        SeedRequest request = new SeedRequest();
+        request.setDataset("users-with-orders");
+        request.setCount(3000L);
+        request.setSeed(42L);
+        request.setBatchSize(500);
+        request.setWriters(4);
+        request.setRecreateTables(true);
+
+        SeedReport report = service.seed(request).block();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            assertEquals(3000L, count(statement, "SELECT COUNT(*) FROM users"));
+            assertEquals(report.getTables().get("orders").getRows(), count(statement, "SELECT COUNT(*) FROM orders"));
+            assertEquals(report.getTables().get("order_items").getRows(),
+                    count(statement, "SELECT COUNT(*) FROM order_items"));
+            assertEquals(report.getTotalRows(), 3000L + report.getTables().get("orders").getRows()
+                    + report.getTables().get("order_items").getRows());
+            assertEquals(0L, count(statement, "SELECT COUNT(*) FROM orders o WHERE o.total_amount <> "
+                    + "(SELECT SUM(i.total_price) FROM order_items i WHERE i.order_id = o.order_id)"));
+            assertEquals(0L, count(statement, "SELECT COUNT(*) FROM orders o "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM users u WHERE u.user_id = o.user_id)"));
+        }
+        assertEquals(6, report.getTables().get("users").getBatches());
+    }
+
+    private static long count(Statement statement, String sql) throws Exception {
+        try (ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static DatabaseSeedingService seedingService() {
+        DatabaseSeedingService service = new DatabaseSeedingService();
+        ReflectionTestUtils.setField(service, "enhancedTestDataService", TestServices.enhancedTestDataService(4));
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "url", URL);
+        ReflectionTestUtils.setField(service, "username", "sa");
+        ReflectionTestUtils.setField(service, "password", "");
+        ReflectionTestUtils.setField(service, "maxWriters", 16);
+        return service;
+    }
+}
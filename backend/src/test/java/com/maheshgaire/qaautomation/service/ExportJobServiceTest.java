@@ -0,0 +1,104 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.model.export.ExportJob;
+import com.maheshgaire.qaautomation.model.export.ExportRequest;
+import com.maheshgaire.qaautomation.serialization.EnhancedModelModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExportJobServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new EnhancedModelModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void interruptedJobsResumeToTheSameFile() throws Exception {
+        for (String format : List.of("ndjson", "csv", "columnar")) {
+            ExportRequest request = request("users-with-orders", format, 20_000);
+
+            ExportJobService reference = exportService(directory.resolve(format + "-reference"));
+            ExportJob completed = await(reference, reference.submit(request));
+            byte[] expected = Files.readAllBytes(reference.file(completed));
+
+            Path interruptedDirectory = directory.resolve(format + "-interrupted");
+            ExportJobService crashed = exportService(interruptedDirectory);
+            ExportJob job = crashed.submit(request);
+            while (job.getCheckpointRecords() == 0) {
+                Thread.sleep(1);
+            }
+            crashed.shutdown();
+            // Output past the checkpoint that had not been saved when the process died
+            Files.write(interruptedDirectory.resolve(job.getFileName()), new byte[100], StandardOpenOption.APPEND);
+
+            ExportJobService restarted = exportService(interruptedDirectory);
+            ExportJob resumed = await(restarted, restarted.getJob(job.getJobId()).orElseThrow());
+
+            assertEquals(1, resumed.getResumeCount(), format);
+            assertEquals(20_000, resumed.getRecordsWritten(), format);
+            assertArrayEquals(expected, Files.readAllBytes(restarted.file(resumed)), format);
+        }
+    }
+
+    @Test
+    void csvExportHasAHeaderAndOneLinePerRecord() throws Exception {
+        ExportRequest request = request("testdata", "csv", 2500);
+        request.setType("address");
+        ExportJobService service = exportService(directory);
+
+        ExportJob job = await(service, service.submit(request));
+        List<String> lines = Files.readAllLines(service.file(job));
+
+        assertEquals(2501, lines.size());
+        assertEquals(job.getColumns(), List.of(lines.get(0).split(",")));
+    }
+
+    private ExportRequest request(String dataset, String format, long count) {
+        ExportRequest request = new ExportRequest();
+        request.setDataset(dataset);
+        request.setFormat(format);
+        request.setCount(count);
+        request.setSeed(42L);
+        return request;
+    }
+
+    private static ExportJob await(ExportJobService service, ExportJob job) throws InterruptedException {
+        while (!job.isFinished()) {
+            Thread.sleep(5);
+        }
+        assertEquals(ExportJob.State.COMPLETED, job.getState(), job.getError());
+        return job;
+    }
+
+    private ExportJobService exportService(Path jobDirectory) {
+        ExportJobService service = new ExportJobService();
+        ReflectionTestUtils.setField(service, "testDataService",
+                TestServices.testDataService(IdGenerators.ulid(), objectMapper));
+        ReflectionTestUtils.setField(service, "enhancedTestDataService", TestServices.enhancedTestDataService(4));
+        ReflectionTestUtils.setField(service, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(service, "idGenerator", IdGenerators.uuidV7());
+        ReflectionTestUtils.setField(service, "directory", jobDirectory);
+        ReflectionTestUtils.setField(service, "concurrency", 1);
+        ReflectionTestUtils.setField(service, "checkpointRecords", 1000L);
+        ReflectionTestUtils.setField(service, "bufferBytes", 64 * 1024);
+        service.start();
+        return service;
+    }
+}
@@ -0,0 +1,97 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.distribution.KeyDistribution;
+import com.maheshgaire.qaautomation.generation.mutation.MutationMix;
+import com.maheshgaire.qaautomation.model.enhanced.ChangeEvent;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutationStreamServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final EnhancedTestDataService enhancedTestDataService = TestServices.enhancedTestDataService(1);
+    private final MutationStreamService service = new MutationStreamService();
+
+    MutationStreamServiceTest() {
+        ReflectionTestUtils.setField(service, "enhancedTestDataService", enhancedTestDataService);
+    }
+
+    @Test
+    void orderEventsFollowTheLifecycleAndChainVersions() throws Exception {
+        List<ChangeEvent<Object>> events = service.mutations(MutationStreamService.ORDERS, 50, 3L,
+                FieldDistributions.UNIFORM, MutationMix.ORDERS, KeyDistribution.parse("zipf"), 0, 2000)
+                .collectList().block();
+
+        assertEquals(objectMapper.writeValueAsString(events), objectMapper.writeValueAsString(
+                service.mutations(MutationStreamService.ORDERS, 50, 3L, FieldDistributions.UNIFORM,
+                        MutationMix.ORDERS, KeyDistribution.parse("zipf"), 0, 2000).collectList().block()));
+
+        List<String> lifecycle = List.of("pending", "confirmed", "processing", "shipped", "delivered");
+        Map<Long, ChangeEvent<Object>> latest = new HashMap<>();
+        Set<String> types = new HashSet<>();
+        for (ChangeEvent<Object> event : events) {
+            types.add(event.getType());
+            Order after = (Order) event.getAfter();
+            if (event.getOp().equals("c")) {
+                assertNull(event.getBefore());
+                assertTrue(event.getIndex() >= 50);
+                assertEquals("pending", after.getStatus());
+                continue;
+            }
+            Order before = (Order) event.getBefore();
+            ChangeEvent<Object> previous = latest.put(event.getIndex(), event);
+            if (previous != null) {
+                assertFalse(Boolean.TRUE.equals(previous.getDeleted()), "update after soft delete");
+                assertEquals(previous.getVersion() + 1, event.getVersion());
+                assertEquals(objectMapper.writeValueAsString(previous.getAfter()),
+                        objectMapper.writeValueAsString(before));
+            } else {
+                assertEquals(2, event.getVersion());
+                assertEquals(objectMapper.writeValueAsString(enhancedTestDataService.enhancedOrderAt(
+                        event.getIndex(), 50, true, 3L, FieldDistributions.UNIFORM)),
+                        objectMapper.writeValueAsString(before));
+            }
+            if (event.getType().equals("status")) {
+                assertTrue(after.getStatus().equals("cancelled")
+                        || lifecycle.indexOf(after.getStatus()) == lifecycle.indexOf(before.getStatus()) + 1,
+                        before.getStatus() + " -> " + after.getStatus());
+            }
+            assertTrue(after.getUpdatedAt().isAfter(before.getUpdatedAt()));
+        }
+        assertEquals(Set.of("insert", "status", "address", "delete"), types);
+    }
+
+    @Test
+    void pacedStreamsHoldTheTargetRate() {
+        long start = System.nanoTime();
+        List<ChangeEvent<Object>> events = service.mutations(MutationStreamService.USERS, 1000, 3L,
+                FieldDistributions.UNIFORM, MutationMix.USERS, KeyDistribution.UNIFORM, 400, 200)
+                .collectList().block();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(200, events.size());
+        assertTrue(seconds >= 0.45 && seconds < 2, "took " + seconds + "s");
+        assertThrows(IllegalArgumentException.class, () -> service.mutations(MutationStreamService.USERS, 1000, 3L,
+                FieldDistributions.UNIFORM, MutationMix.ORDERS, KeyDistribution.UNIFORM, 0, 10));
+    }
+}
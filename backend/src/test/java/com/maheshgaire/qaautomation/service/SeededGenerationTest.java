@@ -0,0 +1,263 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.maheshgaire.qaautomation.generation.FieldProjection;
+import com.maheshgaire.qaautomation.generation.Shard;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.generation.distribution.FieldDistributions;
+import com.maheshgaire.qaautomation.generation.unique.UniqueFields;
+import com.maheshgaire.qaautomation.model.TestData;
+import com.maheshgaire.qaautomation.model.enhanced.DatasetPage;
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.model.enhanced.OrderItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeededGenerationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void sameSeedProducesIdenticalEnhancedOutput() throws Exception {
+        EnhancedTestDataService first = enhancedService(1);
+        EnhancedTestDataService second = enhancedService(4);
+
+        assertEquals(
+                objectMapper.writeValueAsString(first.generateUsersWithOrders(20, 1, 3, 42L)),
+                objectMapper.writeValueAsString(second.generateUsersWithOrders(20, 1, 3, 42L)));
+        assertEquals(
+                objectMapper.writeValueAsString(first.generateEnhancedOrders(20, true, 7L)),
+                objectMapper.writeValueAsString(second.generateEnhancedOrders(20, true, 7L)));
+        assertNotEquals(
+                objectMapper.writeValueAsString(first.generateEnhancedUsers(5, false, 1L)),
+                objectMapper.writeValueAsString(first.generateEnhancedUsers(5, false, 2L)));
+    }
+
+    @Test
+    void parallelOutputMatchesSequentialOutput() throws Exception {
+        EnhancedTestDataService sequential = enhancedService(1);
+        EnhancedTestDataService parallel = enhancedService(8);
+
+        assertEquals(
+                objectMapper.writeValueAsString(sequential.generateUsersWithOrders(2000, 0, 4, 5L)),
+                objectMapper.writeValueAsString(parallel.generateUsersWithOrders(2000, 0, 4, 5L)));
+    }
+
+    @Test
+    void negativeCountsGenerateNothing() {
+        EnhancedTestDataService service = enhancedService(4);
+
+        assertEquals(List.of(), service.generateEnhancedUsers(-1, false, 1L));
+        assertEquals(List.of(), service.generateUsersWithOrders(-5, 0, 4, 1L));
+        assertEquals(List.of(), service.generateEnhancedOrders(-1000, true, 1L));
+    }
+
+    @Test
+    void streamedOutputMatchesListOutput() throws Exception {
+        EnhancedTestDataService service = enhancedService(4);
+
+        assertEquals(
+                objectMapper.writeValueAsString(service.generateEnhancedOrders(1500, true, 11L)),
+                objectMapper.writeValueAsString(service.streamEnhancedOrders(1500, true, 11L).collectList().block()));
+    }
+
+    @Test
+    void uniqueFieldsNeverRepeatAndResumeFromAnOffset() throws Exception {
+        EnhancedTestDataService service = enhancedService(4);
+        UniqueFields unique = UniqueFields.parse("true");
+
+        List<EnhancedUser> users = service.streamUsersWithOrders(0, 3000, 1, 3, 8L,
+                FieldDistributions.UNIFORM, unique).collectList().block();
+        Set<String> emails = new HashSet<>();
+        Set<String> skus = new HashSet<>();
+        Set<String> productIds = new HashSet<>();
+        int items = 0;
+        for (EnhancedUser user : users) {
+            assertTrue(emails.add(user.getEmail()), user.getEmail());
+            for (OrderItem item : user.getOrders().stream().flatMap(order -> order.getItems().stream()).toList()) {
+                assertTrue(skus.add(item.getSku()), item.getSku());
+                assertTrue(productIds.add(item.getProductId()), item.getProductId());
+                items++;
+            }
+        }
+        assertTrue(items > 3000);
+
+        assertEquals(
+                objectMapper.writeValueAsString(users.subList(2000, 3000)),
+                objectMapper.writeValueAsString(service.streamUsersWithOrders(2000, 1000, 1, 3, 8L,
+                        FieldDistributions.UNIFORM, unique).collectList().block()));
+    }
+
+    @Test
+    void shardsConcatenateToTheUnshardedOutput() throws Exception {
+        EnhancedTestDataService service = enhancedService(4);
+        FieldDistributions distributions = FieldDistributions.parse("user_id:zipf,category:hotspot");
+        UniqueFields unique = UniqueFields.parse("sku");
+        TestDataService testDataService = TestServices.testDataService(IdGenerators.snowflake(), objectMapper);
+
+        List<Order> orders = new ArrayList<>();
+        List<TestData> records = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            Shard shard = new Shard(index, 3);
+            orders.addAll(service.streamEnhancedOrders(shard, 1000, true, 21L, distributions, unique,
+                    FieldProjection.ALL).collectList().block());
+            records.addAll(testDataService.generateTestData("order", shard, 1000, Duration.ZERO, 21L,
+                    FieldProjection.ALL).collectList().block());
+        }
+
+        assertEquals(
+                objectMapper.writeValueAsString(service.streamEnhancedOrders(Shard.ALL, 1000, true, 21L,
+                        distributions, unique, FieldProjection.ALL).collectList().block()),
+                objectMapper.writeValueAsString(orders));
+        assertEquals(
+                objectMapper.writeValueAsString(testDataService.generateTestData("order", 1000, Duration.ZERO, 21L)
+                        .collectList().block()),
+                objectMapper.writeValueAsString(records));
+        assertEquals(333, new Shard(0, 3).size(1000));
+        assertEquals(Long.MAX_VALUE, new Shard(6, 7).to(Long.MAX_VALUE));
+    }
+
+    @Test
+    void randomAccessMatchesTheStreamedDataset() throws Exception {
+        EnhancedTestDataService service = enhancedService(4);
+        FieldDistributions distributions = FieldDistributions.parse("user_id:zipf,product_id:hotspot");
+        List<Order> orders = service.streamEnhancedOrders(Shard.ALL, 600, true, 5L, distributions, UniqueFields.NONE,
+                FieldProjection.ALL).collectList().block();
+        List<EnhancedUser> users = service.streamEnhancedUsers(600, true, 5L).collectList().block();
+
+        DatasetPage<Order> page = service.enhancedOrderPage(550, 100, 600, true, 5L, distributions).block();
+        assertEquals(objectMapper.writeValueAsString(orders.subList(550, 600)),
+                objectMapper.writeValueAsString(page.getItems()));
+        assertNull(page.getNextOffset());
+        assertEquals(objectMapper.writeValueAsString(orders.get(123)),
+                objectMapper.writeValueAsString(service.enhancedOrderAt(123, 600, true, 5L, distributions)));
+        assertEquals(objectMapper.writeValueAsString(users.get(599)),
+                objectMapper.writeValueAsString(service.enhancedUserAt(599, true, 5L, FieldDistributions.UNIFORM)));
+
+        long total = 1_000_000_000L;
+        DatasetPage<EnhancedUser> last = service.enhancedUserPage(total - 10, 20, total, false, 5L,
+                FieldDistributions.UNIFORM).block();
+        assertEquals(10, last.getItems().size());
+        assertEquals(objectMapper.writeValueAsString(service.enhancedUserAt(total - 1, false, 5L,
+                        FieldDistributions.UNIFORM)),
+                objectMapper.writeValueAsString(last.getItems().get(9)));
+        assertEquals(total - 15, service.enhancedUserPage(total - 20, 5, total, false, 5L,
+                FieldDistributions.UNIFORM).block().getNextOffset());
+    }
+
+    @Test
+    void projectedFieldsKeepTheFullRecordValues() throws Exception {
+        EnhancedTestDataService service = enhancedService(4);
+        List<EnhancedUser> full = service.streamUsersWithOrders(Shard.ALL, 50, 1, 3, 9L, FieldDistributions.UNIFORM,
+                UniqueFields.NONE, FieldProjection.ALL).collectList().block();
+        FieldProjection fields = EnhancedTestDataService.checkUserFields(
+                FieldProjection.parse("userId, email, orders.status, orders.totalAmount"));
+        List<EnhancedUser> projected = service.streamUsersWithOrders(Shard.ALL, 50, 1, 3, 9L,
+                FieldDistributions.UNIFORM, UniqueFields.parse("email"), fields).collectList().block();
+
+        for (int i = 0; i < full.size(); i++) {
+            EnhancedUser user = projected.get(i);
+            assertEquals(full.get(i).getUserId(), user.getUserId());
+            assertEquals(full.get(i).getEmail(), user.getEmail());
+            assertNull(user.getFirstName());
+            assertNull(user.getCreatedAt());
+            assertEquals(full.get(i).getOrders().size(), user.getOrders().size());
+            for (int j = 0; j < user.getOrders().size(); j++) {
+                Order order = user.getOrders().get(j);
+                assertEquals(full.get(i).getOrders().get(j).getStatus(), order.getStatus());
+                assertEquals(full.get(i).getOrders().get(j).getTotalAmount(), order.getTotalAmount());
+                assertNull(order.getOrderId());
+                assertNull(order.getItems());
+            }
+        }
+
+        List<Order> orders = service.streamEnhancedOrders(Shard.ALL, 20, true, 9L, FieldDistributions.UNIFORM,
+                UniqueFields.NONE, FieldProjection.ALL).collectList().block();
+        List<Order> items = service.streamEnhancedOrders(Shard.ALL, 20, true, 9L, FieldDistributions.UNIFORM,
+                UniqueFields.NONE, FieldProjection.parse("currency,items")).collectList().block();
+        for (int i = 0; i < orders.size(); i++) {
+            assertEquals(orders.get(i).getCurrency(), items.get(i).getCurrency());
+            assertEquals(objectMapper.writeValueAsString(orders.get(i).getItems()),
+                    objectMapper.writeValueAsString(items.get(i).getItems()));
+            assertNull(items.get(i).getPaymentInfo());
+            assertNull(items.get(i).getUpdatedAt());
+        }
+
+        TestDataService testDataService = TestServices.testDataService(IdGenerators.ulid(), objectMapper);
+        List<TestData> records = testDataService.generateTestData("user", 30, Duration.ZERO, 4L)
+                .collectList().block();
+        List<TestData> emails = testDataService.generateTestData("user", Shard.ALL, 30, Duration.ZERO, 4L,
+                FieldProjection.parse("email")).collectList().block();
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(Map.of("email", records.get(i).getData().get("email")), emails.get(i).getData());
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> EnhancedTestDataService.checkUserFields(FieldProjection.parse("email,phone")));
+        assertThrows(IllegalArgumentException.class,
+                () -> EnhancedTestDataService.checkOrderFields(FieldProjection.parse("items.sku")));
+    }
+
+    @Test
+    void sameSeedProducesIdenticalTestData() throws Exception {
+        TestDataService service = TestServices.testDataService(IdGenerators.ulid(), objectMapper);
+
+        for (String type : new String[]{"user", "product", "order", "address", "payment"}) {
+            assertEquals(
+                    objectMapper.writeValueAsString(service.generateTestData(type, 50, Duration.ZERO, 99L)
+                            .collectList().block()),
+                    objectMapper.writeValueAsString(service.generateTestData(type, 50, Duration.ZERO, 99L)
+                            .collectList().block()));
+        }
+    }
+
+    @Test
+    void testDataSerializesLikeItsMapAndTheNdjsonStream() throws Exception {
+        TestDataService service = TestServices.testDataService(IdGenerators.ulid(), objectMapper);
+
+        for (String type : new String[]{"user", "product", "order", "address", "payment"}) {
+            List<TestData> records = service.generateTestData(type, 300, Duration.ZERO, 8L).collectList().block();
+            DataBuffer ndjson = DataBufferUtils.join(service.streamTestData(type, 300, 8L, 64,
+                    DefaultDataBufferFactory.sharedInstance)).block();
+            String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+            DataBufferUtils.release(ndjson);
+
+            assertEquals(records.size(), lines.length);
+            for (int i = 0; i < records.size(); i++) {
+                TestData record = records.get(i);
+                JsonNode line = objectMapper.readTree(lines[i]);
+                String data = objectMapper.writeValueAsString(record.getData());
+                assertEquals(line.get("id").asText(), record.getId());
+                assertEquals(line.get("data").toString(), data);
+                assertEquals(objectMapper.writeValueAsString(new LinkedHashMap<>(record.getData())), data);
+            }
+        }
+    }
+
+    private static EnhancedTestDataService enhancedService(int parallelism) {
+        return TestServices.enhancedTestDataService(parallelism);
+    }
+}
@@ -0,0 +1,34 @@
+package com.maheshgaire.qaautomation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maheshgaire.qaautomation.generation.DictionarySnapshot;
+import com.maheshgaire.qaautomation.generation.ParallelGenerator;
+import com.maheshgaire.qaautomation.generation.id.IdGenerator;
+import com.maheshgaire.qaautomation.generation.id.IdGenerators;
+import com.maheshgaire.qaautomation.generation.plan.RecordPlanRegistry;
+
+/**
+ * Generation services wired by hand for tests that run without a Spring context
+ */
+public final class TestServices {
+
+    // Built once; every service reads the same snapshot
+    private static final DictionarySnapshot DICTIONARY = new DictionarySnapshot();
+
+    private TestServices() {
+    }
+
+    /**
+     * Enhanced generation with UUIDv7 IDs on a pool of the given parallelism
+     */
+    public static EnhancedTestDataService enhancedTestDataService(int parallelism) {
+        return new EnhancedTestDataService(IdGenerators.uuidV7(), new ParallelGenerator(parallelism), DICTIONARY);
+    }
+
+    /**
+     * Template generation with the built-in templates only
+     */
+    public static TestDataService testDataService(IdGenerator idGenerator, ObjectMapper objectMapper) {
+        return new TestDataService(new RecordPlanRegistry(), objectMapper, idGenerator);
+    }
+}
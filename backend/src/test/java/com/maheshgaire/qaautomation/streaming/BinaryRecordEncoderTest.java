@@ -0,0 +1,111 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.UnknownFieldSet;
+import com.maheshgaire.qaautomation.model.Money;
+import com.maheshgaire.qaautomation.model.enhanced.EnhancedUser;
+import com.maheshgaire.qaautomation.model.enhanced.Order;
+import com.maheshgaire.qaautomation.serialization.EnhancedModelModule;
+import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import com.maheshgaire.qaautomation.service.TestServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryRecordEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new EnhancedModelModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final BinaryRecordEncoder encoder = new BinaryRecordEncoder(objectMapper);
+
+    @Test
+    void smileAndCborDecodeToTheJsonDocument() throws Exception {
+        List<EnhancedUser> users = service().generateUsersWithOrders(60, 0, 3, 8L);
+        byte[] json = objectMapper.writeValueAsBytes(users);
+
+        for (BinaryFormat format : List.of(BinaryFormat.SMILE, BinaryFormat.CBOR)) {
+            byte[] encoded = encode(Flux.fromIterable(users), format, 7);
+            ObjectMapper reader = objectMapper.copyWith(format == BinaryFormat.SMILE
+                    ? new SmileFactory() : new CBORFactory());
+            assertEquals(objectMapper.readTree(json), reader.readTree(encoded), format.getName());
+            if (format == BinaryFormat.SMILE) {
+                assertTrue(encoded.length < json.length * 2 / 3, encoded.length + " of " + json.length);
+            }
+        }
+        assertEquals(objectMapper.readTree("[]"), objectMapper.copyWith(new SmileFactory())
+                .readTree(encode(Flux.empty(), BinaryFormat.SMILE, 7)));
+    }
+
+    @Test
+    void protobufMessagesFollowTheSchema() throws Exception {
+        List<EnhancedUser> users = service().generateUsersWithOrders(20, 1, 3, 9L);
+        CodedInputStream input = CodedInputStream.newInstance(
+                encode(Flux.fromIterable(users), BinaryFormat.PROTOBUF, 6));
+
+        for (EnhancedUser user : users) {
+            int limit = input.pushLimit(input.readRawVarint32());
+            UnknownFieldSet message = UnknownFieldSet.newBuilder().mergeFrom(input).build();
+            input.popLimit(limit);
+
+            assertEquals(user.getUserId(), string(message, 1));
+            assertEquals(user.getEmail(), string(message, 4));
+            assertEquals(user.getAddress().getCity(), string(nested(message, 7, 0), 2));
+            assertEquals(user.getCreatedAt().toEpochSecond(ZoneOffset.UTC),
+                    nested(message, 10, 0).getField(1).getVarintList().get(0));
+            List<ByteString> orders = message.getField(9).getLengthDelimitedList();
+            assertEquals(user.getOrders().size(), orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = user.getOrders().get(i);
+                UnknownFieldSet encoded = UnknownFieldSet.parseFrom(orders.get(i));
+                UnknownFieldSet total = nested(encoded, 4, 0);
+                Money amount = order.getTotalAmountMoney();
+                assertEquals(order.getOrderId(), string(encoded, 1));
+                assertEquals(amount.getMinorUnits(),
+                        CodedInputStream.decodeZigZag64(total.getField(1).getVarintList().get(0)));
+                assertEquals(amount.getScale(), total.getField(2).getVarintList().get(0));
+                assertEquals(order.getItems().size(), encoded.getField(6).getLengthDelimitedList().size());
+            }
+        }
+        assertTrue(input.isAtEnd());
+    }
+
+    private byte[] encode(Flux<?> records, BinaryFormat format, int batchSize) {
+        DataBuffer joined = DataBufferUtils.join(encoder.encode(records, format,
+                DefaultDataBufferFactory.sharedInstance, batchSize)).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+
+    private static String string(UnknownFieldSet message, int field) {
+        return message.getField(field).getLengthDelimitedList().get(0).toStringUtf8();
+    }
+
+    private static UnknownFieldSet nested(UnknownFieldSet message, int field, int index) throws Exception {
+        return UnknownFieldSet.parseFrom(message.getField(field).getLengthDelimitedList().get(index));
+    }
+
+    private static EnhancedTestDataService service() {
+        return TestServices.enhancedTestDataService(2);
+    }
+}
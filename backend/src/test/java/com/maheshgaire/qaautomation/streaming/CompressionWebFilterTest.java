@@ -0,0 +1,88 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.github.luben.zstd.ZstdInputStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionWebFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CompressionWebFilter filter = new CompressionWebFilter(true,
+            List.of("/api/v2/testdata/**"), 2048, 6, 3, meterRegistry);
+
+    @Test
+    void chunkedResponsesDecompressToTheOriginalBody() throws Exception {
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            chunks.add("{\"index\":" + i + ",\"status\":\"confirmed\",\"currency\":\"USD\"}\n");
+        }
+        byte[] body = String.join("", chunks).getBytes(StandardCharsets.UTF_8);
+
+        for (String encoding : List.of("gzip", "zstd")) {
+            MockServerWebExchange exchange = exchange("gzip;q=0.8, " + encoding);
+            write(exchange, chunks);
+
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            assertEquals(encoding, headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), headers.get(HttpHeaders.VARY));
+            byte[] compressed = body(exchange);
+            assertTrue(compressed.length < body.length / 4, compressed.length + " of " + body.length);
+            try (InputStream in = encoding.equals("gzip")
+                    ? new GZIPInputStream(new ByteArrayInputStream(compressed))
+                    : new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+                assertArrayEquals(body, in.readAllBytes(), encoding);
+            }
+            assertEquals(1, meterRegistry.get("testdata.compression.ratio").tag("encoding", encoding)
+                    .summary().count());
+        }
+    }
+
+    @Test
+    void smallResponsesAreSentAsIs() {
+        MockServerWebExchange exchange = exchange("zstd, gzip");
+        write(exchange, List.of("{\"status\":\"ok\"}"));
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("{\"status\":\"ok\"}", exchange.getResponse().getBodyAsString().block());
+        assertTrue(meterRegistry.find("testdata.compression.ratio").summaries().isEmpty());
+    }
+
+    private static MockServerWebExchange exchange(String acceptEncoding) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v2/testdata/orders")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+    }
+
+    private static byte[] body(MockServerWebExchange exchange) {
+        DataBuffer joined = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+
+    private void write(MockServerWebExchange exchange, List<String> chunks) {
+        filter.filter(exchange, filtered -> filtered.getResponse().writeWith(Flux.fromIterable(chunks)
+                .map(chunk -> (DataBuffer) DefaultDataBufferFactory.sharedInstance
+                        .wrap(chunk.getBytes(StandardCharsets.UTF_8))))).block();
+    }
+}
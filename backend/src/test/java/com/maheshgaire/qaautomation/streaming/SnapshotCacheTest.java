@@ -0,0 +1,72 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SnapshotCacheTest {
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void servesRepeatedRequestsFromTheSnapshot() {
+        SnapshotCache cache = new SnapshotCache(true, directory, 1 << 20, 1 << 20, new ObjectMapper());
+        AtomicInteger generated = new AtomicInteger();
+
+        String first = read(cache.stream("k", () -> source(generated, "a", "b", "c"), bufferFactory));
+        String second = read(cache.stream("k", () -> source(generated, "x"), bufferFactory));
+
+        assertEquals("abc", first);
+        assertEquals("abc", second);
+        assertEquals(1, generated.get());
+        assertEquals(1L, cache.stats().get("hits"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesOverBudget() {
+        SnapshotCache cache = new SnapshotCache(true, directory, 300, 300, new ObjectMapper());
+        AtomicInteger generated = new AtomicInteger();
+        String payload = "x".repeat(100);
+
+        read(cache.stream("a", () -> source(generated, payload), bufferFactory));
+        read(cache.stream("b", () -> source(generated, payload), bufferFactory));
+        read(cache.stream("a", () -> source(generated, payload), bufferFactory));
+        read(cache.stream("c", () -> source(generated, payload), bufferFactory));
+        read(cache.stream("d", () -> source(generated, payload), bufferFactory));
+        assertEquals(4, generated.get());
+
+        read(cache.stream("a", () -> source(generated, payload), bufferFactory));
+        assertEquals(4, generated.get());
+        read(cache.stream("b", () -> source(generated, payload), bufferFactory));
+        assertEquals(5, generated.get());
+    }
+
+    private Flux<DataBuffer> source(AtomicInteger generated, String... chunks) {
+        return Flux.defer(() -> {
+            generated.incrementAndGet();
+            return Flux.fromArray(chunks).map(chunk -> bufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    private static String read(Flux<DataBuffer> buffers) {
+        return buffers.map(buffer -> {
+            String text = buffer.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(buffer);
+            return text;
+        }).collect(StringBuilder::new, StringBuilder::append).block().toString();
+    }
+}
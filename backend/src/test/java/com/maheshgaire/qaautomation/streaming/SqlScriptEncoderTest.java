@@ -0,0 +1,89 @@
+package com.maheshgaire.qaautomation.streaming;
+
+import com.maheshgaire.qaautomation.generation.relational.RelationalTable;
+import com.maheshgaire.qaautomation.model.Money;
+import com.maheshgaire.qaautomation.service.EnhancedTestDataService;
+import com.maheshgaire.qaautomation.service.TestServices;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlScriptEncoderTest {
+
+    private final SqlScriptEncoder encoder = new SqlScriptEncoder();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void insertScriptLoadsIntoADatabase() throws Exception {
+        EnhancedTestDataService service = TestServices.enhancedTestDataService(2);
+
+        Path script = directory.resolve("users.sql");
+        Files.writeString(script, encode(encoder.encodeEntities(service.streamUsersWithOrders(300, 2, 2, 42L),
+                SqlFormat.INSERT, DefaultDataBufferFactory.sharedInstance, 64)));
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:sql-script-test", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM '" + script + "' CHARSET 'UTF-8'");
+            assertEquals(300L, count(statement, "SELECT COUNT(*) FROM users"));
+            assertEquals(600L, count(statement, "SELECT COUNT(*) FROM orders"));
+            assertEquals(0L, count(statement, "SELECT COUNT(*) FROM orders o WHERE o.total_amount <> "
+                    + "(SELECT SUM(i.total_price) FROM order_items i WHERE i.order_id = o.order_id)"));
+        }
+    }
+
+    @Test
+    void escapesValuesForInsertAndCopy() {
+        Flux<Object[]> rows = Flux.just(
+                new Object[] {1L, "O'Brien\tcafé", "a\\b\nc", null, Money.ofMinor(-1050, "USD")},
+                new Object[] {2L, "plain", "snow ☃ 😀", "Toys", Money.ofMinor(5, "USD")});
+
+        assertEquals("""
+                CREATE TABLE IF NOT EXISTS products (product_id BIGINT, name VARCHAR(255), sku VARCHAR(40), \
+                category VARCHAR(40), unit_price DECIMAL(14,2), PRIMARY KEY (product_id));
+                INSERT INTO products (product_id, name, sku, category, unit_price) VALUES
+                (1, 'O''Brien\tcafé', 'a\\b
+                c', NULL, -10.50),
+                (2, 'plain', 'snow ☃ 😀', 'Toys', 0.05);
+                """, encode(encoder.encodeRows(RelationalTable.PRODUCTS, rows, SqlFormat.INSERT,
+                DefaultDataBufferFactory.sharedInstance, 10)));
+
+        assertEquals("""
+                CREATE TABLE IF NOT EXISTS products (product_id BIGINT, name VARCHAR(255), sku VARCHAR(40), \
+                category VARCHAR(40), unit_price DECIMAL(14,2), PRIMARY KEY (product_id));
+                COPY products (product_id, name, sku, category, unit_price) FROM stdin;
+                1\tO'Brien\\tcafé\ta\\\\b\\nc\t\\N\t-10.50
+                2\tplain\tsnow ☃ 😀\tToys\t0.05
+                \\.
+                """, encode(encoder.encodeRows(RelationalTable.PRODUCTS, rows, SqlFormat.COPY,
+                DefaultDataBufferFactory.sharedInstance, 1)));
+    }
+
+    private static String encode(Flux<DataBuffer> buffers) {
+        DataBuffer joined = DataBufferUtils.join(buffers).block();
+        String text = joined.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(joined);
+        return text;
+    }
+
+    private static long count(Statement statement, String sql) throws Exception {
+        try (ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}